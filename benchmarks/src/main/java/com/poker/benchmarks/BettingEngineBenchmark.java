@@ -0,0 +1,47 @@
+package com.poker.benchmarks;
+
+import com.poker.engine.BettingEngine;
+import com.poker.engine.RobotStrategy;
+import com.poker.engine.Strategy;
+import com.poker.engine.TableState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures hands of robots played by the BettingEngine on a TableState, to compare with the headless hands of
+ * GameTableBenchmark. The robots play the same way in both.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BettingEngineBenchmark {
+    private static final int STARTING_CHIPS = 1000;
+    private static final int NUM_HANDS = 1000;
+
+    @Param({"2", "6", "9"})
+    public int numPlayers;
+
+    private BettingEngine engine;
+
+    @Setup
+    public void setUp() {
+        TableState state = new TableState(numPlayers, 10, 20);
+        Strategy[] strategies = new Strategy[numPlayers];
+        for (int seat = 0; seat < numPlayers; seat++) {
+            state.setChips(seat, STARTING_CHIPS);
+            strategies[seat] = new RobotStrategy();
+        }
+        engine = new BettingEngine(state, strategies);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_HANDS)
+    public TableState hands() {
+        engine.simulate(NUM_HANDS, STARTING_CHIPS);
+        return engine.getState();
+    }
+}
@@ -0,0 +1,53 @@
+package com.poker.benchmarks;
+
+import com.poker.Card;
+import com.poker.Deck;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures shuffling the deck, shuffling it then dealing a full 9 handed hand (2 hole cards each, 3 burn cards and 5
+ * table cards), and dealing the 9 cards of a heads up rollout.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark {
+    private static final int CARDS_PER_HAND = (9 * 2) + 3 + 5;
+    private static final int CARDS_PER_ROLLOUT = (2 * 2) + 5;
+
+    private Deck deck;
+
+    @Setup
+    public void setUp() {
+        deck = new Deck();
+    }
+
+    @Benchmark
+    public Deck shuffle() {
+        deck.shuffle();
+        return deck;
+    }
+
+    @Benchmark
+    public void shuffleAndDeal(Blackhole blackhole) {
+        deck.shuffle();
+        for (int i = 0; i < CARDS_PER_HAND; i++) {
+            Card card = deck.deal();
+            blackhole.consume(card);
+        }
+    }
+
+    @Benchmark
+    public void shuffleAndDealRollout(Blackhole blackhole) {
+        deck.shuffle();
+        for (int i = 0; i < CARDS_PER_ROLLOUT; i++) {
+            blackhole.consume(deck.deal());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.poker.benchmarks;
+
+import com.poker.GameTable;
+import com.poker.events.ConsoleGameListener;
+import com.poker.player.Player;
+import com.poker.player.RobotPlayer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures whole tournaments of robot players, from the first hand until one player has all the chips. The table
+ * reports everything it does to a ConsoleGameListener writing to System.out, which is pointed at a stream that throws
+ * the output away while the benchmark runs. The formatting of that output is still part of what is measured.
+ *
+ * Also measures hands played at a table with no listeners, where nothing is formatted or printed at all.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameTableBenchmark {
+    private static final int STARTING_CHIPS = 1000;
+    private static final int NUM_HEADLESS_HANDS = 1000;
+
+    @Param({"2", "6", "9"})
+    public int numPlayers;
+
+    private PrintStream console;
+
+    @Setup
+    public void setUp() {
+        console = System.out;
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        }));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(console);
+    }
+
+    @Benchmark
+    public GameTable tournament() {
+        List<Player> players = new ArrayList<Player>();
+        for (int i = 0; i < numPlayers; i++) {
+            players.add(new RobotPlayer(STARTING_CHIPS, "Robot #" + (i + 1)));
+        }
+        GameTable table = new GameTable(players, 10, 20);
+        table.addListener(new ConsoleGameListener(players));
+        table.run();
+        return table;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_HEADLESS_HANDS)
+    public GameTable headlessHands() {
+        List<Player> players = new ArrayList<Player>();
+        for (int i = 0; i < numPlayers; i++) {
+            players.add(new RobotPlayer(STARTING_CHIPS, "Robot #" + (i + 1)));
+        }
+        GameTable table = new GameTable(players, 10, 20);
+        table.simulate(NUM_HEADLESS_HANDS, STARTING_CHIPS);
+        return table;
+    }
+}
@@ -0,0 +1,84 @@
+package com.poker.benchmarks;
+
+import com.poker.Card;
+import com.poker.CardSet;
+import com.poker.hands.CascadingHandEvaluator;
+import com.poker.hands.Hand;
+import com.poker.hands.HandEvaluator;
+import com.poker.hands.HandResult;
+import com.poker.hands.LookupHandEvaluator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Hand.evaluate() on 7 card hands of a single hand category at a time, with the default (lookup) evaluator
+ * and with the cascading evaluator it replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandEvaluatorBenchmark {
+    private static final int NUM_HANDS = 256;
+
+    @Param({"HIGH_CARD", "ONE_PAIR", "TWO_PAIR", "THREE_OF_A_KIND", "STRAIGHT", "FLUSH", "FULL_HOUSE",
+            "FOUR_OF_A_KIND", "STRAIGHT_FLUSH", "ROYAL_FLUSH"})
+    public HandResult category;
+
+    private final Hand[] hands = new Hand[NUM_HANDS];
+    private final HandEvaluator cascading = new CascadingHandEvaluator();
+
+    @Setup
+    public void setUp() {
+        // Deal random hands and keep the ones in the category we're measuring.
+        SplittableRandom random = new SplittableRandom(category.ordinal());
+        int[] deck = new int[Card.NUM_CARDS];
+        for (int i = 0; i < deck.length; i++) {
+            deck[i] = i;
+        }
+
+        int numHands = 0;
+        while (numHands < NUM_HANDS) {
+            long cards = dealHand(deck, random);
+            if (HandEvaluator.handResult(LookupHandEvaluator.handRank(cards)) == category) {
+                hands[numHands++] = new Hand(new CardSet(cards));
+            }
+        }
+    }
+
+    private static long dealHand(int[] deck, SplittableRandom random) {
+        long cards = 0L;
+        for (int i = 0; i < 7; i++) {
+            int swap = i + random.nextInt(deck.length - i);
+            int card = deck[swap];
+            deck[swap] = deck[i];
+            deck[i] = card;
+            cards |= 1L << card;
+        }
+        return cards;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_HANDS)
+    public int lookup() {
+        int checksum = 0;
+        for (Hand hand : hands) {
+            checksum += hand.evaluate();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_HANDS)
+    public int cascading() {
+        int checksum = 0;
+        for (Hand hand : hands) {
+            checksum += hand.evaluate(cascading);
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,85 @@
+package com.poker.benchmarks;
+
+import com.poker.Card;
+import com.poker.actions.ActionEnum;
+import com.poker.actions.EncodedAction;
+import com.poker.player.Player;
+import com.poker.player.RobotPlayer;
+import com.poker.pots.PotManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a preflop betting round where every player is all in for a different amount, ending with
+ * PotManager.closePotBetting() splitting the chips into a main pot and one side pot per extra all in. Like GameTable,
+ * it keeps one PotManager for the table, resets it for each hand, and goes through the seats and encoded actions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PotManagerBenchmark {
+    private static final int SMALL_BLIND = 10;
+    private static final int BIG_BLIND = 20;
+    private static final int STACK_STEP = 200;
+
+    @Param({"3", "6", "9"})
+    public int numPlayers;
+
+    private Player[] players;
+    private PotManager potManager;
+
+    @Setup
+    public void setUp() {
+        players = new Player[numPlayers];
+        List<Player> seats = new ArrayList<Player>();
+        for (int i = 0; i < numPlayers; i++) {
+            players[i] = new RobotPlayer(stack(i), "Robot #" + (i + 1));
+            seats.add(players[i]);
+        }
+        potManager = new PotManager(SMALL_BLIND, BIG_BLIND, seats);
+    }
+
+    private static int stack(int seat) {
+        return STACK_STEP * (seat + 1);
+    }
+
+    @Benchmark
+    public PotManager allInRoundAndClose() {
+        // Give everyone back their stack, and a (fake) hand so they count as in the hand.
+        for (int i = 0; i < numPlayers; i++) {
+            Player player = players[i];
+            player.clearHand();
+            player.incrementCash(stack(i) - player.getNumChips());
+            player.setCard(Card.of(2 * i), 0);
+            player.setCard(Card.of((2 * i) + 1), 1);
+        }
+
+        potManager.reset();
+        long smallBlind = players[0].postBlind(ActionEnum.SMALL_BLIND, SMALL_BLIND);
+        potManager.postSmallBlind(0, EncodedAction.getAmount(smallBlind));
+        long bigBlind = players[1].postBlind(ActionEnum.BIG_BLIND, BIG_BLIND);
+        potManager.postBigBlind(1, EncodedAction.getAmount(bigBlind));
+
+        // The biggest stack shoves, and everyone else calls all in for less.
+        int raiserSeat = numPlayers - 1;
+        Player raiser = players[raiserSeat];
+        int raiseAmount = raiser.getNumChips();
+        raiser.processAction(EncodedAction.encode(ActionEnum.RAISE, raiseAmount), potManager.getLastBet());
+        potManager.addRaise(raiserSeat, raiseAmount);
+        for (int seat = 0; seat < numPlayers - 1; seat++) {
+            Player caller = players[seat];
+            int callAmount = caller.getNumChips();
+            caller.processAction(EncodedAction.encode(ActionEnum.CALL, callAmount), potManager.getLastBet());
+            potManager.addCall(seat, callAmount);
+        }
+
+        potManager.closePotBetting();
+        return potManager;
+    }
+}
@@ -1,25 +1,65 @@
 package com.poker;
 
-import java.util.Comparator;
-
 /**
  * Created by atul on 2/24/15.
  * The Card class defines the layout of a Card. It includes a CardRank, an enum of the different card values,
  * and a CardSuit an enum of the different suits of cards.
+ *
+ * There are only 52 different cards, so we create each of them once up front and hand out the same instance every
+ * time. Cards are retrieved with Card.of() rather than constructed, which means two cards are equal only if they are
+ * the same object.
  */
 public class Card implements Comparable<Card>{
 
-    private RankEnum rank;
-    private SuitEnum suit;
+    public static final int NUM_CARDS = 52;
+
+    // Indexed by ordinal (rank value * number of suits + suit value).
+    private static final Card[] CARDS = new Card[NUM_CARDS];
+
+    static {
+        for (RankEnum rank : RankEnum.values()) {
+            for (SuitEnum suit : SuitEnum.values()) {
+                Card card = new Card(rank, suit);
+                CARDS[card.ordinal] = card;
+            }
+        }
+    }
+
+    private final RankEnum rank;
+    private final SuitEnum suit;
+
+    // Unique index of the card from 0 (2d) to 51 (As). Precomputed so comparing and hashing don't go through the enums.
+    private final int ordinal;
 
     /**
      *
      * @param rank: rankEnum
      * @param suit: suitEnum
      */
-    public Card(RankEnum rank, SuitEnum suit) {
+    private Card(RankEnum rank, SuitEnum suit) {
         this.rank = rank;
         this.suit = suit;
+        this.ordinal = (rank.getValue() * SuitEnum.numSuits()) + suit.getValue();
+    }
+
+    /**
+     * @param rank: rankEnum
+     * @param suit: suitEnum
+     * @return the Card with the given rank and suit.
+     */
+    public static Card of(RankEnum rank, SuitEnum suit) {
+        return CARDS[(rank.getValue() * SuitEnum.numSuits()) + suit.getValue()];
+    }
+
+    /**
+     * @param ordinal: int index of the card (rank value * number of suits + suit value).
+     * @return the Card with the given ordinal.
+     */
+    public static Card of(int ordinal) {
+        if ((ordinal < 0) || (ordinal >= NUM_CARDS)) {
+            throw new IllegalArgumentException("Card ordinal must be between 0 and " + (NUM_CARDS - 1));
+        }
+        return CARDS[ordinal];
     }
 
     public RankEnum getRank() {
@@ -42,23 +82,27 @@ public class Card implements Comparable<Card>{
         return suit.getValue();
     }
 
+    public int getOrdinal() {
+        return ordinal;
+    }
+
     @Override
     public int hashCode() {
-        return ((rankToInt() * SuitEnum.numSuits()) + suitToInt());
+        return ordinal;
     }
 
-
+    /**
+     * Cards sort from the highest to the lowest. Ordinals are between 0 and 51 so the subtraction can't overflow.
+     */
     @Override
     public int compareTo(Card card) {
-        int myHash = this.hashCode();
-        int otherHash = card.hashCode();
-
-        return  myHash < otherHash ? +1 : myHash > otherHash ? -1 : 0;
+        return card.ordinal - ordinal;
     }
 
     /** {@inheritDoc} */
     @Override
     public boolean equals(Object obj) {
-        return (obj instanceof Card) && (obj.hashCode() == hashCode());
+        // There is only ever one instance of each card.
+        return obj == this;
     }
 }
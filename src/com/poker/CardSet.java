@@ -0,0 +1,167 @@
+package com.poker;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A set of cards packed into the bits of a single long. Each card is given the bit at its index, which is numbered the
+ * same way Card.hashCode() numbers cards: (rank * numSuits) + suit. So the four cards of the lowest rank take bits
+ * 0 to 3 and the four aces take bits 48 to 51.
+ *
+ * Sets are immutable. Adding, removing, checking membership and combining sets are all a single bitwise operation on
+ * the long, and the size is a popcount. Code that can't afford to allocate a CardSet can work with the long directly
+ * through the static helpers (see bit() and suitMask()).
+ */
+public final class CardSet {
+
+    public static final CardSet EMPTY = new CardSet(0L);
+
+    private static final int NUM_SUITS = SuitEnum.numSuits();
+
+    public static final int NUM_CARDS = RankEnum.numRanks() * NUM_SUITS;
+
+    // Every set bit is the lowest bit of a rank's group of 4 bits.
+    private static final long LOWEST_SUIT_BITS = 0x1111111111111L;
+
+    private final long bits;
+
+    public CardSet(long bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Build a set out of the given cards.
+     * @param cards: Cards to add to the set.
+     * @return CardSet
+     */
+    public static CardSet of(Card... cards) {
+        long bits = 0L;
+        for (Card card : cards) {
+            bits |= bit(card);
+        }
+        return new CardSet(bits);
+    }
+
+    /**
+     * Build a set out of the given list of cards.
+     * @param cards: List of cards to add to the set.
+     * @return CardSet
+     */
+    public static CardSet of(List<Card> cards) {
+        long bits = 0L;
+        int numCards = cards.size();
+        for (int i = 0; i < numCards; i++) {
+            bits |= bit(cards.get(i));
+        }
+        return new CardSet(bits);
+    }
+
+    /**
+     * @param card: Card
+     * @return long with only the bit of the given card set.
+     */
+    public static long bit(Card card) {
+        return 1L << card.getOrdinal();
+    }
+
+    /**
+     * Pull the cards of one suit out of a packed set of cards, as a 13 bit mask where bit N is set if the card with
+     * rank value N is present. The bits of a suit are spaced 4 apart, so we fold them together in halves until they
+     * are next to each other.
+     * @param bits: packed set of cards.
+     * @param suit: int value of the suit.
+     * @return int rank mask
+     */
+    public static int suitMask(long bits, int suit) {
+        long mask = (bits >>> suit) & LOWEST_SUIT_BITS;
+        mask = (mask | (mask >>> 3)) & 0x0303030303030303L;
+        mask = (mask | (mask >>> 6)) & 0x000F000F000F000FL;
+        mask = (mask | (mask >>> 12)) & 0x000000FF000000FFL;
+        mask = (mask | (mask >>> 24)) & 0xFFFFL;
+        return (int) mask;
+    }
+
+    public long getBits() {
+        return bits;
+    }
+
+    public CardSet add(Card card) {
+        return new CardSet(bits | bit(card));
+    }
+
+    public CardSet remove(Card card) {
+        return new CardSet(bits & ~bit(card));
+    }
+
+    public boolean contains(Card card) {
+        return (bits & bit(card)) != 0;
+    }
+
+    public CardSet union(CardSet other) {
+        return new CardSet(bits | other.bits);
+    }
+
+    public CardSet intersect(CardSet other) {
+        return new CardSet(bits & other.bits);
+    }
+
+    public boolean containsAny(CardSet other) {
+        return (bits & other.bits) != 0;
+    }
+
+    /**
+     * @return int number of cards in the set.
+     */
+    public int size() {
+        return Long.bitCount(bits);
+    }
+
+    public boolean isEmpty() {
+        return bits == 0L;
+    }
+
+    /**
+     * @param suit: SuitEnum
+     * @return int mask of the ranks in this set that are of the given suit (bit N is the rank with value N).
+     */
+    public int suitMask(SuitEnum suit) {
+        return suitMask(bits, suit.getValue());
+    }
+
+    /**
+     * @return int mask of the ranks that show up in this set at least once, regardless of suit.
+     */
+    public int rankMask() {
+        return suitMask(bits | (bits >>> 1) | (bits >>> 2) | (bits >>> 3), 0);
+    }
+
+    /**
+     * Build the list of cards in this set. The cards are walked from the highest bit down, so the list comes back in
+     * the same order Collections.sort() would put it in (highest rank first).
+     * @return List of cards
+     */
+    public List<Card> toList() {
+        List<Card> cards = new ArrayList<Card>(size());
+        long remaining = bits;
+        while (remaining != 0) {
+            int index = 63 - Long.numberOfLeadingZeros(remaining);
+            cards.add(Card.of(index));
+            remaining &= ~(1L << index);
+        }
+        return cards;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bits);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return (obj instanceof CardSet) && (((CardSet) obj).bits == bits);
+    }
+
+    public String toString() {
+        return toList().toString();
+    }
+}
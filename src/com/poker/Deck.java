@@ -1,61 +1,166 @@
 package com.poker;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Random;
+import java.util.Arrays;
 
 /**
  * Created by atul on 2/24/15.
  * Representation of a deck of cards.
+ *
+ * The deck is shuffled lazily: shuffle() doesn't move any cards, instead each deal() swaps a random card from the
+ * part of the deck that hasn't been dealt yet into the next position (one step of a Fisher-Yates shuffle). A hand
+ * only pays for the cards it actually deals, e.g. 9 handed hold'em deals 26 of the 52 cards.
  */
 public class Deck {
 
-    // Use list instead of array for flexibility (no real performance impact).
-    private List<Card> cards;
+    private static final int NOT_IN_DECK = -1;
+
+    // Ordinals of the cards. Positions before indexForNextCard have been dealt, positions from indexForNextCard up to
+    // numCards are still to come, and positions from numCards on hold the cards that were removed.
+    private final int[] cards;
+    // positions[ordinal] is where the card is in cards, or NOT_IN_DECK if it was left out of the deck.
+    private final int[] positions;
+    private final int numCardsInDeck;
+    // The order of the cards in a new deck, for sort().
+    private final int[] newDeckOrder;
+    private int numCards;
     private int indexForNextCard;
+    // Cards before this position are already in their final place, the ones after it still have to be shuffled. A new
+    // deck isn't shuffled at all, so it deals the cards in order.
+    private int shuffledUpTo;
 
-    // This random num generator is used to retrieve the next card in the deck.
-    // It is not necessary to actually keep the cards in a certain order / even shuffle
-    // the cards, since we can randomly just retrieve a given index in the cards list.
-    private Random randNumGenerator;
+    // This random num generator is used to shuffle the cards.
+    private RandomSource randNumGenerator;
 
     public Deck() {
-        // Since
-        this.cards = new ArrayList<Card>();
+        this(CardSet.EMPTY);
+    }
+
+    /**
+     * Create a deck that is shuffled with the given random number generator, so the order of the cards can be
+     * reproduced by seeding it.
+     * @param randNumGenerator: RandomSource used to shuffle the deck.
+     */
+    public Deck(RandomSource randNumGenerator) {
+        this(CardSet.EMPTY, randNumGenerator);
+    }
+
+    /**
+     * Create a deck that leaves out the given cards. This is useful when some of the cards are already known (for
+     * example the hole cards of a player when running simulations), and should never be dealt again.
+     * @param excludedCards: CardSet of cards to leave out of the deck.
+     */
+    public Deck(CardSet excludedCards) {
+        this(excludedCards, new SplittableRandomSource());
+    }
 
-        // Go through our list of ranks. For each rank, create a card
+    /**
+     * Create a deck that leaves out the given cards and is shuffled with the given random number generator.
+     * @param excludedCards: CardSet of cards to leave out of the deck.
+     * @param randNumGenerator: RandomSource used to shuffle the deck.
+     */
+    public Deck(CardSet excludedCards, RandomSource randNumGenerator) {
+        this.cards = new int[Card.NUM_CARDS];
+        this.positions = new int[Card.NUM_CARDS];
+        Arrays.fill(positions, NOT_IN_DECK);
+
+        // Go through our list of ranks. For each rank, take the card
         // for every suit in our suit enum. Add each combination of
-        // rank + suit into our list of cards.
+        // rank + suit into our list of cards (unless it was excluded).
+        int size = 0;
         for (RankEnum rank : RankEnum.values()) {
             for (SuitEnum suit : SuitEnum.values()) {
-                cards.add(new Card(rank, suit));
+                Card card = Card.of(rank, suit);
+                if (!excludedCards.contains(card)) {
+                    cards[size] = card.getOrdinal();
+                    positions[card.getOrdinal()] = size;
+                    size++;
+                }
             }
         }
-        this.randNumGenerator = new Random();
+        this.numCardsInDeck = size;
+        this.newDeckOrder = Arrays.copyOf(cards, size);
+        this.numCards = size;
+        this.shuffledUpTo = size;
+        this.randNumGenerator = randNumGenerator;
         this.indexForNextCard = 0;
     }
 
     /**
-     * This function shuffles the order of the cards in our list of cards.
-     * Since we are also using a random number generator to retrieve a list
-     * of cards, this function isn't super necessary. However, given that
-     * the rng will be pseudo-random, we will add this here to try and increase
-     * the randomness.
+     * Shuffle the deck and start dealing from the top. The cards are actually shuffled as they are dealt (see deal()),
+     * so this doesn't cost anything.
      */
     public void shuffle() {
-        Collections.shuffle(this.cards);
         indexForNextCard = 0;
+        shuffledUpTo = 0;
     }
 
+    /**
+     * Start dealing from the top again, without shuffling: the same cards come out in the same order.
+     */
     public void reset() {
         indexForNextCard = 0;
     }
 
     public Card deal() {
-        if (indexForNextCard >= this.cards.size()) {
+        if (indexForNextCard >= numCards) {
             throw new IllegalArgumentException("No more cards to deal");
         }
-        return cards.get(indexForNextCard++);
+        if (indexForNextCard >= shuffledUpTo) {
+            swap(indexForNextCard, indexForNextCard + randNumGenerator.nextInt(numCards - indexForNextCard));
+            shuffledUpTo = indexForNextCard + 1;
+        }
+        return Card.of(cards[indexForNextCard++]);
+    }
+
+    /**
+     * Put every card back in the order of a new deck, including the ones taken out with remove(). Dealing from a
+     * sorted deck with a random source seeded the same way always deals the same cards, whatever was dealt before.
+     */
+    public void sort() {
+        for (int i = 0; i < numCardsInDeck; i++) {
+            cards[i] = newDeckOrder[i];
+            positions[cards[i]] = i;
+        }
+        numCards = numCardsInDeck;
+        indexForNextCard = 0;
+        shuffledUpTo = numCards;
+    }
+
+    /**
+     * Take a card that is known to be dead (e.g. it is in a player's hand when running simulations) out of the deck.
+     * It stays out through shuffles, until restore() is called. This is done by swapping it with the last card in
+     * the deck, so it takes constant time.
+     * @param card: Card that hasn't been dealt yet.
+     */
+    public void remove(Card card) {
+        int position = positions[card.getOrdinal()];
+        if ((position < indexForNextCard) || (position >= numCards)) {
+            throw new IllegalArgumentException(card + " is not left in the deck.");
+        }
+        numCards--;
+        swap(position, numCards);
+        shuffledUpTo = Math.min(shuffledUpTo, numCards);
+    }
+
+    /**
+     * Put every card taken out with remove() back in the deck. Call shuffle() afterwards to shuffle them in.
+     */
+    public void restore() {
+        numCards = numCardsInDeck;
+    }
+
+    /**
+     * @return int number of cards that can still be dealt.
+     */
+    public int getNumCardsLeft() {
+        return numCards - indexForNextCard;
+    }
+
+    private void swap(int i, int j) {
+        int card = cards[i];
+        cards[i] = cards[j];
+        cards[j] = card;
+        positions[cards[i]] = i;
+        positions[card] = j;
     }
 }
@@ -2,10 +2,15 @@ package com.poker;
 
 import com.poker.actions.Action;
 import com.poker.actions.ActionEnum;
+import com.poker.actions.EncodedAction;
+import com.poker.actions.LegalActions;
+import com.poker.events.*;
+import com.poker.hands.BoardState;
+import com.poker.hands.HandEvaluator;
 
-import java.util.Random;
 
 import com.poker.player.Player;
+import com.poker.pots.Pot;
 import com.poker.pots.PotManager;
 import com.poker.pots.PotWinner;
 
@@ -18,22 +23,56 @@ import java.util.*;
  * there is only one player left (Tournament style).
  */
 public class GameTable {
+    // As many players as the deck can deal two hole cards to, after the board and burn cards.
+    public static final int MAX_PLAYERS = (Card.NUM_CARDS - numBoardAndBurnCards()) / 2;
+
+    private static final int FOLD = LegalActions.bit(ActionEnum.FOLD);
+    private static final int CHECK = LegalActions.bit(ActionEnum.CHECK);
+    private static final int CALL = LegalActions.bit(ActionEnum.CALL);
+    private static final int RAISE = LegalActions.bit(ActionEnum.RAISE);
+    // RoundEnum.values() copies the array on every call.
+    private static final RoundEnum[] ROUNDS = RoundEnum.values();
+
     private List<Player> players;
-    private List<Player> activePlayers;
-    private PotManager potManager;
+    private final PotManager potManager;
+    // Filled in for every decision, so deciding on an action doesn't allocate.
+    private final LegalActions legalActions = new LegalActions();
 
     private List<Card> tableCards;
+    // The table cards again, kept in the form the hand evaluator wants so showdowns only count the board once.
+    private BoardState board;
     private Deck deck;
+    // Draws a seed for every hand. Each hand is shuffled from its own seed (with handRandom), so it can be dealt again
+    // from nothing but the seed.
+    private final RandomSource random;
+    private final SeededRandomSource handRandom;
+    private long handSeed;
+
+    // The decisions to play instead of asking the players, while replaying a hand (see replayHand()).
+    private long[] replayActions;
+    private int numReplayed;
 
     private int smallBlind;
     private int bigBlind;
 
-    private int dealerIndex;
-    private Player dealer;
-
-    private int playerToActIndex;
+    // Seats are the players' positions in the players list.
+    private int dealerSeat;
+    private int seatToAct;
     private Player playerToAct;
 
+    // Masks of the seats in the hand (dealt in and not folded), and the seats in the hand with no chips left (bit N
+    // is set for seat N). The counts are kept alongside so they don't need to be recounted.
+    private long inHandSeats;
+    private long allInSeats;
+    private int numInHand;
+    private int numAllIn;
+
+    private int handNumber;
+
+    // Everything that happens at the table is reported to the listeners. When there are none (e.g. when simulating
+    // lots of hands) no events are created at all.
+    private final List<GameListener> listeners = new ArrayList<GameListener>();
+
     /**
      * We define a game table with the players sitting at the table, the values for
      * the small blind and the big blinds, which we are going to keep constant for
@@ -44,85 +83,212 @@ public class GameTable {
      * @param bigBlind: int
      */
     public GameTable(List<Player> players, int smallBlind, int bigBlind) {
+        this(players, smallBlind, bigBlind, new SplittableRandomSource());
+    }
+
+    /**
+     * Create a table whose deck is shuffled from the given seed, so the same seed deals the same cards.
+     *
+     * @param players: List of players at the table.
+     * @param smallBlind: int
+     * @param bigBlind: int
+     * @param seed: long seed for shuffling the deck.
+     */
+    public GameTable(List<Player> players, int smallBlind, int bigBlind, long seed) {
+        this(players, smallBlind, bigBlind, new SplittableRandomSource(seed));
+    }
+
+    /**
+     * Create a table whose deck is shuffled with the given random source.
+     *
+     * @param players: List of players at the table.
+     * @param smallBlind: int
+     * @param bigBlind: int
+     * @param random: RandomSource for the seeds the hands are shuffled from. The table keeps it, so it shouldn't be
+     *              shared.
+     */
+    public GameTable(List<Player> players, int smallBlind, int bigBlind, RandomSource random) {
         this.players = players;
         this.smallBlind = smallBlind;
         this.bigBlind = bigBlind;
         this.tableCards = new ArrayList<Card>();
-        activePlayers = new ArrayList<Player>();
-        deck = new Deck();
+        this.board = new BoardState();
+        this.random = random;
+        this.handRandom = new SeededRandomSource(0L);
+        this.deck = new Deck(handRandom);
+        this.potManager = new PotManager(smallBlind, bigBlind, players);
+    }
+
+    public void addListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(GameListener listener) {
+        listeners.remove(listener);
     }
 
     /**
      * Continue running until we don't have enough players to continue.
      */
     public void run() {
-        // Initial dealer index and playerToAct index to -1 because playHand()
-        // will increment the dealer index each time it runs to keep switching
-        // the dealer position.
-        dealerIndex = -1;
-        playerToActIndex = -1;
+        startGame();
 
-        if (players.size() < 2) {
-            throw new IllegalArgumentException("Not enough players passed in.");
+        while (playHand()) {
+            // Keep dealing hands until only one player has chips.
         }
 
-        while (playHand()) {
-            display("\nStarting next hand\n\n...");
+        if (!listeners.isEmpty()) {
+            long seatsWithChips = seatsWithChips();
+            int winnerSeat = (Long.bitCount(seatsWithChips) == 1) ? Long.numberOfTrailingZeros(seatsWithChips) : -1;
+            TournamentFinishedEvent event = new TournamentFinishedEvent(winnerSeat);
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onTournamentFinished(event);
+            }
+        }
+    }
 
+    /**
+     * Play a fixed number of hands instead of a tournament. Whenever a player runs out of chips he buys back in, so
+     * the table never runs out of players. This is meant for simulations, so it is usually run without listeners.
+     * @param numHands: int number of hands to play.
+     * @param rebuyChips: int number of chips a player gets when buying back in.
+     */
+    public void simulate(int numHands, int rebuyChips) {
+        if (rebuyChips <= 0) {
+            throw new IllegalArgumentException("Players must buy back in for a positive number of chips.");
         }
+        startGame();
 
-        display("Tournament over!");
+        for (int hand = 0; hand < numHands; hand++) {
+            for (int seat = 0; seat < players.size(); seat++) {
+                Player player = players.get(seat);
+                if (player.getNumChips() == 0) {
+                    player.incrementCash(rebuyChips);
+                }
+            }
+            playHand();
+        }
+    }
 
-        displayAllPlayers();
+    private void startGame() {
+        // Initial dealer seat to -1 because playHand() will move the dealer to
+        // the next seat each time it runs to keep switching the dealer position.
+        dealerSeat = -1;
+        handNumber = 0;
 
-        if (activePlayers.size() == 1) {
-            display("The winner is: " + activePlayers.get(0));
-        } else {
-            display("The game ended in a weird state with no winner =(");
+        if (players.size() < 2) {
+            throw new IllegalArgumentException("Not enough players passed in.");
+        }
+        if (players.size() > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Too many players passed in.");
+        }
+    }
+
+    private static int numBoardAndBurnCards() {
+        int numCards = 0;
+        for (RoundEnum round : RoundEnum.values()) {
+            numCards += round.getNumCards() + round.getCardsToBurn();
+        }
+        return numCards;
+    }
+
+    /**
+     * Play a hand again from the seed it was shuffled from and the decisions the players made, without asking the
+     * players for anything. The players must have the chips they had at the start of the hand. The hand is dealt and
+     * played exactly as it was, with the same board, pots and payouts, and the listeners hear about it the same way.
+     *
+     * @param dealerSeat: int seat of the dealer in the hand.
+     * @param handSeed: long seed the hand was shuffled from (see HandStartedEvent.getHandSeed()).
+     * @param actions: Array of the encoded actions (see EncodedAction) of the hand, in order, leaving out the blinds.
+     * @throws java.lang.IllegalArgumentException: If fewer than 2 players have chips, the dealer has none, an action
+     * isn't legal, or the actions don't fit the hand. The actions are only checked as the hand gets to them, so by then
+     * the blinds and the actions before have been played: the players and the table are left in the middle of the hand
+     * and can't be used again.
+     */
+    public void replayHand(int dealerSeat, long handSeed, long[] actions) {
+        if ((players.size() < 2) || (players.size() > MAX_PLAYERS)) {
+            throw new IllegalArgumentException("A hand needs between 2 and " + MAX_PLAYERS + " players.");
+        }
+        long seatsWithChips = seatsWithChips();
+        if (Long.bitCount(seatsWithChips) < 2) {
+            throw new IllegalArgumentException("A hand needs at least 2 players with chips.");
+        }
+        if ((dealerSeat < 0) || (dealerSeat >= players.size()) || ((seatsWithChips & (1L << dealerSeat)) == 0)) {
+            throw new IllegalArgumentException("The dealer must have chips.");
+        }
+        replayActions = actions;
+        numReplayed = 0;
+        try {
+            playHand(dealerSeat, handSeed);
+        } finally {
+            replayActions = null;
+        }
+        if (numReplayed < actions.length) {
+            throw new IllegalArgumentException("The hand ended after " + numReplayed + " of " + actions.length
+                    + " actions.");
         }
     }
 
+    /**
+     * @return long seed the current (or last) hand was shuffled from.
+     */
+    public long getHandSeed() {
+        return handSeed;
+    }
+
     /**
      * Handles the game flow of dealing a hand.
      * @return boolean indicating if the game should keep dealing hands.
      */
     private boolean playHand() {
-        // Set up all the necessary objects for processing the beginning of a hand. This also sets up the
-        // activePlayers in the hand.
-        initializeHand();
-
-        // If only one player is active at the table, we don't have enough players.
-        if (activePlayers.size() <= 1) {
+        // If only one player has chips left, we don't have enough players.
+        long seatsWithChips = seatsWithChips();
+        if (Long.bitCount(seatsWithChips) <= 1) {
             return false;
         }
 
+        // Move the dealer button to the next seat in the hand, and draw the seed of the hand.
+        playHand(nextSeat(dealerSeat, seatsWithChips), random.nextLong());
+        return true;
+    }
+
+    /**
+     * Deal and play a hand.
+     * @param dealerSeat: int seat of the dealer.
+     * @param handSeed: long seed to shuffle the deck from.
+     */
+    private void playHand(int dealerSeat, long handSeed) {
+        // Set up all the necessary objects for processing the beginning of a hand. This also sets up the
+        // seats in the hand.
+        initializeHand(dealerSeat, handSeed);
+
         // Rules are a bit different in heads up play. The dealer posts the small blind instead of the player next
         // to him. Simply move to the next player in this situation.
-        if (activePlayers.size() == 2) {
+        if (numInHand == 2) {
             nextPlayer();
         }
         // Handle the preflop betting round.
         preflopDeal();
+        fireHandStarted();
         doPreflopBetting();
 
 
         // In our defined rounds for this poker game (we have it currently defined to follow the rules of NL holdem),
         // process each round accordingly. Deal cards, let players perform their actions, then cleanup the state
         // at the end of each betting round to prepare for the round.
-        for (RoundEnum round : RoundEnum.values()) {
-            if (activePlayers.size() <= 1) {
+        for (RoundEnum round : ROUNDS) {
+            if (numInHand <= 1) {
                 break;
             }
             dealTableCards(round);
             doBetting();
             cleanupBettingRound();
-            displayPots();
+            firePotsClosed();
         }
 
         // We either only have one active player in the hand left or we have finished all the betting rounds. Find
         // the winners and pay them accordingly.
         getWinners();
-        return true;
     }
 
     private void cleanupBettingRound() {
@@ -135,65 +301,52 @@ public class GameTable {
 
         // We clear each players currentBet because in the next street players start again (the min Bet reverts back
         // to the big blind).
-        for (Player player : players) {
+        for (int seat = 0; seat < players.size(); seat++) {
+            Player player = players.get(seat);
             player.clearBet();
         }
 
         // Set the active player to the player right after the dealer (this player is always first to act on every street).
-        playerToActIndex = (dealerIndex + 1) % activePlayers.size();
-        playerToAct = activePlayers.get(playerToActIndex);
+        seatToAct = dealerSeat;
+        nextPlayer();
     }
 
     /**
      * Initialize the hand in preparation for dealing a new one.
+     * @param dealerSeat: int seat of the dealer, who must have chips.
+     * @param handSeed: long seed to shuffle the deck from.
      */
-    private void initializeHand() {
+    private void initializeHand(int dealerSeat, long handSeed) {
         // Clear out the cards from the table. The previous hand is over, we are starting a new one.
         tableCards.clear();
-        potManager = new PotManager(smallBlind, bigBlind);
+        board.clear();
+        potManager.reset();
 
-        // Set the active players involved in the hand. The criteria
-        // is that the player must not be out of $$.
-        activePlayers.clear();
-        for (Player player : players) {
-            // Clear out the players last hand.
+        // Clear out the players last hand.
+        for (int seat = 0; seat < players.size(); seat++) {
+            Player player = players.get(seat);
             player.clearHand();
-
-            if (player.getNumChips() > 0) {
-                activePlayers.add(player);
-            }
         }
 
-        // Move the dealer button to the next active payer.
-        dealerIndex = (dealerIndex + 1) % activePlayers.size();
-        dealer = activePlayers.get(dealerIndex);
+        // Set the seats involved in the hand. The criteria
+        // is that the player must not be out of $$.
+        inHandSeats = seatsWithChips();
+        numInHand = Long.bitCount(inHandSeats);
+        allInSeats = 0L;
+        numAllIn = 0;
+
+        this.dealerSeat = dealerSeat;
 
-        // Shuffle the deck.
+        // Shuffle the deck from the hand's seed. Starting from a sorted deck, the seed alone decides the cards.
+        this.handSeed = handSeed;
+        handRandom.setSeed(handSeed);
+        deck.sort();
         deck.shuffle();
 
         // The first player to act is the one right after the dealer.
-        playerToActIndex = (dealerIndex + 1) % activePlayers.size();
-        playerToAct = activePlayers.get(playerToActIndex);
-        display(String.format("New hand, %s is the dealer.", dealer));
-        displayActivePlayers();
-    }
-
-    /**
-     * This function prints out the active players in the hand and their current number of chips.
-     */
-    private void displayActivePlayers() {
-        for (Player player : activePlayers) {
-            display(String.format("%s (%s)", player, player.getNumChips()));
-        }
-    }
-
-    /**
-     * This function prints out all the players sitting at the table and their current number of chips.
-     */
-    private void displayAllPlayers() {
-        for (Player player : players) {
-            display(String.format("%s (%s)", player, player.getNumChips()));
-        }
+        seatToAct = dealerSeat;
+        nextPlayer();
+        handNumber++;
     }
 
     /**
@@ -204,14 +357,15 @@ public class GameTable {
         postBigBlind();
         doBetting();
         cleanupBettingRound();
-        displayPots();
+        firePotsClosed();
     }
 
     /**
      * Post the small blind.
      */
     private void postSmallBlind() {
-        processAction(playerToAct, playerToAct.postSmallBlind(smallBlind));
+        processAction(seatToAct, playerToAct.postBlind(ActionEnum.SMALL_BLIND, smallBlind));
+        checkAllIn();
         nextPlayer();
     }
 
@@ -219,30 +373,68 @@ public class GameTable {
      * Post the big blind
      */
     private void postBigBlind() {
-        processAction(playerToAct, playerToAct.postBigBlind(bigBlind));
+        processAction(seatToAct, playerToAct.postBlind(ActionEnum.BIG_BLIND, bigBlind));
+        checkAllIn();
         nextPlayer();
     }
 
     /**
-     * Move the next player to act index to the next player (should be called after a player finished acting).
+     * Move the seat to act to the next player that can still act: one that is in the hand and not all in (should be
+     * called after a player finished acting). If no one can act any more, the seat stays where it is.
      */
     private void nextPlayer() {
-        playerToActIndex = (playerToActIndex + 1) % activePlayers.size();
-        playerToAct = activePlayers.get(playerToActIndex);
+        long canAct = inHandSeats & ~allInSeats;
+        if (canAct != 0) {
+            seatToAct = nextSeat(seatToAct, canAct);
+            playerToAct = players.get(seatToAct);
+        }
+    }
+
+    /**
+     * @param seat: int seat to start after (-1 to start from the first seat).
+     * @param seats: long mask of the seats to choose from, must not be empty.
+     * @return int first seat in the mask after the given seat, going around the table.
+     */
+    private static int nextSeat(int seat, long seats) {
+        // -2L << seat clears the bits up to and including the seat (for seat 63 and -1 nothing is left, so the scan
+        // starts again from seat 0).
+        long after = seats & (-2L << seat);
+        return Long.numberOfTrailingZeros((after != 0) ? after : seats);
+    }
+
+    /**
+     * Mark the player to act as all in if their last action used up all their chips.
+     */
+    private void checkAllIn() {
+        long bit = 1L << seatToAct;
+        if ((playerToAct.getNumChips() == 0) && ((allInSeats & bit) == 0)) {
+            allInSeats |= bit;
+            numAllIn++;
+        }
+    }
 
+    /**
+     * @return long mask of the seats of the players that still have chips.
+     */
+    private long seatsWithChips() {
+        long seats = 0L;
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (players.get(seat).getNumChips() > 0) {
+                seats |= 1L << seat;
+            }
+        }
+        return seats;
     }
 
     /**
      * Deal hole cards to the players. The rules of texas holdem are that we deal two cards to each player.
      */
     private void preflopDeal() {
-        for (Player player : activePlayers) {
+        for (long seats = inHandSeats; seats != 0; seats &= seats - 1) {
+            Player player = players.get(Long.numberOfTrailingZeros(seats));
             for (int i = 0; i < 2; i++) {
                 player.setCard(deck.deal(), i);
             }
-            if (player.isMyPointOfView()) {
-                display("Your cards: " + Arrays.toString(player.getCards()));
-            }
         }
     }
 
@@ -262,27 +454,13 @@ public class GameTable {
         // Deal the number of cards that the round defines. (Flop should deal 3, turn 1, river 1).
         int numCardsToDeal = round.getNumCards();
         for (int i = 0; i < numCardsToDeal; i++) {
-            tableCards.add(deck.deal());
+            Card card = deck.deal();
+            tableCards.add(card);
+            board.add(card);
         }
 
-        // Show the game state to the players on the console.
-        displayDeal(round);
-        displayActivePlayers();
-    }
-
-    /**
-     * Displays all the pots of the given hand and how much $$ they have in them.
-     */
-    private void displayPots() {
-        display(potManager);
-    }
-
-    /**
-     * Display the cards that were dealt for the given round.
-     * @param round
-     */
-    private void displayDeal(RoundEnum round) {
-        display(String.format("Dealing %s: %s", round, tableCards));
+        // Let the listeners know what was dealt.
+        fireBoardDealt(round);
     }
 
     /**
@@ -295,39 +473,41 @@ public class GameTable {
      * 4. If someone folds, it checks to see if there are other players in the hand still. If only one player is left,
      * that player is the winner of the hand.
      * 5. Does this for every player until the last player has acted -- it also resets this once a player raises, since
-     * everyone gets to act again after that.
+     * everyone gets to act again after that. Players that are all in have nothing left to decide, so they are skipped.
      */
     private void doBetting() {
-        // Let everyone who is an active player act.
-        int numPlayers = activePlayers.size();
+        // Let everyone who is still in the hand and has chips act.
+        int numPlayers = numInHand - numAllIn;
         while (numPlayers > 0) {
-            // Start at the current player to act.
-            playerToAct = activePlayers.get(playerToActIndex);
 
             // 1: Get the available actions for this player.
-            List<ActionEnum> availActions = getAvailableActions(playerToAct);
+            LegalActions availActions = computeLegalActions(playerToAct);
 
-            // 2: Send the actions to the player who will decide action to perform.
-            Action actionToPerform = playerToAct.generateAction(availActions, potManager);
+            // 2: Send the actions to the player who will decide action to perform. The action comes back encoded
+            // (see EncodedAction), so no Action object is needed. When replaying a hand the decision was already
+            // made.
+            long actionToPerform = (replayActions != null) ? nextReplayedAction(availActions)
+                    : playerToAct.generateEncodedAction(availActions, potManager);
+            ActionEnum actionEnum = EncodedAction.getActionEnum(actionToPerform);
 
             // 3. Process that action accordingly. If there is a bet involved make sure to keep bookkeeping on
             // what the min raises are for the future, etc.
-            int amount = actionToPerform.getIncrementAmount();
+            int amount = EncodedAction.getAmount(actionToPerform);
             playerToAct.processAction(actionToPerform, potManager.getLastBet());
             if (amount > 0) {
-                if (actionToPerform.getActionEnum() == ActionEnum.RAISE) {
-                    numPlayers = activePlayers.size()-1;
+                if (actionEnum == ActionEnum.RAISE) {
+                    // Everyone else that can still act gets to act again.
+                    numPlayers = numInHand - numAllIn - 1;
                 } else {
                     numPlayers--;
                 }
-            } else if (actionToPerform.getActionEnum() == ActionEnum.FOLD) {
+            } else if (actionEnum == ActionEnum.FOLD) {
                 // If a player folds, then make sure that there are other active players still left. If only one active
                 // player is left, that player is the winner.
-                playerToAct.clearHand();
-                activePlayers.remove(playerToActIndex);
-                playerToActIndex--;
-                if (activePlayers.size() == 1) {
-                    Player winner = activePlayers.get(0);
+                playerToAct.fold();
+                inHandSeats &= ~(1L << seatToAct);
+                numInHand--;
+                if (numInHand == 1) {
                     numPlayers = 0;
                 } else {
                     numPlayers--;
@@ -337,117 +517,149 @@ public class GameTable {
             }
 
             // Process the action the player performed.
-            processAction(playerToAct, actionToPerform);
+            processAction(seatToAct, actionToPerform);
+            checkAllIn();
 
             // Move to the next player.
             nextPlayer();
         }
     }
 
+    /**
+     * @param availActions: LegalActions of the player to act.
+     * @return long the next action of the hand being replayed.
+     * @throws java.lang.IllegalArgumentException: If there are no actions left, or the action isn't legal.
+     */
+    private long nextReplayedAction(LegalActions availActions) {
+        if (numReplayed == replayActions.length) {
+            throw new IllegalArgumentException("The hand needs more than " + numReplayed + " actions.");
+        }
+        long action = replayActions[numReplayed];
+        ActionEnum actionEnum = EncodedAction.getActionEnum(action);
+        int amount = EncodedAction.getAmount(action);
+        boolean isLegal;
+        switch (actionEnum) {
+            case CALL:
+                isLegal = amount == availActions.getCallAmount();
+                break;
+            case RAISE:
+                // At least the minimum raise, unless it puts the player all in.
+                isLegal = (amount > 0) && (amount <= availActions.getMaxRaise())
+                        && ((amount >= availActions.getMinRaise()) || (amount == availActions.getMaxRaise()));
+                break;
+            default:
+                isLegal = amount == 0;
+                break;
+        }
+        isLegal &= availActions.contains(actionEnum);
+        if (!isLegal) {
+            throw new IllegalArgumentException("Action " + numReplayed + " (" + actionEnum.description(amount)
+                    + ") is not legal for seat " + seatToAct + ".");
+        }
+        numReplayed++;
+        return action;
+    }
+
     /**
      * Calculates the winner(s) of the last hand.
      */
     private void getWinners() {
-        if (activePlayers.size() == 1) {
-            Player winner = activePlayers.get(0);
+        if (numInHand == 1) {
+            Player winner = players.get(Long.numberOfTrailingZeros(inHandSeats));
             int totalPot = potManager.getTotalPot();
             winner.incrementCash(totalPot);
-            display(String.format("%s wins the pot (%s chips) -- everyone else is out.", winner, totalPot));
+            if (!listeners.isEmpty()) {
+                fireShowdown(new ShowdownEvent(-1, totalPot, inHandSeats, HandEvaluator.NO_MATCH));
+            }
         } else {
-            for (Player player : activePlayers) {
-                player.evaluateHand(tableCards);
+            for (long seats = inHandSeats; seats != 0; seats &= seats - 1) {
+                players.get(Long.numberOfTrailingZeros(seats)).evaluateHand(board);
             }
 
-            List<PotWinner> potWinners = potManager.calculateWinners(activePlayers);
-            for (PotWinner potWinner : potWinners) {
+            List<PotWinner> potWinners = potManager.calculateWinners(inHandSeats);
+            for (int pot = 0; pot < potWinners.size(); pot++) {
+                PotWinner potWinner = potWinners.get(pot);
                 potWinner.payWinners();
-                display(potWinner);
+                if (!listeners.isEmpty()) {
+                    fireShowdown(showdownEvent(pot, potWinner));
+                }
             }
         }
     }
 
     /**
      * Takes in a player object, and looks at the current state of the game and player to see what actions
-     * the player can take at this point.
+     * the player can take at this point. The result is written into legalActions, which is reused for every decision.
      *
      * @param player: Player to act.
-     * @return: List of available actions.
+     * @return: LegalActions of the player, with the amounts for calling and raising.
      */
-    private List<ActionEnum> getAvailableActions(Player player) {
-        List<ActionEnum> actionEnums = new ArrayList<ActionEnum>();
+    private LegalActions computeLegalActions(Player player) {
         int lastBet = potManager.getLastBet();
         int playerBet = player.getBet();
         int callAmount = lastBet > 0 ? lastBet - player.getBet() : bigBlind;
         ActionEnum lastAction = player.getLastAction();
+        int playerChips = player.getNumChips();
+        int mask;
 
         // If this player is All In (meaning he has no chips left to bet, they are all already invested in the hand)
         // then he really can't perform any actions. We return the CHECK action here just to make the coder clearer and
         // simpler, but you could also simply just auto-skip the players turn.
         if (player.isAllIn()) {
-            actionEnums.add(ActionEnum.CHECK);
-            return actionEnums;
-        }
-
-        if (areOpponentsAllIn(player)) {
+            mask = CHECK;
+        } else if (areOpponentsAllIn()) {
             if ((lastBet == 0) || (playerBet >= lastBet)) {
-                actionEnums.add(ActionEnum.CHECK);
-                return actionEnums;
+                mask = CHECK;
             } else {
-                actionEnums.add(ActionEnum.CALL);
-                actionEnums.add(ActionEnum.FOLD);
-                return actionEnums;
+                mask = CALL | FOLD;
             }
-        }
-
-        // At any point in a hand, you can fold (unless you are already all in). Even if there is no bet to you,
-        // you have the option to still fold.
-        actionEnums.add(ActionEnum.FOLD);
-
-        int playerChips = player.getNumChips();
-
+        } else {
+            // At any point in a hand, you can fold (unless you are already all in). Even if there is no bet to you,
+            // you have the option to still fold.
+            mask = FOLD;
 
-        if (lastBet <= 0) {
-            // If there is no bet yet in this current round, the player can either check or raise (we already added fold
-            // for all non-all-in cases.
-            actionEnums.add(ActionEnum.CHECK);
-            actionEnums.add(ActionEnum.RAISE);
+            if (lastBet <= 0) {
+                // If there is no bet yet in this current round, the player can either check or raise (we already
+                // added fold for all non-all-in cases.
+                mask |= CHECK | RAISE;
 
-        } else {
-            // If we are in a situation where this player already bet, but was raised by player B, we have
-            // to account for a couple scenarios: 1. player B went all in, but he went all in for less than the min
-            // bet. In this case, this player is only allowed to call (cannot raise). 2. If player B put in more
-            // than the min bet than we can still raise.
-            int betDiff = lastBet - playerBet;
-            int betIncrement = potManager.getBetIncrement();
-            if ((playerBet < lastBet)) {
-                actionEnums.add(ActionEnum.CALL);
-
-                if ((playerBet == 0) || (lastAction == ActionEnum.SMALL_BLIND)) {
-
-                    if (playerChips > (lastBet - playerBet)) {
-                        actionEnums.add(ActionEnum.RAISE);
-                    }
-                } else {
-                    if ((betIncrement <= betDiff) && (playerChips > callAmount)) {
-                        actionEnums.add(ActionEnum.RAISE);
+            } else {
+                // If we are in a situation where this player already bet, but was raised by player B, we have
+                // to account for a couple scenarios: 1. player B went all in, but he went all in for less than the min
+                // bet. In this case, this player is only allowed to call (cannot raise). 2. If player B put in more
+                // than the min bet than we can still raise.
+                int betDiff = lastBet - playerBet;
+                int betIncrement = potManager.getBetIncrement();
+                if ((playerBet < lastBet)) {
+                    mask |= CALL;
+
+                    if ((playerBet == 0) || (lastAction == ActionEnum.SMALL_BLIND)) {
+
+                        if (playerChips > (lastBet - playerBet)) {
+                            mask |= RAISE;
+                        }
+                    } else {
+                        if ((betIncrement <= betDiff) && (playerChips > callAmount)) {
+                            mask |= RAISE;
+                        }
                     }
+                } else if (playerBet == lastBet) {
+                    mask |= CHECK | RAISE;
                 }
-            } else if (playerBet == lastBet) {
-                actionEnums.add(ActionEnum.CHECK);
-                actionEnums.add(ActionEnum.RAISE);
             }
         }
 
-        return actionEnums;
+        // A call puts in what is missing from the last bet, or everything the player has left if that is less.
+        int toCall = ((mask & CALL) != 0) ? Math.min(lastBet - playerBet, playerChips) : 0;
+        legalActions.set(mask, toCall, potManager.getMinimumBetAmount() - playerBet, playerChips);
+        return legalActions;
     }
 
-    private boolean areOpponentsAllIn(Player player) {
-        for (Player activePlayer : activePlayers) {
-            if ((player != activePlayer) && !activePlayer.isAllIn()) {
-                return false;
-            }
-        }
-        return true;
+    /**
+     * @return boolean indicating if every player in the hand other than the player to act (who isn't all in) is all in.
+     */
+    private boolean areOpponentsAllIn() {
+        return (numInHand - numAllIn) == 1;
     }
 
     /**
@@ -457,30 +669,92 @@ public class GameTable {
      * @param action: Action
      */
     public void processAction(Player player, Action action) {
-        switch(action.getActionEnum()) {
+        processAction(players.indexOf(player), EncodedAction.encode(action));
+    }
+
+    /**
+     * Send an encoded action (see EncodedAction) to the pot manager if it resulted in a bet.
+     *
+     * @param seat: int seat of the player that performed the action.
+     * @param action: long encoded action.
+     */
+    private void processAction(int seat, long action) {
+        Player player = players.get(seat);
+        ActionEnum actionEnum = EncodedAction.getActionEnum(action);
+        int amount = EncodedAction.getAmount(action);
+        switch(actionEnum) {
             // If the action is a RAISE, CALL, SMALL_BLIND, or BIG_BLIND a bet was contributed to the pot.
             // Let the pot manager process it accordingly.
             case RAISE:
-                potManager.addRaise(player, action.getIncrementAmount());
+                potManager.addRaise(seat, amount);
                 break;
             case CALL:
-                potManager.addCall(player, action.getIncrementAmount());
+                potManager.addCall(seat, amount);
                 break;
             case SMALL_BLIND:
-                potManager.postSmallBlind(player, action.getIncrementAmount());
+                potManager.postSmallBlind(seat, amount);
                 break;
             case BIG_BLIND:
-                potManager.postBigBlind(player, action.getIncrementAmount());
+                potManager.postBigBlind(seat, amount);
             default:
                 break;
         }
-        // Print out the action to the console so the human players can see what happened.
-        display(new PlayerAction(player, action));
+        // Let the listeners know what happened.
+        if (!listeners.isEmpty()) {
+            ActionTakenEvent event = new ActionTakenEvent(seat, actionEnum, amount, potManager.getTotalPot());
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onActionTaken(event);
+            }
+        }
 
     }
 
 
-    private void display(Object obj) {
-        System.out.println(obj);
+    private void fireHandStarted() {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        HandStartedEvent event = new HandStartedEvent(handNumber, dealerSeat, inHandSeats, handSeed);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onHandStarted(event);
+        }
     }
+
+    private void fireBoardDealt(RoundEnum round) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        BoardDealtEvent event = new BoardDealtEvent(round, board.getBits(), inHandSeats);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onBoardDealt(event);
+        }
+    }
+
+    private void firePotsClosed() {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        List<Pot> pots = potManager.getPots();
+        int[] potAmounts = new int[pots.size()];
+        for (int i = 0; i < potAmounts.length; i++) {
+            potAmounts[i] = pots.get(i).getTotalBet();
+        }
+        PotsClosedEvent event = new PotsClosedEvent(potAmounts, potManager.getTotalPot());
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onPotsClosed(event);
+        }
+    }
+
+    private void fireShowdown(ShowdownEvent event) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onShowdown(event);
+        }
+    }
+
+    private ShowdownEvent showdownEvent(int pot, PotWinner potWinner) {
+        List<Player> winners = potWinner.getWinners();
+        int handRank = winners.isEmpty() ? HandEvaluator.NO_MATCH : winners.get(0).getHand().getHandRank();
+        return new ShowdownEvent(pot, potWinner.getPot().getTotalBet(), potWinner.getWinnerSeats(), handRank);
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.poker;
 
+import com.poker.events.ConsoleGameListener;
 import com.poker.player.HumanPlayer;
 import com.poker.player.Player;
 import com.poker.player.RobotPlayer;
@@ -31,6 +32,7 @@ public class Main {
 
         // hardcode big blind and small blind for now.
         GameTable table = new GameTable(players, 10, 20);
+        table.addListener(new ConsoleGameListener(players));
         table.run();
     }
 
@@ -0,0 +1,24 @@
+package com.poker;
+
+/**
+ * A source of random numbers for shuffling the deck and making the robots' decisions. Giving a table a seeded source
+ * makes everything it deals and every robot decision reproducible.
+ *
+ * Sources are not thread safe: each table (and each robot) should get its own, for example with split().
+ */
+public interface RandomSource {
+
+    /**
+     * @param bound: int upper bound (exclusive), must be positive.
+     * @return int random number from 0 to bound - 1.
+     */
+    int nextInt(int bound);
+
+    long nextLong();
+
+    /**
+     * @return RandomSource that is independent of this one, but determined by its current state, so splitting a seeded
+     * source always gives the same new sources.
+     */
+    RandomSource split();
+}
@@ -23,6 +23,15 @@ public enum RankEnum {
     private String rankString;
     private int value;
 
+    // Ranks indexed by their value.
+    private static final RankEnum[] BY_VALUE = new RankEnum[values().length];
+
+    static {
+        for (RankEnum rank : values()) {
+            BY_VALUE[rank.value] = rank;
+        }
+    }
+
     RankEnum(int value, String rankString) {
         this.value = value;
         this.rankString = rankString;
@@ -37,6 +46,14 @@ public enum RankEnum {
         return value;
     }
 
+    /**
+     * @param value: int value of a rank (0 for TWO up to 12 for ACE).
+     * @return RankEnum with the given value.
+     */
+    public static RankEnum fromValue(int value) {
+        return BY_VALUE[value];
+    }
+
     public static int numRanks() {
         return RankEnum.values().length;
     }
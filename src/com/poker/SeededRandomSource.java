@@ -0,0 +1,72 @@
+package com.poker;
+
+/**
+ * RandomSource that can be seeded again at any time without creating a new source. Tables use it to shuffle each
+ * hand from its own seed, so a hand can be dealt again from nothing but that seed (see GameTable.replayHand()).
+ *
+ * It is the same generator as SplittableRandom (SplitMix64), so nextInt() and nextLong() give the same numbers as a
+ * SplittableRandomSource created with the same seed.
+ */
+public class SeededRandomSource implements RandomSource {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long seed;
+
+    /**
+     * @param seed: long seed. The same seed always gives the same numbers.
+     */
+    public SeededRandomSource(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Start the numbers again from the given seed.
+     * @param seed: long
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("The bound must be positive.");
+        }
+        int r = mix32(nextSeed());
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            // A power of two: just keep the low bits.
+            r &= m;
+        } else {
+            // Reject the numbers from the top, incomplete multiple of the bound, so every result is equally likely.
+            for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = mix32(nextSeed()) >>> 1) {
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    @Override
+    public RandomSource split() {
+        return new SeededRandomSource(nextLong());
+    }
+
+    private long nextSeed() {
+        return seed += GOLDEN_GAMMA;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+}
@@ -0,0 +1,54 @@
+package com.poker;
+
+import com.poker.player.Player;
+import com.poker.player.RobotPlayer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays lots of hands between robots at a table without listeners (nothing is printed while the hands are played),
+ * and reports how many hands per second the table got through. Players that run out of chips buy back in, so the
+ * table always has the same number of players.
+ *
+ * Usage: Simulation [number of players] [number of hands] [seed]
+ */
+public class Simulation {
+    private static final int DEFAULT_NUM_PLAYERS = 6;
+    private static final int DEFAULT_NUM_HANDS = 1000000;
+    private static final int STARTING_CHIPS = 1000;
+    private static final int SMALL_BLIND = 10;
+    private static final int BIG_BLIND = 20;
+
+    public static void main(String[] args) {
+        int numPlayers = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_NUM_PLAYERS;
+        int numHands = (args.length > 1) ? Integer.parseInt(args[1]) : DEFAULT_NUM_HANDS;
+        long seed = (args.length > 2) ? Long.parseLong(args[2]) : System.nanoTime();
+
+        long start = System.nanoTime();
+        run(numPlayers, numHands, seed);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println(String.format("Played %d hands with %d players in %.2f seconds (%.0f hands/sec)",
+                numHands, numPlayers, seconds, numHands / seconds));
+    }
+
+    /**
+     * Play the given number of hands at a headless table of robots.
+     * @param numPlayers: int number of robots at the table.
+     * @param numHands: int number of hands to play.
+     * @param seed: long seed for the deck and the robots. The same seed plays the same hands.
+     * @return GameTable the hands were played at.
+     */
+    public static GameTable run(int numPlayers, int numHands, long seed) {
+        RandomSource random = new SplittableRandomSource(seed);
+        List<Player> players = new ArrayList<Player>();
+        for (int i = 0; i < numPlayers; i++) {
+            players.add(new RobotPlayer(STARTING_CHIPS, "Robot #" + (i + 1), random.split()));
+        }
+
+        GameTable table = new GameTable(players, SMALL_BLIND, BIG_BLIND, random);
+        table.simulate(numHands, STARTING_CHIPS);
+        return table;
+    }
+}
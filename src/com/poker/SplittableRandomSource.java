@@ -0,0 +1,41 @@
+package com.poker;
+
+import java.util.SplittableRandom;
+
+/**
+ * RandomSource backed by a SplittableRandom. It is much cheaper than java.util.Random (no locking or atomic updates)
+ * and can be split into independent sources for every table and robot.
+ */
+public class SplittableRandomSource implements RandomSource {
+    private final SplittableRandom random;
+
+    public SplittableRandomSource() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * @param seed: long seed. The same seed always gives the same numbers.
+     */
+    public SplittableRandomSource(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private SplittableRandomSource(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public RandomSource split() {
+        return new SplittableRandomSource(random.split());
+    }
+}
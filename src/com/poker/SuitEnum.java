@@ -12,6 +12,15 @@ public enum SuitEnum {
     private int value;
     private String suitString;
 
+    // Suits indexed by their value.
+    private static final SuitEnum[] BY_VALUE = new SuitEnum[values().length];
+
+    static {
+        for (SuitEnum suit : values()) {
+            BY_VALUE[suit.value] = suit;
+        }
+    }
+
     SuitEnum(int value, String suitString) {
         this.value = value;
         this.suitString = suitString;
@@ -26,6 +35,14 @@ public enum SuitEnum {
         return value;
     }
 
+    /**
+     * @param value: int value of a suit.
+     * @return SuitEnum with the given value.
+     */
+    public static SuitEnum fromValue(int value) {
+        return BY_VALUE[value];
+    }
+
     public static int numSuits() {
         return SuitEnum.values().length;
     }
@@ -10,5 +10,27 @@ public enum ActionEnum {
     FOLD,
     CHECK,
     RAISE,
-    CALL
+    CALL;
+
+    /**
+     * Describe a player taking this action, e.g. "raises 40 more chips".
+     * @param amount: int number of chips put in with the action (ignored for checks and folds).
+     * @return String
+     */
+    public String description(int amount) {
+        switch (this) {
+            case SMALL_BLIND:
+                return String.format("posts small blind of %s chips", amount);
+            case BIG_BLIND:
+                return String.format("posts big blind of %s chips", amount);
+            case FOLD:
+                return "folds";
+            case CHECK:
+                return "checks";
+            case RAISE:
+                return String.format("raises %s more chips", amount);
+            default:
+                return String.format("calls %s chips", amount);
+        }
+    }
 }
@@ -11,6 +11,6 @@ public class BigBlindAction extends Action {
 
     @Override
     public String description() {
-        return String.format("posts big blind of %s chips", incrementAmount);
+        return getActionEnum().description(incrementAmount);
     }
 }
@@ -11,6 +11,6 @@ public class CallAction extends Action {
 
     @Override
     public String description() {
-        return String.format("calls %s chips", incrementAmount);
+        return getActionEnum().description(incrementAmount);
     }
 }
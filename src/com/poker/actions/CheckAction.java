@@ -2,14 +2,17 @@ package com.poker.actions;
 
 /**
  * Created by atul on 2/24/15.
+ * A check carries no amount, so every player shares the same instance.
  */
 public class CheckAction extends Action {
 
-    public CheckAction() {
+    public static final CheckAction INSTANCE = new CheckAction();
+
+    private CheckAction() {
         super(ActionEnum.CHECK, "Check");
     }
 
     public String description() {
-        return "checks";
+        return getActionEnum().description(incrementAmount);
     }
 }
@@ -0,0 +1,61 @@
+package com.poker.actions;
+
+/**
+ * Helpers for actions packed into a long: the ActionEnum ordinal goes in the low bits and the amount in the high 32
+ * bits. The table passes actions around in this form, so playing a hand doesn't create any Action objects. They are
+ * only built (with toAction()) for code that wants one, such as players that only implement the Action methods.
+ */
+public final class EncodedAction {
+    private static final ActionEnum[] ACTIONS = ActionEnum.values();
+    private static final int AMOUNT_SHIFT = 32;
+    private static final long ACTION_MASK = 0xFF;
+
+    public static final long FOLD = encode(ActionEnum.FOLD, 0);
+    public static final long CHECK = encode(ActionEnum.CHECK, 0);
+
+    private EncodedAction() {
+    }
+
+    /**
+     * @param actionEnum: ActionEnum
+     * @param amount: int chips put in with the action (0 for checks and folds).
+     * @return long encoded action.
+     */
+    public static long encode(ActionEnum actionEnum, int amount) {
+        return ((long) amount << AMOUNT_SHIFT) | actionEnum.ordinal();
+    }
+
+    public static long encode(Action action) {
+        return encode(action.getActionEnum(), action.getIncrementAmount());
+    }
+
+    public static ActionEnum getActionEnum(long action) {
+        return ACTIONS[(int) (action & ACTION_MASK)];
+    }
+
+    public static int getAmount(long action) {
+        return (int) (action >>> AMOUNT_SHIFT);
+    }
+
+    /**
+     * @param action: long encoded action.
+     * @return Action the same action as an object. Checks and folds share a single instance.
+     */
+    public static Action toAction(long action) {
+        int amount = getAmount(action);
+        switch (getActionEnum(action)) {
+            case SMALL_BLIND:
+                return new SmallBlindAction(amount);
+            case BIG_BLIND:
+                return new BigBlindAction(amount);
+            case FOLD:
+                return FoldAction.INSTANCE;
+            case CHECK:
+                return CheckAction.INSTANCE;
+            case RAISE:
+                return new RaiseAction(amount);
+            default:
+                return new CallAction(amount);
+        }
+    }
+}
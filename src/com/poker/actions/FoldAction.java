@@ -2,14 +2,17 @@ package com.poker.actions;
 
 /**
  * Created by atul on 2/24/15.
+ * A fold carries no amount, so every player shares the same instance.
  */
 public class FoldAction extends Action {
 
-    public FoldAction() {
+    public static final FoldAction INSTANCE = new FoldAction();
+
+    private FoldAction() {
         super(ActionEnum.FOLD, "Fold");
     }
 
     public String description() {
-        return "folds";
+        return getActionEnum().description(incrementAmount);
     }
 }
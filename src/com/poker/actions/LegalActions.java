@@ -0,0 +1,115 @@
+package com.poker.actions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The actions a player can take when it is their turn, as a mask with one bit per ActionEnum (bit N is set for the
+ * action with ordinal N), along with the amounts that go with them. The amounts are what the player puts in on top of
+ * their current bet, the same as Action.getIncrementAmount().
+ *
+ * The table fills in the same object for every decision, so deciding on an action doesn't allocate anything. Players
+ * should read it during generateAction() and not hold on to it.
+ */
+public class LegalActions {
+    // The order the actions are listed in (e.g. for the options shown to a human player).
+    private static final ActionEnum[] DISPLAY_ORDER = {ActionEnum.FOLD, ActionEnum.CHECK, ActionEnum.CALL,
+            ActionEnum.RAISE};
+
+    private int mask;
+    private int callAmount;
+    private int minRaise;
+    private int maxRaise;
+
+    /**
+     * @param actionEnum: ActionEnum
+     * @return int mask with only the bit of the given action set.
+     */
+    public static int bit(ActionEnum actionEnum) {
+        return 1 << actionEnum.ordinal();
+    }
+
+    /**
+     * Build the legal actions from a list of actions.
+     * @param actions: List of actions that the player can perform.
+     * @param callAmount: int chips needed to call (capped at the player's chips).
+     * @param minRaise: int fewest chips the player can raise with, unless they go all in for less.
+     * @param maxRaise: int most chips the player can raise with (all their chips).
+     * @return LegalActions
+     */
+    public static LegalActions of(List<ActionEnum> actions, int callAmount, int minRaise, int maxRaise) {
+        int mask = 0;
+        for (ActionEnum action : actions) {
+            mask |= bit(action);
+        }
+        LegalActions legalActions = new LegalActions();
+        legalActions.set(mask, callAmount, minRaise, maxRaise);
+        return legalActions;
+    }
+
+    /**
+     * Replace the legal actions. The amounts of actions that aren't in the mask are ignored.
+     */
+    public void set(int mask, int callAmount, int minRaise, int maxRaise) {
+        this.mask = mask;
+        this.callAmount = callAmount;
+        this.minRaise = minRaise;
+        this.maxRaise = maxRaise;
+    }
+
+    public int getMask() {
+        return mask;
+    }
+
+    public boolean contains(ActionEnum actionEnum) {
+        return (mask & bit(actionEnum)) != 0;
+    }
+
+    /**
+     * @return int number of legal actions.
+     */
+    public int size() {
+        return Integer.bitCount(mask);
+    }
+
+    /**
+     * @param index: int from 0 to size() - 1.
+     * @return ActionEnum the index'th legal action, in the order fold, check, call, raise.
+     */
+    public ActionEnum get(int index) {
+        for (ActionEnum action : DISPLAY_ORDER) {
+            if (contains(action) && (index-- == 0)) {
+                return action;
+            }
+        }
+        throw new IllegalArgumentException("There are only " + size() + " legal actions.");
+    }
+
+    public int getCallAmount() {
+        return callAmount;
+    }
+
+    public int getMinRaise() {
+        return minRaise;
+    }
+
+    public int getMaxRaise() {
+        return maxRaise;
+    }
+
+    /**
+     * @return List of the legal actions, in the same order as get().
+     */
+    public List<ActionEnum> toList() {
+        List<ActionEnum> actions = new ArrayList<ActionEnum>(size());
+        for (int i = 0; i < size(); i++) {
+            actions.add(get(i));
+        }
+        return actions;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+}
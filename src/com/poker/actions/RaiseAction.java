@@ -11,6 +11,6 @@ public class RaiseAction extends Action {
 
     @Override
     public String description() {
-        return String.format("raises %s more chips", incrementAmount);
+        return getActionEnum().description(incrementAmount);
     }
 }
@@ -11,6 +11,6 @@ public class SmallBlindAction extends Action {
 
     @Override
     public String description() {
-        return String.format("posts small blind of %s chips", this.incrementAmount);
+        return getActionEnum().description(incrementAmount);
     }
 }
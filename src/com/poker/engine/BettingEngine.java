@@ -0,0 +1,417 @@
+package com.poker.engine;
+
+import com.poker.Card;
+import com.poker.CardSet;
+import com.poker.Deck;
+import com.poker.RandomSource;
+import com.poker.RoundEnum;
+import com.poker.SeededRandomSource;
+import com.poker.SplittableRandomSource;
+import com.poker.actions.ActionEnum;
+import com.poker.actions.EncodedAction;
+import com.poker.actions.LegalActions;
+import com.poker.hands.BoardState;
+import com.poker.pots.ContributionLedger;
+
+/**
+ * Plays hands of no limit holdem on a TableState. The rules are the same as GameTable's (blinds, who acts when, the
+ * legal actions and the side pots), but instead of going through Player objects, a PotManager and listeners, the
+ * engine works directly on the arrays of the table state and only asks the strategies for their decisions. The pots
+ * are only worked out at showdown, from the chips each seat put in (see ContributionLedger). Once the table is set up
+ * playing a hand doesn't allocate anything, which makes it the one to use for simulating lots of hands.
+ */
+public class BettingEngine {
+    private static final int FOLD = LegalActions.bit(ActionEnum.FOLD);
+    private static final int CHECK = LegalActions.bit(ActionEnum.CHECK);
+    private static final int CALL = LegalActions.bit(ActionEnum.CALL);
+    private static final int RAISE = LegalActions.bit(ActionEnum.RAISE);
+    private static final byte SMALL_BLIND_ACTION = (byte) ActionEnum.SMALL_BLIND.ordinal();
+    private static final byte FOLD_ACTION = (byte) ActionEnum.FOLD.ordinal();
+    // RoundEnum.values() copies the array on every call.
+    private static final RoundEnum[] ROUNDS = RoundEnum.values();
+
+    private final TableState state;
+    private final Strategy[] strategies;
+    // Each hand is shuffled from its own seed, drawn from random, the same way as GameTable does.
+    private final RandomSource random;
+    private final SeededRandomSource handRandom = new SeededRandomSource(0L);
+    private final Deck deck;
+    private final BoardState boardState = new BoardState();
+    // Filled in for every decision.
+    private final LegalActions legalActions = new LegalActions();
+    // Showdown hand ranks by seat.
+    private final int[] handRanks;
+
+    /**
+     * @param state: TableState to play the hands on.
+     * @param strategies: Array of the strategies deciding the actions, one for each seat.
+     */
+    public BettingEngine(TableState state, Strategy[] strategies) {
+        this(state, strategies, new SplittableRandomSource());
+    }
+
+    /**
+     * @param state: TableState to play the hands on.
+     * @param strategies: Array of the strategies deciding the actions, one for each seat.
+     * @param random: RandomSource for the seeds the hands are shuffled from. The engine keeps it, so it shouldn't be
+     *              shared.
+     */
+    public BettingEngine(TableState state, Strategy[] strategies, RandomSource random) {
+        if (strategies.length != state.numSeats) {
+            throw new IllegalArgumentException("Every seat needs a strategy.");
+        }
+        this.state = state;
+        this.strategies = strategies;
+        this.random = random;
+        this.deck = new Deck(handRandom);
+        this.handRanks = new int[state.numSeats];
+    }
+
+    public TableState getState() {
+        return state;
+    }
+
+    /**
+     * Play a fixed number of hands. Whenever a seat runs out of chips it buys back in, so the table never runs out of
+     * players.
+     * @param numHands: int number of hands to play.
+     * @param rebuyChips: int number of chips a seat gets when buying back in.
+     */
+    public void simulate(int numHands, int rebuyChips) {
+        if (rebuyChips <= 0) {
+            throw new IllegalArgumentException("Players must buy back in for a positive number of chips.");
+        }
+        state.dealerSeat = -1;
+        for (int hand = 0; hand < numHands; hand++) {
+            for (int seat = 0; seat < state.numSeats; seat++) {
+                if (state.chips[seat] == 0) {
+                    state.chips[seat] = rebuyChips;
+                }
+            }
+            playHand();
+        }
+    }
+
+    /**
+     * Play one hand, from moving the dealer button to paying the winners.
+     * @return boolean false if there weren't enough seats with chips to play a hand.
+     */
+    public boolean playHand() {
+        long seatsWithChips = state.getSeatsWithChips();
+        if (Long.bitCount(seatsWithChips) <= 1) {
+            return false;
+        }
+        startHand(nextSeat(state.dealerSeat, seatsWithChips), random.nextLong());
+
+        // Heads up the dealer posts the small blind.
+        if (state.numInHand == 2) {
+            nextSeatToAct();
+        }
+        dealHoleCards();
+        postBlind(ActionEnum.SMALL_BLIND, state.smallBlind);
+        postBlind(ActionEnum.BIG_BLIND, state.bigBlind);
+        doBetting();
+        closeBettingRound();
+
+        for (RoundEnum round : ROUNDS) {
+            if (state.numInHand <= 1) {
+                break;
+            }
+            dealBoard(round);
+            doBetting();
+            closeBettingRound();
+        }
+
+        payWinners();
+        return true;
+    }
+
+    /**
+     * Clear out the last hand, deal in the seats with chips and shuffle.
+     * @param dealerSeat: int seat of the dealer.
+     * @param handSeed: long seed to shuffle the deck from.
+     */
+    private void startHand(int dealerSeat, long handSeed) {
+        TableState state = this.state;
+        for (int seat = 0; seat < state.numSeats; seat++) {
+            state.bets[seat] = 0;
+            state.lastAction[seat] = TableState.NO_ACTION;
+            state.holeCards[seat] = 0L;
+        }
+        state.board = 0L;
+        boardState.clear();
+        state.ledger.reset();
+        state.currentBet = 0;
+        state.betIncrement = 0;
+
+        state.inHandSeats = state.getSeatsWithChips();
+        state.numInHand = Long.bitCount(state.inHandSeats);
+        state.allInSeats = 0L;
+        state.numAllIn = 0;
+        state.dealerSeat = dealerSeat;
+        state.handSeed = handSeed;
+        handRandom.setSeed(handSeed);
+        deck.sort();
+        deck.shuffle();
+
+        state.seatToAct = state.dealerSeat;
+        nextSeatToAct();
+    }
+
+    /**
+     * Deal two cards to each seat in the hand, in the same order as GameTable.
+     */
+    private void dealHoleCards() {
+        for (long seats = state.inHandSeats; seats != 0; seats &= seats - 1) {
+            int seat = Long.numberOfTrailingZeros(seats);
+            state.holeCards[seat] = CardSet.bit(deck.deal()) | CardSet.bit(deck.deal());
+        }
+    }
+
+    /**
+     * Burn and deal the board cards of the given round.
+     * @param round: RoundEnum
+     */
+    private void dealBoard(RoundEnum round) {
+        for (int i = 0; i < round.getCardsToBurn(); i++) {
+            deck.deal();
+        }
+        for (int i = 0; i < round.getNumCards(); i++) {
+            Card card = deck.deal();
+            state.board |= CardSet.bit(card);
+            boardState.add(card);
+        }
+    }
+
+    /**
+     * The seat to act posts a blind, or all of its chips if it has less than that.
+     * @param blind: ActionEnum SMALL_BLIND or BIG_BLIND.
+     * @param amount: int size of the blind.
+     */
+    private void postBlind(ActionEnum blind, int amount) {
+        TableState state = this.state;
+        int seat = state.seatToAct;
+        int posted = Math.min(amount, state.chips[seat]);
+        state.lastAction[seat] = (byte) blind.ordinal();
+        bet(seat, posted);
+        raiseTo(state.bets[seat]);
+
+        // A short blind still leaves the full blind as the bet to call.
+        if (blind == ActionEnum.SMALL_BLIND) {
+            if (posted < amount) {
+                state.currentBet = amount;
+                state.betIncrement = amount;
+            }
+        } else {
+            state.betIncrement = amount;
+            if (posted < amount) {
+                state.currentBet = amount;
+            }
+        }
+        checkAllIn();
+        nextSeatToAct();
+    }
+
+    /**
+     * Let every seat that is in the hand and has chips act, until they have all acted since the last raise (or only
+     * one seat is left in the hand).
+     */
+    private void doBetting() {
+        TableState state = this.state;
+        int numToAct = state.numInHand - state.numAllIn;
+        while (numToAct > 0) {
+            int seat = state.seatToAct;
+            long action = strategies[seat].decide(state, computeLegalActions(seat));
+            ActionEnum actionEnum = EncodedAction.getActionEnum(action);
+            int amount = EncodedAction.getAmount(action);
+
+            state.lastAction[seat] = (byte) actionEnum.ordinal();
+            if (amount > 0) {
+                bet(seat, amount);
+                if (actionEnum == ActionEnum.RAISE) {
+                    raiseTo(state.bets[seat]);
+                    // Everyone else that can still act gets to act again.
+                    numToAct = state.numInHand - state.numAllIn - 1;
+                } else {
+                    numToAct--;
+                }
+            } else if (actionEnum == ActionEnum.FOLD) {
+                state.inHandSeats &= ~(1L << seat);
+                state.numInHand--;
+                state.holeCards[seat] = 0L;
+                state.ledger.fold(seat);
+                numToAct = (state.numInHand == 1) ? 0 : numToAct - 1;
+            } else {
+                numToAct--;
+            }
+            checkAllIn();
+            nextSeatToAct();
+        }
+    }
+
+    /**
+     * Work out the legal actions of a seat, the same way as GameTable.
+     * @param seat: int seat to act.
+     * @return LegalActions of the seat, with the amounts for calling and raising.
+     */
+    private LegalActions computeLegalActions(int seat) {
+        TableState state = this.state;
+        int lastBet = state.currentBet;
+        int seatBet = state.bets[seat];
+        int seatChips = state.chips[seat];
+        int callAmount = lastBet > 0 ? lastBet - seatBet : state.bigBlind;
+        int mask;
+
+        if ((state.allInSeats & (1L << seat)) != 0) {
+            mask = CHECK;
+        } else if ((state.numInHand - state.numAllIn) == 1) {
+            // Everyone else is all in, so there is nobody to raise against.
+            mask = ((lastBet == 0) || (seatBet >= lastBet)) ? CHECK : (CALL | FOLD);
+        } else {
+            mask = FOLD;
+            if (lastBet <= 0) {
+                mask |= CHECK | RAISE;
+            } else if (seatBet < lastBet) {
+                mask |= CALL;
+                // A seat that already bet can only raise again if it was raised by at least the bet increment (an
+                // all in for less doesn't reopen the betting), except for the small blind.
+                if ((seatBet == 0) || (state.lastAction[seat] == SMALL_BLIND_ACTION)) {
+                    if (seatChips > (lastBet - seatBet)) {
+                        mask |= RAISE;
+                    }
+                } else if ((state.betIncrement <= lastBet - seatBet) && (seatChips > callAmount)) {
+                    mask |= RAISE;
+                }
+            } else if (seatBet == lastBet) {
+                mask |= CHECK | RAISE;
+            }
+        }
+
+        int toCall = ((mask & CALL) != 0) ? Math.min(lastBet - seatBet, seatChips) : 0;
+        legalActions.set(mask, toCall, lastBet + state.betIncrement - seatBet, seatChips);
+        return legalActions;
+    }
+
+    /**
+     * Move chips from a seat's stack into its bet and the pots.
+     * @param seat: int
+     * @param amount: int chips to bet.
+     * @throws java.lang.IllegalArgumentException: If the seat doesn't have that many chips.
+     */
+    private void bet(int seat, int amount) {
+        TableState state = this.state;
+        if (amount > state.chips[seat]) {
+            throw new IllegalArgumentException("Can't bet more than " + state.chips[seat] + " chips");
+        }
+        state.chips[seat] -= amount;
+        state.bets[seat] += amount;
+        state.ledger.contribute(seat, amount);
+    }
+
+    /**
+     * Raise the current bet. A raise of less than the bet increment (an all in for less) leaves the increment as it
+     * was, so it doesn't lower the next minimum raise.
+     * @param newBet: int the raiser's whole bet in this round.
+     */
+    private void raiseTo(int newBet) {
+        TableState state = this.state;
+        int raiseIncrement = newBet - state.currentBet;
+        state.currentBet = newBet;
+        if (raiseIncrement >= state.betIncrement) {
+            state.betIncrement = raiseIncrement;
+        }
+    }
+
+    /**
+     * Mark the seat to act as all in if it has no chips left.
+     */
+    private void checkAllIn() {
+        TableState state = this.state;
+        long bit = 1L << state.seatToAct;
+        if ((state.chips[state.seatToAct] == 0) && ((state.allInSeats & bit) == 0)) {
+            state.allInSeats |= bit;
+            state.numAllIn++;
+        }
+    }
+
+    /**
+     * Clear the bets for the next betting round, which is started by the first seat after the dealer.
+     */
+    private void closeBettingRound() {
+        TableState state = this.state;
+        for (int seat = 0; seat < state.numSeats; seat++) {
+            state.bets[seat] = 0;
+            // Folds are kept for the rest of the hand.
+            if (state.lastAction[seat] != FOLD_ACTION) {
+                state.lastAction[seat] = TableState.NO_ACTION;
+            }
+        }
+        state.currentBet = 0;
+        state.betIncrement = state.bigBlind;
+        state.seatToAct = state.dealerSeat;
+        nextSeatToAct();
+    }
+
+    /**
+     * Move the seat to act to the next seat that is in the hand and not all in. If there is none, it stays put.
+     */
+    private void nextSeatToAct() {
+        long canAct = state.inHandSeats & ~state.allInSeats;
+        if (canAct != 0) {
+            state.seatToAct = nextSeat(state.seatToAct, canAct);
+        }
+    }
+
+    /**
+     * @param seat: int seat to start after (-1 to start from the first seat).
+     * @param seats: long mask of the seats to choose from, must not be empty.
+     * @return int first seat in the mask after the given seat, going around the table.
+     */
+    private static int nextSeat(int seat, long seats) {
+        long after = seats & (-2L << seat);
+        return Long.numberOfTrailingZeros((after != 0) ? after : seats);
+    }
+
+    /**
+     * Pay out the pots. If everyone else folded the last seat in the hand takes everything, otherwise each pot goes to
+     * the best hands among the seats that can win it. Split pots are shared evenly, with the odd chips going to the
+     * lowest seats.
+     */
+    private void payWinners() {
+        TableState state = this.state;
+        ContributionLedger ledger = state.ledger;
+        if (state.numInHand == 1) {
+            state.chips[Long.numberOfTrailingZeros(state.inHandSeats)] += ledger.getTotalPot();
+            return;
+        }
+
+        // Rank each hand once.
+        for (long seats = state.inHandSeats; seats != 0; seats &= seats - 1) {
+            int seat = Long.numberOfTrailingZeros(seats);
+            handRanks[seat] = boardState.handRank(state.holeCards[seat]);
+        }
+
+        int numPots = ledger.calculatePots();
+        for (int pot = 0; pot < numPots; pot++) {
+            long winners = 0L;
+            int bestHandRank = Integer.MIN_VALUE;
+            for (long seats = ledger.getEligibleSeats(pot); seats != 0; seats &= seats - 1) {
+                int seat = Long.numberOfTrailingZeros(seats);
+                if (handRanks[seat] > bestHandRank) {
+                    bestHandRank = handRanks[seat];
+                    winners = 1L << seat;
+                } else if (handRanks[seat] == bestHandRank) {
+                    winners |= 1L << seat;
+                }
+            }
+
+            int amount = ledger.getPotAmount(pot);
+            int numWinners = Long.bitCount(winners);
+            int remainder = amount % numWinners;
+            for (long seats = winners; seats != 0; seats &= seats - 1) {
+                int seat = Long.numberOfTrailingZeros(seats);
+                state.chips[seat] += amount / numWinners + ((remainder-- > 0) ? 1 : 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.poker.engine;
+
+import com.poker.RandomSource;
+import com.poker.SplittableRandomSource;
+import com.poker.actions.LegalActions;
+import com.poker.player.RobotPlayer;
+
+/**
+ * Plays a seat the same way a RobotPlayer does. Given the same random source, it makes the same choices.
+ */
+public class RobotStrategy implements Strategy {
+
+    private final RandomSource random;
+
+    public RobotStrategy() {
+        this(new SplittableRandomSource());
+    }
+
+    /**
+     * @param random: RandomSource for the robot's decisions. Robots at the same table should each get their own.
+     */
+    public RobotStrategy(RandomSource random) {
+        this.random = random;
+    }
+
+    @Override
+    public long decide(TableView table, LegalActions legalActions) {
+        return RobotPlayer.chooseAction(legalActions, random);
+    }
+}
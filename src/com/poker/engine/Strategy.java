@@ -0,0 +1,18 @@
+package com.poker.engine;
+
+import com.poker.actions.LegalActions;
+
+/**
+ * Decides the actions of a seat at a table played by the BettingEngine. This is the engine's counterpart to Player:
+ * the strategy holds no chips or cards itself, it only gets a read-only view of the table when it is its turn.
+ */
+public interface Strategy {
+
+    /**
+     * @param table: TableView of the table. The seat to act is the seat deciding.
+     * @param legalActions: LegalActions the seat can perform, with the amounts for calling and raising. It is reused
+     *                    for every decision, so it shouldn't be kept.
+     * @return long encoded action (see EncodedAction), one of the legal actions.
+     */
+    long decide(TableView table, LegalActions legalActions);
+}
@@ -0,0 +1,181 @@
+package com.poker.engine;
+
+import com.poker.actions.ActionEnum;
+import com.poker.pots.ContributionLedger;
+
+/**
+ * The whole state of a table, kept in primitive arrays indexed by seat instead of in Player objects, so that the
+ * BettingEngine can play hands without chasing pointers or allocating anything. Everything a hand changes is in here:
+ * the chips, bets and last actions of each seat, the hole cards and board packed into longs (see CardSet), the seats
+ * in the hand as masks, and the chips put into the pots (in a ContributionLedger).
+ *
+ * Strategies get the table as a TableView, which can't change anything. Only the engine (and whoever seats the
+ * players, with setChips()) changes the state.
+ */
+public class TableState implements TableView {
+    public static final int MAX_SEATS = ContributionLedger.MAX_SEATS;
+
+    // Stored in lastAction for seats that haven't acted in this betting round.
+    static final byte NO_ACTION = -1;
+    private static final ActionEnum[] ACTIONS = ActionEnum.values();
+
+    final int numSeats;
+    final int smallBlind;
+    final int bigBlind;
+
+    final int[] chips;
+    final int[] bets;
+    // ActionEnum ordinals, or NO_ACTION.
+    final byte[] lastAction;
+    final long[] holeCards;
+    long board;
+
+    long inHandSeats;
+    long allInSeats;
+    int numInHand;
+    int numAllIn;
+    int dealerSeat;
+    int seatToAct;
+    long handSeed;
+
+    int currentBet;
+    int betIncrement;
+    final ContributionLedger ledger;
+
+    /**
+     * @param numSeats: int number of seats at the table (2 to MAX_SEATS). Every seat starts with no chips.
+     * @param smallBlind: int
+     * @param bigBlind: int
+     * @throws java.lang.IllegalArgumentException: If the number of seats is out of range.
+     */
+    public TableState(int numSeats, int smallBlind, int bigBlind) {
+        if ((numSeats < 2) || (numSeats > MAX_SEATS)) {
+            throw new IllegalArgumentException("A table has between 2 and " + MAX_SEATS + " seats.");
+        }
+        this.numSeats = numSeats;
+        this.smallBlind = smallBlind;
+        this.bigBlind = bigBlind;
+        this.chips = new int[numSeats];
+        this.bets = new int[numSeats];
+        this.lastAction = new byte[numSeats];
+        this.holeCards = new long[numSeats];
+        this.ledger = new ContributionLedger(numSeats);
+        this.dealerSeat = -1;
+    }
+
+    /**
+     * Set the chips of a seat, e.g. to seat a player or buy back in between hands.
+     * @param seat: int
+     * @param numChips: int
+     */
+    public void setChips(int seat, int numChips) {
+        if (numChips < 0) {
+            throw new IllegalArgumentException("A seat can't have a negative number of chips.");
+        }
+        chips[seat] = numChips;
+    }
+
+    /**
+     * @return long mask of the seats that have chips.
+     */
+    public long getSeatsWithChips() {
+        long seats = 0L;
+        for (int seat = 0; seat < numSeats; seat++) {
+            if (chips[seat] > 0) {
+                seats |= 1L << seat;
+            }
+        }
+        return seats;
+    }
+
+    /**
+     * @return long seed the current (or last) hand was shuffled from. GameTable.replayHand() can play the hand again
+     * from it.
+     */
+    public long getHandSeed() {
+        return handSeed;
+    }
+
+    /**
+     * @param seat: int
+     * @return long packed hole cards of any seat. Strategies only see their own, through getHoleCards().
+     */
+    public long getHoleCards(int seat) {
+        return holeCards[seat];
+    }
+
+    @Override
+    public int getNumSeats() {
+        return numSeats;
+    }
+
+    @Override
+    public int getSmallBlind() {
+        return smallBlind;
+    }
+
+    @Override
+    public int getBigBlind() {
+        return bigBlind;
+    }
+
+    @Override
+    public int getChips(int seat) {
+        return chips[seat];
+    }
+
+    @Override
+    public int getBet(int seat) {
+        return bets[seat];
+    }
+
+    @Override
+    public ActionEnum getLastAction(int seat) {
+        return (lastAction[seat] == NO_ACTION) ? null : ACTIONS[lastAction[seat]];
+    }
+
+    @Override
+    public long getInHandSeats() {
+        return inHandSeats;
+    }
+
+    @Override
+    public long getAllInSeats() {
+        return allInSeats;
+    }
+
+    @Override
+    public int getDealerSeat() {
+        return dealerSeat;
+    }
+
+    @Override
+    public int getSeatToAct() {
+        return seatToAct;
+    }
+
+    @Override
+    public long getHoleCards() {
+        return holeCards[seatToAct];
+    }
+
+    @Override
+    public long getBoard() {
+        return board;
+    }
+
+    @Override
+    public int getCurrentBet() {
+        return currentBet;
+    }
+
+    @Override
+    public int getBetIncrement() {
+        return betIncrement;
+    }
+
+    @Override
+    public int getTotalPot() {
+        return ledger.getTotalPot();
+    }
+}
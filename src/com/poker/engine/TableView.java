@@ -0,0 +1,77 @@
+package com.poker.engine;
+
+import com.poker.actions.ActionEnum;
+
+/**
+ * What a strategy can see of a table while it decides on an action. It is a read-only view of the table's state, so
+ * strategies can't change the chips, bets or cards, and they only get to see the hole cards of the seat to act.
+ *
+ * Seats are numbered from 0, and sets of seats are returned as masks with bit N set for seat N. Cards are packed into
+ * longs the same way as CardSet.
+ */
+public interface TableView {
+
+    int getNumSeats();
+
+    int getSmallBlind();
+
+    int getBigBlind();
+
+    /**
+     * @param seat: int
+     * @return int chips the seat has left (not counting what it has put into the pots).
+     */
+    int getChips(int seat);
+
+    /**
+     * @param seat: int
+     * @return int chips the seat has bet in this betting round.
+     */
+    int getBet(int seat);
+
+    /**
+     * @param seat: int
+     * @return ActionEnum the seat's last action in this betting round (folds last the whole hand), or null if it
+     * hasn't acted yet.
+     */
+    ActionEnum getLastAction(int seat);
+
+    /**
+     * @return long mask of the seats dealt into the hand that haven't folded.
+     */
+    long getInHandSeats();
+
+    /**
+     * @return long mask of the seats in the hand with no chips left.
+     */
+    long getAllInSeats();
+
+    int getDealerSeat();
+
+    int getSeatToAct();
+
+    /**
+     * @return long packed hole cards of the seat to act.
+     */
+    long getHoleCards();
+
+    /**
+     * @return long packed cards on the board.
+     */
+    long getBoard();
+
+    /**
+     * @return int highest bet in this betting round.
+     */
+    int getCurrentBet();
+
+    /**
+     * @return int smallest amount the current bet can be raised by.
+     */
+    int getBetIncrement();
+
+    /**
+     * @return int chips put in by everyone over the whole hand.
+     */
+    int getTotalPot();
+}
@@ -0,0 +1,64 @@
+package com.poker.equity;
+
+/**
+ * Walks every way of choosing k items out of n, in lexicographic order, reusing the same array of indices for every
+ * combination so walking them does not allocate anything.
+ *
+ * Usage:
+ *     for (boolean more = combinations.first(); more; more = combinations.next()) {
+ *         ... combinations.get(0) ... combinations.get(k - 1)
+ *     }
+ */
+class CombinationIterator {
+    private final int n;
+    private final int k;
+    private final int[] indices;
+
+    CombinationIterator(int n, int k) {
+        if ((k < 0) || (k > n)) {
+            throw new IllegalArgumentException("Can't choose " + k + " out of " + n);
+        }
+        this.n = n;
+        this.k = k;
+        this.indices = new int[k];
+    }
+
+    /**
+     * Move to the first combination (0, 1, ..., k - 1).
+     * @return true, there is always at least one combination.
+     */
+    boolean first() {
+        for (int i = 0; i < k; i++) {
+            indices[i] = i;
+        }
+        return true;
+    }
+
+    /**
+     * Move to the next combination. Find the rightmost index that can still move up, move it, and put the indices
+     * after it right behind it.
+     * @return false if the last combination was already reached.
+     */
+    boolean next() {
+        int i = k - 1;
+        while ((i >= 0) && (indices[i] == (n - k + i))) {
+            i--;
+        }
+        if (i < 0) {
+            return false;
+        }
+        indices[i]++;
+        for (int j = i + 1; j < k; j++) {
+            indices[j] = indices[j - 1] + 1;
+        }
+        return true;
+    }
+
+    /**
+     * @param position: int position in the combination (0 to k - 1).
+     * @return int index of the item chosen at that position.
+     */
+    int get(int position) {
+        return indices[position];
+    }
+}
@@ -0,0 +1,178 @@
+package com.poker.equity;
+
+import com.poker.CardSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class estimates each player's chance of winning a showdown by finishing the board at random many times over
+ * and counting who wins.
+ *
+ * The boards are split up between a number of workers that run on a ForkJoinPool. Every worker has its own random
+ * number stream (split off from the calculator's stream), its own copy of the remaining cards and its own tally, so
+ * the workers never have to coordinate until their tallies are merged at the end. Inside a worker nothing is
+ * allocated per board: the remaining cards are partially shuffled in place to pick the board cards, and the hands are
+ * scored straight off the per suit rank masks.
+ */
+public class EquityCalculator {
+    // The boards are always split between the same number of workers, whatever the size of the pool, so that a seed
+    // gives the same boards on any pool. There are several per thread, so a thread that finishes early can take a
+    // worker another thread hasn't started.
+    private static final int NUM_WORKERS = 64;
+
+    // How many boards a worker plays between checks of the clock.
+    private static final int BOARDS_PER_CLOCK_CHECK = 1024;
+
+    private static final long NANOS_PER_MILLI = 1000000L;
+
+    private final ForkJoinPool pool;
+    private final SplittableRandom random;
+
+    public EquityCalculator() {
+        this(ForkJoinPool.commonPool(), new SplittableRandom());
+    }
+
+    /**
+     * @param pool: ForkJoinPool to run the workers on.
+     * @param seed: long seed for the random boards. The same seed and number of boards give the same result, on a
+     * pool of any size (as long as the time budget doesn't run out).
+     */
+    public EquityCalculator(ForkJoinPool pool, long seed) {
+        this(pool, new SplittableRandom(seed));
+    }
+
+    private EquityCalculator(ForkJoinPool pool, SplittableRandom random) {
+        this.pool = pool;
+        this.random = random;
+    }
+
+    /**
+     * Estimate equity from a fixed number of random boards.
+     * @param holeCards: CardSet of two hole cards for each player.
+     * @param board: CardSet of the cards already on the board (0 to 5).
+     * @param deadCards: CardSet of cards that can't be dealt (e.g. folded cards).
+     * @param numBoards: long number of boards to play out.
+     * @return EquityResult
+     */
+    public EquityResult calculate(CardSet[] holeCards, CardSet board, CardSet deadCards, long numBoards) {
+        return calculate(holeCards, board, deadCards, numBoards, Long.MAX_VALUE);
+    }
+
+    /**
+     * Estimate equity from random boards, stopping once numBoards boards were played or the time budget runs out,
+     * whichever comes first.
+     * @param holeCards: CardSet of two hole cards for each player.
+     * @param board: CardSet of the cards already on the board (0 to 5).
+     * @param deadCards: CardSet of cards that can't be dealt (e.g. folded cards).
+     * @param numBoards: long maximum number of boards to play out.
+     * @param timeBudgetMillis: long number of milliseconds to spend at most.
+     * @return EquityResult
+     */
+    public synchronized EquityResult calculate(CardSet[] holeCards, CardSet board, CardSet deadCards,
+                                               long numBoards, long timeBudgetMillis) {
+        if (numBoards <= 0) {
+            throw new IllegalArgumentException("The number of boards must be positive");
+        }
+        if (timeBudgetMillis <= 0) {
+            throw new IllegalArgumentException("The time budget must be positive");
+        }
+
+        Showdown showdown = new Showdown(holeCards, board, deadCards);
+        long start = System.nanoTime();
+        long budgetNanos = (timeBudgetMillis >= Long.MAX_VALUE / NANOS_PER_MILLI) ? Long.MAX_VALUE :
+                timeBudgetMillis * NANOS_PER_MILLI;
+
+        // Deal out the boards between the workers as evenly as we can.
+        int numWorkers = (int) Math.min(numBoards, NUM_WORKERS);
+        List<RolloutTask> workers = new ArrayList<RolloutTask>(numWorkers);
+        for (int i = 0; i < numWorkers; i++) {
+            long workerBoards = (numBoards / numWorkers) + ((i < (numBoards % numWorkers)) ? 1 : 0);
+            workers.add(new RolloutTask(showdown, random.split(), workerBoards, start, budgetNanos));
+        }
+
+        Tally tally = pool.invoke(new MergeTask(workers, showdown.getNumPlayers()));
+        return new EquityResult(tally, false);
+    }
+
+    /**
+     * Runs every worker and merges their tallies.
+     */
+    private static class MergeTask extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<RolloutTask> workers;
+        private final int numPlayers;
+
+        MergeTask(List<RolloutTask> workers, int numPlayers) {
+            this.workers = workers;
+            this.numPlayers = numPlayers;
+        }
+
+        @Override
+        protected Tally compute() {
+            invokeAll(workers);
+            Tally tally = new Tally(numPlayers);
+            for (RolloutTask worker : workers) {
+                tally.merge(worker.join());
+            }
+            return tally;
+        }
+    }
+
+    /**
+     * Plays out random boards for one worker.
+     */
+    private static class RolloutTask extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+
+        private final Showdown showdown;
+        private final SplittableRandom random;
+        private final long numBoards;
+        private final long start;
+        private final long budgetNanos;
+
+        RolloutTask(Showdown showdown, SplittableRandom random, long numBoards, long start, long budgetNanos) {
+            this.showdown = showdown;
+            this.random = random;
+            this.numBoards = numBoards;
+            this.start = start;
+            this.budgetNanos = budgetNanos;
+        }
+
+        @Override
+        protected Tally compute() {
+            Tally tally = new Tally(showdown.getNumPlayers());
+            int[] deck = showdown.copyDeck();
+            int[] masks = new int[Showdown.NUM_SUITS];
+            int cardsToCome = showdown.getCardsToCome();
+
+            for (long board = 0; board < numBoards; board++) {
+                if ((budgetNanos != Long.MAX_VALUE) && ((board % BOARDS_PER_CLOCK_CHECK) == 0) &&
+                        ((System.nanoTime() - start) >= budgetNanos)) {
+                    break;
+                }
+
+                for (int suit = 0; suit < Showdown.NUM_SUITS; suit++) {
+                    masks[suit] = showdown.getBoardMask(suit);
+                }
+
+                // Move a random card to the front of the deck for each card left to deal. The deck stays a
+                // permutation of the remaining cards, so it can be shuffled again for the next board as is.
+                for (int i = 0; i < cardsToCome; i++) {
+                    int swap = i + random.nextInt(deck.length - i);
+                    int card = deck[swap];
+                    deck[swap] = deck[i];
+                    deck[i] = card;
+                    masks[card % Showdown.NUM_SUITS] |= 1 << (card / Showdown.NUM_SUITS);
+                }
+
+                showdown.play(masks[0], masks[1], masks[2], masks[3], tally);
+            }
+            return tally;
+        }
+    }
+}
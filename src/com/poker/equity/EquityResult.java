@@ -0,0 +1,112 @@
+package com.poker.equity;
+
+/**
+ * This class holds how often each player wins, ties and loses a showdown, and their equity: the share of the pot they
+ * can expect to take (a win counts fully, a tie counts as an even split with the other winners).
+ *
+ * Results estimated from random boards also carry a 95% confidence interval for the equity. Results that come from
+ * enumerating every board are exact, so their interval is 0.
+ */
+public class EquityResult {
+    // Number of standard errors either side of the mean that covers 95% of a normal distribution.
+    private static final double Z_95 = 1.96;
+
+    private final long numBoards;
+    private final boolean exact;
+    private final double[] win;
+    private final double[] tie;
+    private final double[] equity;
+    private final double[] confidenceInterval;
+
+    EquityResult(Tally tally, boolean exact) {
+        int numPlayers = tally.getNumPlayers();
+        this.numBoards = tally.getNumBoards();
+        this.exact = exact;
+        this.win = new double[numPlayers];
+        this.tie = new double[numPlayers];
+        this.equity = new double[numPlayers];
+        this.confidenceInterval = new double[numPlayers];
+
+        if (numBoards == 0) {
+            return;
+        }
+        for (int player = 0; player < numPlayers; player++) {
+            win[player] = (double) tally.getWins(player) / numBoards;
+            tie[player] = (double) tally.getTies(player) / numBoards;
+            equity[player] = tally.getShares(player) / numBoards;
+            if (!exact) {
+                double variance = (tally.getSquaredShares(player) / numBoards) - (equity[player] * equity[player]);
+                confidenceInterval[player] = Z_95 * Math.sqrt(Math.max(variance, 0) / numBoards);
+            }
+        }
+    }
+
+    public int getNumPlayers() {
+        return equity.length;
+    }
+
+    /**
+     * @return long number of boards the result is based on.
+     */
+    public long getNumBoards() {
+        return numBoards;
+    }
+
+    /**
+     * @return true if every possible board was played out, false if the result is estimated from random boards.
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    /**
+     * @param player: int index of the player (in the order the hole cards were given).
+     * @return double fraction of boards the player wins outright.
+     */
+    public double getWin(int player) {
+        return win[player];
+    }
+
+    /**
+     * @param player: int index of the player.
+     * @return double fraction of boards the player splits with at least one other player.
+     */
+    public double getTie(int player) {
+        return tie[player];
+    }
+
+    /**
+     * @param player: int index of the player.
+     * @return double fraction of boards the player loses.
+     */
+    public double getLoss(int player) {
+        return (numBoards == 0) ? 0 : 1 - win[player] - tie[player];
+    }
+
+    /**
+     * @param player: int index of the player.
+     * @return double share of the pot the player can expect to win.
+     */
+    public double getEquity(int player) {
+        return equity[player];
+    }
+
+    /**
+     * @param player: int index of the player.
+     * @return double half width of the 95% confidence interval of the player's equity (0 for exact results).
+     */
+    public double getConfidenceInterval(int player) {
+        return confidenceInterval[player];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("%s boards (%s)", numBoards, exact ? "exact" : "estimated"));
+        for (int player = 0; player < equity.length; player++) {
+            builder.append(String.format("%nPlayer %d: win %.4f, tie %.4f, lose %.4f, equity %.4f +/- %.4f", player,
+                    win[player], tie[player], getLoss(player), equity[player], confidenceInterval[player]));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,128 @@
+package com.poker.equity;
+
+import com.poker.CardSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class calculates each player's exact chance of winning a showdown by playing out every board that can still
+ * come. This is what we want once everyone is all in (see GameTable.areOpponentsAllIn()): there are no decisions left,
+ * and there are few enough boards to go through all of them (1,712,304 heads up before the flop, 990 on the flop).
+ *
+ * The boards are split up by the first card still to be dealt: one worker plays every board whose lowest new card is
+ * a given card, so the workers never play the same board twice. The workers run on a ForkJoinPool, each with its own
+ * tally, and walk their boards with a CombinationIterator so nothing is allocated per board.
+ */
+public class ExactEquityCalculator {
+
+    private final ForkJoinPool pool;
+
+    public ExactEquityCalculator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pool: ForkJoinPool to run the workers on.
+     */
+    public ExactEquityCalculator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Calculate the exact equity of every player.
+     * @param holeCards: CardSet of two hole cards for each player.
+     * @param board: CardSet of the cards already on the board (0 to 5).
+     * @param deadCards: CardSet of cards that can't be dealt (e.g. folded cards).
+     * @return EquityResult
+     */
+    public EquityResult calculate(CardSet[] holeCards, CardSet board, CardSet deadCards) {
+        Showdown showdown = new Showdown(holeCards, board, deadCards);
+        Tally tally;
+        if (showdown.getCardsToCome() == 0) {
+            tally = new Tally(showdown.getNumPlayers());
+            showdown.play(showdown.getBoardMask(0), showdown.getBoardMask(1), showdown.getBoardMask(2),
+                    showdown.getBoardMask(3), tally);
+        } else {
+            tally = pool.invoke(new MergeTask(showdown));
+        }
+        return new EquityResult(tally, true);
+    }
+
+    /**
+     * Creates one worker for every card that can be the first of the new board cards, runs them all, and merges
+     * their tallies.
+     */
+    private static class MergeTask extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+
+        private final Showdown showdown;
+
+        MergeTask(Showdown showdown) {
+            this.showdown = showdown;
+        }
+
+        @Override
+        protected Tally compute() {
+            int numFirstCards = showdown.getNumRemainingCards() - showdown.getCardsToCome() + 1;
+            List<EnumerationTask> workers = new ArrayList<EnumerationTask>(numFirstCards);
+            for (int firstCard = 0; firstCard < numFirstCards; firstCard++) {
+                workers.add(new EnumerationTask(showdown, firstCard));
+            }
+            invokeAll(workers);
+
+            Tally tally = new Tally(showdown.getNumPlayers());
+            for (EnumerationTask worker : workers) {
+                tally.merge(worker.join());
+            }
+            return tally;
+        }
+    }
+
+    /**
+     * Plays every board whose first new card is deck[firstCard] and whose other new cards come after it in the deck.
+     */
+    private static class EnumerationTask extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+
+        private final Showdown showdown;
+        private final int firstCard;
+
+        EnumerationTask(Showdown showdown, int firstCard) {
+            this.showdown = showdown;
+            this.firstCard = firstCard;
+        }
+
+        @Override
+        protected Tally compute() {
+            Tally tally = new Tally(showdown.getNumPlayers());
+            int[] deck = showdown.copyDeck();
+            int[] firstMasks = new int[Showdown.NUM_SUITS];
+            int[] masks = new int[Showdown.NUM_SUITS];
+
+            for (int suit = 0; suit < Showdown.NUM_SUITS; suit++) {
+                firstMasks[suit] = showdown.getBoardMask(suit);
+            }
+            int card = deck[firstCard];
+            firstMasks[card % Showdown.NUM_SUITS] |= 1 << (card / Showdown.NUM_SUITS);
+
+            // The rest of the board is chosen out of the cards after the first card.
+            int restStart = firstCard + 1;
+            int restSize = showdown.getCardsToCome() - 1;
+            CombinationIterator rest = new CombinationIterator(deck.length - restStart, restSize);
+            for (boolean more = rest.first(); more; more = rest.next()) {
+                for (int suit = 0; suit < Showdown.NUM_SUITS; suit++) {
+                    masks[suit] = firstMasks[suit];
+                }
+                for (int i = 0; i < restSize; i++) {
+                    card = deck[restStart + rest.get(i)];
+                    masks[card % Showdown.NUM_SUITS] |= 1 << (card / Showdown.NUM_SUITS);
+                }
+                showdown.play(masks[0], masks[1], masks[2], masks[3], tally);
+            }
+            return tally;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.poker.equity;
+
+import com.poker.Card;
+import com.poker.CardSet;
+import com.poker.hands.LookupHandEvaluator;
+
+/**
+ * This class describes a showdown whose board is not finished yet: the hole cards of every player, the cards already
+ * on the board, and the cards that can still be dealt. Everything is kept as the per suit rank masks that the
+ * LookupHandEvaluator works from, so playing out one board is just a handful of ors and table lookups per player.
+ */
+class Showdown {
+    static final int NUM_SUITS = 4;
+    static final int NUM_BOARD_CARDS = 5;
+
+    private final int numPlayers;
+
+    // Rank masks of each player's hole cards, 4 per player, indexed by (player * NUM_SUITS) + suit value.
+    private final int[] holeMasks;
+
+    // Rank masks of the cards already on the board, indexed by suit value.
+    private final int[] boardMasks = new int[NUM_SUITS];
+
+    // Ordinals of the cards that can still be dealt to the board, lowest first.
+    private final int[] deck;
+
+    private final int cardsToCome;
+
+    /**
+     * @param holeCards: CardSet of two hole cards for each player.
+     * @param board: CardSet of the cards already on the board (0 to 5).
+     * @param deadCards: CardSet of cards that are known to be out of the deck (e.g. folded or burned cards).
+     */
+    Showdown(CardSet[] holeCards, CardSet board, CardSet deadCards) {
+        if (holeCards.length < 2) {
+            throw new IllegalArgumentException("At least two players are needed for a showdown");
+        }
+        if (board.size() > NUM_BOARD_CARDS) {
+            throw new IllegalArgumentException("The board can't have more than " + NUM_BOARD_CARDS + " cards");
+        }
+
+        numPlayers = holeCards.length;
+        holeMasks = new int[numPlayers * NUM_SUITS];
+        long usedCards = board.getBits();
+        for (int player = 0; player < numPlayers; player++) {
+            CardSet cards = holeCards[player];
+            if (cards.size() != 2) {
+                throw new IllegalArgumentException("Every player needs exactly two hole cards");
+            }
+            if ((cards.getBits() & usedCards) != 0) {
+                throw new IllegalArgumentException("The same card can't be dealt twice: " + cards);
+            }
+            usedCards |= cards.getBits();
+            for (int suit = 0; suit < NUM_SUITS; suit++) {
+                holeMasks[(player * NUM_SUITS) + suit] = CardSet.suitMask(cards.getBits(), suit);
+            }
+        }
+        for (int suit = 0; suit < NUM_SUITS; suit++) {
+            boardMasks[suit] = CardSet.suitMask(board.getBits(), suit);
+        }
+
+        cardsToCome = NUM_BOARD_CARDS - board.size();
+        long remaining = ~(usedCards | deadCards.getBits()) & ((1L << Card.NUM_CARDS) - 1);
+        deck = new int[Long.bitCount(remaining)];
+        for (int i = 0; i < deck.length; i++) {
+            deck[i] = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+        }
+        if (deck.length < cardsToCome) {
+            throw new IllegalArgumentException("Not enough cards left to finish the board");
+        }
+    }
+
+    int getNumPlayers() {
+        return numPlayers;
+    }
+
+    int getCardsToCome() {
+        return cardsToCome;
+    }
+
+    int getNumRemainingCards() {
+        return deck.length;
+    }
+
+    int getBoardMask(int suit) {
+        return boardMasks[suit];
+    }
+
+    /**
+     * @return a copy of the cards that can still be dealt, for a worker to shuffle in place.
+     */
+    int[] copyDeck() {
+        return deck.clone();
+    }
+
+    /**
+     * Play out the showdown on a finished board and record who won in the tally.
+     */
+    void play(int diamonds, int clubs, int hearts, int spades, Tally tally) {
+        int[] ranks = tally.getRanks();
+        int bestRank = -1;
+        int numWinners = 0;
+        for (int player = 0; player < numPlayers; player++) {
+            int offset = player * NUM_SUITS;
+            int handRank = LookupHandEvaluator.handRank(diamonds | holeMasks[offset], clubs | holeMasks[offset + 1],
+                    hearts | holeMasks[offset + 2], spades | holeMasks[offset + 3]);
+            ranks[player] = handRank;
+            if (handRank > bestRank) {
+                bestRank = handRank;
+                numWinners = 1;
+            } else if (handRank == bestRank) {
+                numWinners++;
+            }
+        }
+        tally.record(bestRank, numWinners);
+    }
+}
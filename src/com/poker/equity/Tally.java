@@ -0,0 +1,90 @@
+package com.poker.equity;
+
+/**
+ * Running totals of how each player did over the boards a worker has played out. Every worker keeps its own tally
+ * so nothing is shared while boards are being played, and the tallies are merged once the workers are done.
+ */
+class Tally {
+    private final int numPlayers;
+
+    // Hand ranks of the board currently being played, filled in by Showdown.play().
+    private final int[] ranks;
+
+    private long numBoards;
+    private final long[] wins;
+    private final long[] ties;
+
+    // Sum of each player's share of the pot per board, and the sum of the squares of those shares, so we can tell
+    // how much the equity varies from board to board.
+    private final double[] shares;
+    private final double[] squaredShares;
+
+    Tally(int numPlayers) {
+        this.numPlayers = numPlayers;
+        this.ranks = new int[numPlayers];
+        this.wins = new long[numPlayers];
+        this.ties = new long[numPlayers];
+        this.shares = new double[numPlayers];
+        this.squaredShares = new double[numPlayers];
+    }
+
+    int[] getRanks() {
+        return ranks;
+    }
+
+    /**
+     * Record one board. Every player whose rank is the best rank wins (or ties if there is more than one of them).
+     */
+    void record(int bestRank, int numWinners) {
+        numBoards++;
+        double share = 1.0 / numWinners;
+        for (int player = 0; player < numPlayers; player++) {
+            if (ranks[player] == bestRank) {
+                if (numWinners == 1) {
+                    wins[player]++;
+                } else {
+                    ties[player]++;
+                }
+                shares[player] += share;
+                squaredShares[player] += share * share;
+            }
+        }
+    }
+
+    /**
+     * Add another worker's totals to this one.
+     */
+    void merge(Tally other) {
+        numBoards += other.numBoards;
+        for (int player = 0; player < numPlayers; player++) {
+            wins[player] += other.wins[player];
+            ties[player] += other.ties[player];
+            shares[player] += other.shares[player];
+            squaredShares[player] += other.squaredShares[player];
+        }
+    }
+
+    int getNumPlayers() {
+        return numPlayers;
+    }
+
+    long getNumBoards() {
+        return numBoards;
+    }
+
+    long getWins(int player) {
+        return wins[player];
+    }
+
+    long getTies(int player) {
+        return ties[player];
+    }
+
+    double getShares(int player) {
+        return shares[player];
+    }
+
+    double getSquaredShares(int player) {
+        return squaredShares[player];
+    }
+}
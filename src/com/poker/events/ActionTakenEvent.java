@@ -0,0 +1,42 @@
+package com.poker.events;
+
+import com.poker.actions.ActionEnum;
+
+/**
+ * Created when a player acts.
+ */
+public class ActionTakenEvent {
+    private final int seat;
+    private final ActionEnum action;
+    private final int amount;
+    private final int totalPot;
+
+    /**
+     * @param seat: int seat of the player that acted.
+     * @param action: ActionEnum type of action.
+     * @param amount: int number of chips the player put in with this action (0 for checks and folds).
+     * @param totalPot: int number of chips in all the pots after the action.
+     */
+    public ActionTakenEvent(int seat, ActionEnum action, int amount, int totalPot) {
+        this.seat = seat;
+        this.action = action;
+        this.amount = amount;
+        this.totalPot = totalPot;
+    }
+
+    public int getSeat() {
+        return seat;
+    }
+
+    public ActionEnum getAction() {
+        return action;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public int getTotalPot() {
+        return totalPot;
+    }
+}
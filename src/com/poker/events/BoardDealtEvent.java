@@ -0,0 +1,35 @@
+package com.poker.events;
+
+import com.poker.RoundEnum;
+
+/**
+ * Created when the flop, turn or river is dealt.
+ */
+public class BoardDealtEvent {
+    private final RoundEnum round;
+    private final long boardCards;
+    private final long activeSeats;
+
+    /**
+     * @param round: RoundEnum that was dealt.
+     * @param boardCards: long packed set (see CardSet) of all the cards on the board so far.
+     * @param activeSeats: long mask of the seats still in the hand (bit N is set for seat N).
+     */
+    public BoardDealtEvent(RoundEnum round, long boardCards, long activeSeats) {
+        this.round = round;
+        this.boardCards = boardCards;
+        this.activeSeats = activeSeats;
+    }
+
+    public RoundEnum getRound() {
+        return round;
+    }
+
+    public long getBoardCards() {
+        return boardCards;
+    }
+
+    public long getActiveSeats() {
+        return activeSeats;
+    }
+}
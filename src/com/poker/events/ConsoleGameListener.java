@@ -0,0 +1,127 @@
+package com.poker.events;
+
+import com.poker.CardSet;
+import com.poker.hands.HandEvaluator;
+import com.poker.player.Player;
+import com.poker.pots.PotManager;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Prints what happens at the table to the console, so the human players can follow the game.
+ */
+public class ConsoleGameListener implements GameListener {
+    private final List<Player> players;
+    private final PrintStream out;
+
+    /**
+     * @param players: List of players at the table, in the same order the table was created with (their seats).
+     */
+    public ConsoleGameListener(List<Player> players) {
+        this(players, System.out);
+    }
+
+    public ConsoleGameListener(List<Player> players, PrintStream out) {
+        this.players = players;
+        this.out = out;
+    }
+
+    @Override
+    public void onHandStarted(HandStartedEvent event) {
+        if (event.getHandNumber() > 1) {
+            out.println("\nStarting next hand\n\n...");
+        }
+        out.println(String.format("New hand, %s is the dealer.", players.get(event.getDealerSeat())));
+        displayPlayers(event.getActiveSeats());
+
+        // Show the human player their cards.
+        for (Player player : seated(event.getActiveSeats())) {
+            if (player.isMyPointOfView()) {
+                out.println("Your cards: " + Arrays.toString(player.getCards()));
+            }
+        }
+    }
+
+    @Override
+    public void onActionTaken(ActionTakenEvent event) {
+        out.println(String.format("%s %s", players.get(event.getSeat()),
+                event.getAction().description(event.getAmount())));
+    }
+
+    @Override
+    public void onBoardDealt(BoardDealtEvent event) {
+        out.println(String.format("Dealing %s: %s", event.getRound(), new CardSet(event.getBoardCards())));
+        displayPlayers(event.getActiveSeats());
+    }
+
+    @Override
+    public void onPotsClosed(PotsClosedEvent event) {
+        String str = "Total Pot: " + event.getTotalPot();
+        if (event.getNumPots() > 1) {
+            for (int pot = 0; pot < event.getNumPots(); pot++) {
+                str += "\n" + PotManager.potName(pot) + ": " + event.getPotAmount(pot) + "\n";
+            }
+        }
+        out.println(str);
+    }
+
+    @Override
+    public void onShowdown(ShowdownEvent event) {
+        List<Player> winners = seated(event.getWinnerSeats());
+        if (winners.isEmpty()) {
+            out.println("No winners");
+            return;
+        }
+        if (event.isUncontested()) {
+            out.println(String.format("%s wins the pot (%s chips) -- everyone else is out.", winners.get(0),
+                    event.getAmount()));
+            return;
+        }
+
+        String potName = PotManager.potName(event.getPot());
+        String winningHand = HandEvaluator.handResult(event.getHandRank()).toString();
+        if (winners.size() == 1) {
+            out.println(potName + ": " + winners.get(0) + " won " + event.getAmount() + " chips.\nWinning hand: " +
+                    winningHand);
+        } else {
+            out.println(potName + " was split " + winners.size() + " ways. " + winners + " Winning hand: " +
+                    winningHand);
+        }
+    }
+
+    @Override
+    public void onTournamentFinished(TournamentFinishedEvent event) {
+        out.println("Tournament over!");
+        for (Player player : players) {
+            out.println(String.format("%s (%s)", player, player.getNumChips()));
+        }
+
+        if (event.hasWinner()) {
+            out.println("The winner is: " + players.get(event.getWinnerSeat()));
+        } else {
+            out.println("The game ended in a weird state with no winner =(");
+        }
+    }
+
+    /**
+     * Print the given players and their current number of chips.
+     */
+    private void displayPlayers(long seats) {
+        for (Player player : seated(seats)) {
+            out.println(String.format("%s (%s)", player, player.getNumChips()));
+        }
+    }
+
+    private List<Player> seated(long seats) {
+        List<Player> seated = new ArrayList<Player>();
+        for (int seat = 0; seat < players.size(); seat++) {
+            if ((seats & (1L << seat)) != 0) {
+                seated.add(players.get(seat));
+            }
+        }
+        return seated;
+    }
+}
@@ -0,0 +1,47 @@
+package com.poker.events;
+
+/**
+ * Listens to what happens at a GameTable. The table only builds an event when at least one listener is attached,
+ * so a table with no listeners doesn't allocate or format anything to describe the game.
+ *
+ * Players are identified by their seat: their position in the list of players the table was created with. Every
+ * method does nothing by default, so a listener only needs to implement the events it cares about.
+ */
+public interface GameListener {
+
+    /**
+     * A new hand was dealt: the dealer moved and every player with chips got their hole cards.
+     */
+    default void onHandStarted(HandStartedEvent event) {
+    }
+
+    /**
+     * A player acted (including posting the blinds).
+     */
+    default void onActionTaken(ActionTakenEvent event) {
+    }
+
+    /**
+     * The flop, turn or river was dealt.
+     */
+    default void onBoardDealt(BoardDealtEvent event) {
+    }
+
+    /**
+     * A betting round is over and the bets were moved into the pots (splitting off side pots if someone is all in).
+     */
+    default void onPotsClosed(PotsClosedEvent event) {
+    }
+
+    /**
+     * A pot was won, either at showdown or because everyone else folded.
+     */
+    default void onShowdown(ShowdownEvent event) {
+    }
+
+    /**
+     * Only one player (or none) has chips left.
+     */
+    default void onTournamentFinished(TournamentFinishedEvent event) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.poker.events;
+
+/**
+ * Created when a new hand has been dealt.
+ */
+public class HandStartedEvent {
+    private final int handNumber;
+    private final int dealerSeat;
+    private final long activeSeats;
+    private final long handSeed;
+
+    /**
+     * @param handNumber: int number of the hand at this table, starting from 1.
+     * @param dealerSeat: int seat of the dealer.
+     * @param activeSeats: long mask of the seats dealt into the hand (bit N is set for seat N).
+     * @param handSeed: long seed the deck was shuffled from.
+     */
+    public HandStartedEvent(int handNumber, int dealerSeat, long activeSeats, long handSeed) {
+        this.handNumber = handNumber;
+        this.dealerSeat = dealerSeat;
+        this.activeSeats = activeSeats;
+        this.handSeed = handSeed;
+    }
+
+    public int getHandNumber() {
+        return handNumber;
+    }
+
+    public int getDealerSeat() {
+        return dealerSeat;
+    }
+
+    public long getActiveSeats() {
+        return activeSeats;
+    }
+
+    /**
+     * @return long seed the deck was shuffled from. With the players' decisions it is all that is needed to play the
+     * hand again (see GameTable.replayHand()).
+     */
+    public long getHandSeed() {
+        return handSeed;
+    }
+}
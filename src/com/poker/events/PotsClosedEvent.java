@@ -0,0 +1,34 @@
+package com.poker.events;
+
+/**
+ * Created at the end of every betting round, once the bets have been moved into the pots.
+ */
+public class PotsClosedEvent {
+    private final int[] potAmounts;
+    private final int totalPot;
+
+    /**
+     * @param potAmounts: int[] number of chips in each pot, the main pot first and then the side pots in order.
+     * @param totalPot: int number of chips in all the pots.
+     */
+    public PotsClosedEvent(int[] potAmounts, int totalPot) {
+        this.potAmounts = potAmounts;
+        this.totalPot = totalPot;
+    }
+
+    public int getNumPots() {
+        return potAmounts.length;
+    }
+
+    /**
+     * @param pot: int index of the pot (0 is the main pot).
+     * @return int number of chips in the pot.
+     */
+    public int getPotAmount(int pot) {
+        return potAmounts[pot];
+    }
+
+    public int getTotalPot() {
+        return totalPot;
+    }
+}
@@ -0,0 +1,51 @@
+package com.poker.events;
+
+import com.poker.hands.HandEvaluator;
+
+/**
+ * Created once for every pot that is paid out at the end of a hand. When everyone else folded there is a single
+ * uncontested event for all the chips in the pots.
+ */
+public class ShowdownEvent {
+    private final int pot;
+    private final int amount;
+    private final long winnerSeats;
+    private final int handRank;
+
+    /**
+     * @param pot: int index of the pot (0 is the main pot), or -1 if the hand was won uncontested.
+     * @param amount: int number of chips in the pot.
+     * @param winnerSeats: long mask of the seats that won the pot (bit N is set for seat N).
+     * @param handRank: int hand rank of the winning hand, or HandEvaluator.NO_MATCH if the hand was won uncontested.
+     */
+    public ShowdownEvent(int pot, int amount, long winnerSeats, int handRank) {
+        this.pot = pot;
+        this.amount = amount;
+        this.winnerSeats = winnerSeats;
+        this.handRank = handRank;
+    }
+
+    public int getPot() {
+        return pot;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public long getWinnerSeats() {
+        return winnerSeats;
+    }
+
+    public int getNumWinners() {
+        return Long.bitCount(winnerSeats);
+    }
+
+    public int getHandRank() {
+        return handRank;
+    }
+
+    public boolean isUncontested() {
+        return handRank == HandEvaluator.NO_MATCH;
+    }
+}
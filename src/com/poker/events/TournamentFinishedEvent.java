@@ -0,0 +1,23 @@
+package com.poker.events;
+
+/**
+ * Created when the table can't deal another hand because there aren't enough players with chips.
+ */
+public class TournamentFinishedEvent {
+    private final int winnerSeat;
+
+    /**
+     * @param winnerSeat: int seat of the player with all the chips, or -1 if no one has any chips left.
+     */
+    public TournamentFinishedEvent(int winnerSeat) {
+        this.winnerSeat = winnerSeat;
+    }
+
+    public int getWinnerSeat() {
+        return winnerSeat;
+    }
+
+    public boolean hasWinner() {
+        return winnerSeat >= 0;
+    }
+}
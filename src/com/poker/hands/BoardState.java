@@ -0,0 +1,125 @@
+package com.poker.hands;
+
+import com.poker.Card;
+import com.poker.CardSet;
+
+import java.util.List;
+
+/**
+ * This class keeps the community cards in the form the LookupHandEvaluator works off: one 13 bit rank mask per suit.
+ * It is built once per hand, growing one card at a time as the flop, turn and river are dealt, and then every player's
+ * hole cards are applied on top of it as a delta. That way the board is only counted once no matter how many players
+ * make it to showdown (or how many times a simulation runs different hole cards against the same board).
+ *
+ * Evaluating hole cards against the board does not modify it, so the same state can be shared by every player.
+ */
+public class BoardState {
+    private static final int NUM_SUITS = 4;
+
+    // Rank mask of each suit, indexed by suit value (bit N is set when the card with rank value N is on the board).
+    private final int[] suitMasks = new int[NUM_SUITS];
+
+    private long cards;
+
+    public BoardState() {
+    }
+
+    public BoardState(List<Card> tableCards) {
+        set(tableCards);
+    }
+
+    /**
+     * Take all the cards off the board.
+     */
+    public void clear() {
+        for (int i = 0; i < NUM_SUITS; i++) {
+            suitMasks[i] = 0;
+        }
+        cards = 0L;
+    }
+
+    /**
+     * Deal one more card onto the board.
+     * @param card: Card to add.
+     */
+    public void add(Card card) {
+        long bit = CardSet.bit(card);
+        if ((cards & bit) != 0) {
+            throw new IllegalArgumentException(card + " is already on the board");
+        }
+        cards |= bit;
+        suitMasks[card.suitToInt()] |= 1 << card.rankToInt();
+    }
+
+    /**
+     * Replace the board with the given cards.
+     * @param tableCards: List of cards on the board.
+     */
+    public void set(List<Card> tableCards) {
+        clear();
+        int numCards = tableCards.size();
+        for (int i = 0; i < numCards; i++) {
+            add(tableCards.get(i));
+        }
+    }
+
+    public CardSet getCards() {
+        return new CardSet(cards);
+    }
+
+    public long getBits() {
+        return cards;
+    }
+
+    public int size() {
+        return Long.bitCount(cards);
+    }
+
+    /**
+     * Calculate the hand rank of the board combined with a player's hole cards.
+     * @param holeCards: Array of the player's cards.
+     * @return int hand rank
+     */
+    public int handRank(Card[] holeCards) {
+        int diamonds = suitMasks[0];
+        int clubs = suitMasks[1];
+        int hearts = suitMasks[2];
+        int spades = suitMasks[3];
+        for (Card card : holeCards) {
+            int rankBit = 1 << card.rankToInt();
+            switch (card.suitToInt()) {
+                case 0: diamonds |= rankBit; break;
+                case 1: clubs |= rankBit; break;
+                case 2: hearts |= rankBit; break;
+                default: spades |= rankBit; break;
+            }
+        }
+        return LookupHandEvaluator.handRank(diamonds, clubs, hearts, spades);
+    }
+
+    /**
+     * Calculate the hand rank of the board combined with a set of cards packed into a long (see CardSet). Only the
+     * cards that are not on the board yet need to be counted.
+     * @param holeCards: long packed set of cards.
+     * @return int hand rank
+     */
+    public int handRank(long holeCards) {
+        int diamonds = suitMasks[0];
+        int clubs = suitMasks[1];
+        int hearts = suitMasks[2];
+        int spades = suitMasks[3];
+        long remaining = holeCards & ~cards;
+        while (remaining != 0) {
+            int index = Long.numberOfTrailingZeros(remaining);
+            int rankBit = 1 << (index / NUM_SUITS);
+            switch (index % NUM_SUITS) {
+                case 0: diamonds |= rankBit; break;
+                case 1: clubs |= rankBit; break;
+                case 2: hearts |= rankBit; break;
+                default: spades |= rankBit; break;
+            }
+            remaining &= remaining - 1;
+        }
+        return LookupHandEvaluator.handRank(diamonds, clubs, hearts, spades);
+    }
+}
@@ -0,0 +1,127 @@
+package com.poker.hands;
+
+import com.poker.Card;
+import com.poker.CardSet;
+
+import java.util.List;
+
+/**
+ * This class counts how many times each rank and each suit shows up in a set of cards, and which ranks are present
+ * in each suit. It is filled in once per hand and then handed to every evaluator, so none of them have to count the
+ * cards again.
+ *
+ * The counts live in primitive arrays that are allocated once and reused every time the histogram is filled in, so
+ * evaluating a hand does not allocate anything.
+ */
+public class CardHistogram {
+    private static final int NUM_RANKS = 13;
+    private static final int NUM_SUITS = 4;
+
+    // Indexed by rank value (TWO = 0 ... ACE = 12).
+    private final int[] rankCounts = new int[NUM_RANKS];
+
+    // Indexed by suit value.
+    private final int[] suitCounts = new int[NUM_SUITS];
+
+    // For each suit, a mask of the ranks present in that suit (bit N is the rank with value N).
+    private final int[] suitMasks = new int[NUM_SUITS];
+
+    private int rankMask;
+    private int numCards;
+
+    /**
+     * Empty out all the counts.
+     */
+    public void clear() {
+        for (int i = 0; i < NUM_RANKS; i++) {
+            rankCounts[i] = 0;
+        }
+        for (int i = 0; i < NUM_SUITS; i++) {
+            suitCounts[i] = 0;
+            suitMasks[i] = 0;
+        }
+        rankMask = 0;
+        numCards = 0;
+    }
+
+    /**
+     * Count one more card. Adding the same card twice counts it twice.
+     * @param card: Card to add.
+     */
+    public void add(Card card) {
+        add(card.rankToInt(), card.suitToInt());
+    }
+
+    private void add(int rank, int suit) {
+        rankCounts[rank]++;
+        suitCounts[suit]++;
+        suitMasks[suit] |= 1 << rank;
+        rankMask |= 1 << rank;
+        numCards++;
+    }
+
+    /**
+     * Replace the counts with the counts of the given list of cards.
+     * @param cards: List of cards.
+     */
+    public void set(List<Card> cards) {
+        clear();
+        int size = cards.size();
+        for (int i = 0; i < size; i++) {
+            add(cards.get(i));
+        }
+    }
+
+    /**
+     * Replace the counts with the counts of a set of cards packed into a long (see CardSet).
+     * @param cards: long packed set of cards.
+     */
+    public void set(long cards) {
+        clear();
+        long remaining = cards;
+        while (remaining != 0) {
+            int index = Long.numberOfTrailingZeros(remaining);
+            add(index / NUM_SUITS, index % NUM_SUITS);
+            remaining &= remaining - 1;
+        }
+    }
+
+    public void set(CardSet cards) {
+        set(cards.getBits());
+    }
+
+    /**
+     * @param rank: int rank value.
+     * @return int number of cards of the given rank.
+     */
+    public int getRankCount(int rank) {
+        return rankCounts[rank];
+    }
+
+    /**
+     * @param suit: int suit value.
+     * @return int number of cards of the given suit.
+     */
+    public int getSuitCount(int suit) {
+        return suitCounts[suit];
+    }
+
+    /**
+     * @param suit: int suit value.
+     * @return int mask of the ranks present in the given suit.
+     */
+    public int getSuitMask(int suit) {
+        return suitMasks[suit];
+    }
+
+    /**
+     * @return int mask of the ranks present in any suit.
+     */
+    public int getRankMask() {
+        return rankMask;
+    }
+
+    public int getNumCards() {
+        return numCards;
+    }
+}
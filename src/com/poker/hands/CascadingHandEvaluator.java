@@ -0,0 +1,45 @@
+package com.poker.hands;
+
+/**
+ * This evaluator runs the cards through every type of hand evaluator, starting from the highest valued hand type,
+ * and stops at the first one that matches.
+ *
+ * It is slower than the LookupHandEvaluator, but each step is easy to follow, so we keep it around as the reference
+ * that the lookup tables are checked against.
+ */
+public class CascadingHandEvaluator extends HandEvaluator {
+
+    // This is the list of evaluators that the hand needs to be run through. It is ordered such that
+    // as soon as we find a match, we know that is the highest valued hand we have.
+    private static final HandEvaluator[] handEvaluators = {
+            new StraightFlushEvaluator(),
+            new FourOfAKindEvaluator(),
+            new FullHouseEvaluator(),
+            new FlushEvaluator(),
+            new StraightEvaluator(),
+            new ThreeOfAKindEvaluator(),
+            new TwoPairEvaluator(),
+            new OnePairEvaluator(),
+            new HighCardEvaluator()
+    };
+
+    public CascadingHandEvaluator() {
+        // Every set of cards is at least a high card hand, so this evaluator always matches.
+        super(HandResult.HIGH_CARD);
+    }
+
+    /**
+     * Run through all the evaluators and find the first / highest matching hand type.
+     * @param histogram: CardHistogram of the cards to evaluate.
+     * @return int hand rank
+     */
+    public int handRank(CardHistogram histogram) {
+        for (int i = 0; i < handEvaluators.length; i++) {
+            int handRank = handEvaluators[i].handRank(histogram);
+            if (handRank != NO_MATCH) {
+                return handRank;
+            }
+        }
+        return NO_MATCH;
+    }
+}
@@ -1,11 +1,5 @@
 package com.poker.hands;
 
-import com.poker.Card;
-import com.poker.RankEnum;
-
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Created by atul on 2/25/15.
  */
@@ -13,31 +7,27 @@ public class FullHouseEvaluator extends HandEvaluator {
     private static final HandResult handType = HandResult.FULL_HOUSE;
 
     public FullHouseEvaluator() {
-        super();
+        super(handType);
     }
 
-    public HandEvalResult evaluate(List<Card> cards) {
-        List<RankEnum> scores = new ArrayList<>();
-        int finalScore = 0;
-
+    public int handRank(CardHistogram histogram) {
         // First find the highest number that repeats exactly 3 times. We don't worry about catching the case
         // where it repeats more than three times, because that will already be caught by the fourofakind
         // evaluator.
-        RankEnum result = this.findHighestDuplicate(cards, 3);
-        boolean isMatch = (result != null);
+        int tripsRank = this.findHighestDuplicate(histogram, 3);
+        if (tripsRank < 0) {
+            return NO_MATCH;
+        }
 
-        if (isMatch) {
-            // Now that we found a set of 3, we need to find a pair to go along with it to complete the full
-            // house. If we find it, then we have a full house.
-            List<RankEnum> pairs = this.findTopNPairs(cards, 1);
-            isMatch = pairs.size() >= 1;
-            if (isMatch) {
+        // Now that we found a set of 3, we need to find a pair to go along with it to complete the full
+        // house. If we find it, then we have a full house. A second set of 3 also counts as the pair, so
+        // we look for the highest other rank that shows up at least twice.
+        for (int rank = NUM_RANKS - 1; rank >= 0; rank--) {
+            if ((rank != tripsRank) && (histogram.getRankCount(rank) >= 2)) {
                 // Make sure that the three of a kind is weighted more.
-                scores.add(result);
-                scores.add(pairs.get(0));
-                finalScore = calculateScore(scores);
+                return category(handType) | packRank(tripsRank, 0) | packRank(rank, 1);
             }
         }
-        return new HandEvalResult(isMatch, handType, finalScore);
+        return NO_MATCH;
     }
 }
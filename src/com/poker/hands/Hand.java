@@ -1,88 +1,182 @@
 package com.poker.hands;
 
 import com.poker.Card;
+import com.poker.CardSet;
 
-import java.lang.reflect.Array;
-import java.util.*;
+import java.util.List;
 
 /**
  * Created by atul on 2/25/15.
- * This class encapsulates the cards in a hand. We sort the cards in rank order starting from the highest, so that
- * we can easily traverse forward and know that when we match something for the first time, we found the highest
- * ranked card that matched.
+ * This class encapsulates the cards in a hand. The cards are kept as a CardSet, which already knows how to hand them
+ * out in rank order starting from the highest, so evaluators that need to traverse them in order can know that when
+ * they match something for the first time, they found the highest ranked card that matched.
+ *
+ * A player's hand can be refilled with set() for every hand they play, instead of building a new one each time.
  */
 public class Hand implements Comparable<Hand> {
-    private static final int NUM_CARDS = 7;
-    private List<Card> cards = new ArrayList<>(NUM_CARDS);
+    // Hands can be scored as soon as the flop is out (5 cards) and up to the river (7 cards).
+    private static final int MIN_CARDS = LookupHandEvaluator.MIN_CARDS;
+    private static final int MAX_CARDS = LookupHandEvaluator.MAX_CARDS;
+    private long cardBits;
+    // Only built when someone asks for it (see getCards()).
+    private CardSet cards;
+
+    // The hand rank is all that is needed to compare hands. The HandEvalResult is only built (from the hand rank)
+    // when someone asks for it, e.g. to display the winning hand.
+    private int handRank = HandEvaluator.NO_MATCH;
+    private HandEvaluator evaluatedBy;
     private HandEvalResult handEvalResult;
 
-    // This is the list of evaluators that the hand needs to be run through. It is ordered such that
-    // as soon as we find a match, we know that is the highest valued hand we have.
-    private static final List<HandEvaluator> handEvaluators = new ArrayList<HandEvaluator>() {{
-        add(new StraightFlushEvaluator());
-        add(new FourOfAKindEvaluator());
-        add(new FullHouseEvaluator());
-        add(new FlushEvaluator());
-        add(new StraightEvaluator());
-        add(new ThreeOfAKindEvaluator());
-        add(new TwoPairEvaluator());
-        add(new OnePairEvaluator());
-        add(new HighCardEvaluator());
-    }};
+    // The cards are counted the first time the hand is run through an evaluator, and the counts are shared by
+    // whichever evaluators the hand is run through after that.
+    private CardHistogram histogram;
+    private boolean isCounted;
+
+    // The table driven evaluator is used by default. It returns the same results as running the cards through each
+    // of the hand evaluators in turn (see CascadingHandEvaluator).
+    private static final HandEvaluator defaultEvaluator = new LookupHandEvaluator();
 
     public Hand(Card[] playerCards, List<Card> tableCards) {
-        // The player cards and table cards should add up to 7.
-        if ((playerCards.length + tableCards.size()) != NUM_CARDS) {
+        set(playerCards, tableCards);
+    }
+
+    /**
+     * Build the hand out of a player's cards and a board that has already been counted, and evaluate it right away
+     * with the default evaluator. Only the player's cards need to be added to the board's counts.
+     * @param playerCards: Array of the player's cards.
+     * @param board: BoardState of the table cards.
+     */
+    public Hand(Card[] playerCards, BoardState board) {
+        set(playerCards, board);
+    }
+
+    public Hand(List<Card> cards) {
+        if (!isValidNumCards(cards.size())) {
             throw new IllegalArgumentException("Invalid number of cards passed in");
         }
 
-        int i;
-        for (i = 0; i < playerCards.length; i++) {
-            cards.add(playerCards[i]);
-        }
+        setBits(CardSet.of(cards).getBits());
+    }
 
-        for (Card tableCard : tableCards) {
-            cards.add(tableCard);
+    public Hand(CardSet cards) {
+        if (!isValidNumCards(cards.size())) {
+            throw new IllegalArgumentException("Invalid number of cards passed in");
         }
 
-        // Sort the cards
-        Collections.sort(cards);
+        setBits(cards.getBits());
+        this.cards = cards;
     }
 
-    public Hand(List<Card> cards) {
-        if (cards.size() != NUM_CARDS) {
+    /**
+     * Replace the cards with a player's cards and the table cards. The hand isn't evaluated yet.
+     * @param playerCards: Array of the player's cards.
+     * @param tableCards: List of the table cards.
+     */
+    public void set(Card[] playerCards, List<Card> tableCards) {
+        // The player cards and table cards should add up to between 5 and 7.
+        if (!isValidNumCards(playerCards.length + tableCards.size())) {
             throw new IllegalArgumentException("Invalid number of cards passed in");
         }
 
-        this.cards = cards;
-        Collections.sort(cards);
+        long bits = 0L;
+        for (Card playerCard : playerCards) {
+            bits |= CardSet.bit(playerCard);
+        }
+        for (int i = 0; i < tableCards.size(); i++) {
+            bits |= CardSet.bit(tableCards.get(i));
+        }
+        setBits(bits);
     }
 
     /**
-     * Run through all the evaluators and find the first / highest matching hand type.
-     * @return
+     * Replace the cards with a player's cards and a board that has already been counted, and evaluate the hand right
+     * away with the default evaluator.
+     * @param playerCards: Array of the player's cards.
+     * @param board: BoardState of the table cards.
      */
-    public HandEvalResult evaluate() {
+    public void set(Card[] playerCards, BoardState board) {
+        long bits = board.getBits();
+        for (Card playerCard : playerCards) {
+            bits |= CardSet.bit(playerCard);
+        }
+        if (!isValidNumCards(Long.bitCount(bits))) {
+            throw new IllegalArgumentException("Invalid number of cards passed in");
+        }
+
+        setBits(bits);
+        this.handRank = board.handRank(playerCards);
+        this.evaluatedBy = defaultEvaluator;
+    }
+
+    private void setBits(long bits) {
+        cardBits = bits;
+        cards = null;
+        isCounted = false;
+        handRank = HandEvaluator.NO_MATCH;
+        evaluatedBy = null;
         handEvalResult = null;
-        for (HandEvaluator handEvaluator : handEvaluators) {
-            HandEvalResult result = handEvaluator.evaluate(cards);
-            if (result.isMatch()) {
-                handEvalResult = result;
-                break;
-            }
+    }
+
+    private static boolean isValidNumCards(int numCards) {
+        return (numCards >= MIN_CARDS) && (numCards <= MAX_CARDS);
+    }
+
+    public CardSet getCards() {
+        if (cards == null) {
+            cards = new CardSet(cardBits);
         }
-        return handEvalResult;
+        return cards;
     }
 
+    /**
+     * Evaluate the hand with the default evaluator.
+     * @return int hand rank
+     */
+    public int evaluate() {
+        return evaluate(defaultEvaluator);
+    }
+
+    /**
+     * Evaluate the hand with the given evaluator.
+     * @param handEvaluator
+     * @return int hand rank
+     */
+    public int evaluate(HandEvaluator handEvaluator) {
+        if (histogram == null) {
+            histogram = new CardHistogram();
+        }
+        if (!isCounted) {
+            histogram.set(cardBits);
+            isCounted = true;
+        }
+        handRank = handEvaluator.handRank(histogram);
+        evaluatedBy = handEvaluator;
+        handEvalResult = null;
+        return handRank;
+    }
+
+    /**
+     * @return int hand rank calculated by the last call to evaluate() (NO_MATCH if it hasn't been evaluated yet).
+     */
+    public int getHandRank() {
+        return handRank;
+    }
+
+    /**
+     * @return HandEvalResult describing the last evaluation, or null if the hand hasn't been evaluated yet.
+     */
     public HandEvalResult getHandEvalResult() {
+        if ((handEvalResult == null) && (evaluatedBy != null)) {
+            handEvalResult = evaluatedBy.toHandEvalResult(handRank);
+        }
         return handEvalResult;
     }
 
+    /**
+     * Higher hand ranks sort first.
+     */
     @Override
     public int compareTo(Hand otherHand) {
-        HandEvalResult thisResult = this.getHandEvalResult();
-        HandEvalResult otherResult = otherHand.getHandEvalResult();
-
-        return thisResult.compareTo(otherResult);
+        return Integer.compare(otherHand.getHandRank(), this.getHandRank());
     }
 }
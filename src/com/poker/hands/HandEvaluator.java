@@ -1,126 +1,240 @@
 package com.poker.hands;
 
 import com.poker.Card;
-import com.poker.RankEnum;
-import com.poker.SuitEnum;
+import com.poker.CardSet;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Created by atul on 2/25/15.
  * This is an abstract class meant to evaluate different types of hands.
  * We create an instance of every type of evaluator and each evaluator
  * knows how to evaluate that specific hand.
+ *
+ * Evaluators work off a CardHistogram that is filled in once per hand, and they return a hand rank: a single int
+ * with the HandResult value in the high bits and below it up to five card ranks (4 bits each) in the order they are
+ * compared. Two hands can be compared by simply comparing their hand ranks. An evaluator returns NO_MATCH if the cards
+ * don't make its type of hand. Nothing is allocated until the hand rank is turned into a HandEvalResult.
  */
 public abstract class HandEvaluator {
 
-    abstract public HandEvalResult evaluate(List<Card> cards);
+    public static final int NO_MATCH = -1;
 
-    private static final int[] SCORING_WEIGHT = {13*13*13*13, 13*13*13, 13*13, 13, 1};
+    protected static final int NUM_RANKS = 13;
+    protected static final int NUM_SUITS = 4;
+
+    private static final int RANK_BITS = 4;
+    private static final int NUM_SCORED_RANKS = 5;
+    private static final int CATEGORY_SHIFT = RANK_BITS * NUM_SCORED_RANKS;
+    private static final int SCORE_MASK = (1 << CATEGORY_SHIFT) - 1;
+    private static final int WHEEL_RANKS = (1 << 12) | (1 << 3) | (1 << 2) | (1 << 1) | 1;
+
+    // Index a hand rank's category back to its HandResult.
+    private static final HandResult[] HAND_RESULTS = new HandResult[HandResult.values().length];
+
+    static {
+        for (HandResult handResult : HandResult.values()) {
+            HAND_RESULTS[handResult.getValue()] = handResult;
+        }
+    }
+
+    // The type of hand this evaluator looks for. Used to describe the result when the cards don't match.
+    private final HandResult handType;
+
+    protected HandEvaluator(HandResult handType) {
+        this.handType = handType;
+    }
 
     /**
-     * Return an array of the cards where the index is the card rank as an integer, and the value
-     * is a count of the appearances of that card in the card set. This is super useful in easily
-     * identifying hand sequences. Also because the ranks are from low to high, we know that the
-     * highest ranked cards are at the end. So if we traverse the list backwards we can easily find
-     * the first card that is repeated two times.
-     * @param cards: List of cards to analyze
-     * @return: Map(RankEnum, Integer) rankEnum tells us info about the card, and integer is the num
-     * of occurrences that rank shows up in our list of cards.
+     * Calculate the hand rank of the counted cards.
+     * @param histogram: CardHistogram of the cards to evaluate.
+     * @return int hand rank, or NO_MATCH if the cards don't make this type of hand.
      */
-    protected Map<RankEnum, Integer> ranksByOccurrences(List<Card> hand) {
-        Map<RankEnum, Integer> returnVal = new HashMap<>(RankEnum.numRanks());
-        for (Card card : hand) {
-            // Check to see if this rank is already in our map. If so, increment 1 to the count, else set
-            // the count to 1.
-            returnVal.compute(card.getRank(), (tokenKey, oldValue) -> oldValue == null ? 1 : oldValue + 1);
-        }
-        return returnVal;
+    abstract public int handRank(CardHistogram histogram);
+
+    /**
+     * Evaluate a list of cards (they do not need to be sorted).
+     * @param cards: List of cards to evaluate
+     * @return HandEvalResult
+     */
+    public HandEvalResult evaluate(List<Card> cards) {
+        CardHistogram histogram = new CardHistogram();
+        histogram.set(cards);
+        return toHandEvalResult(handRank(histogram));
     }
 
     /**
-     * Return an Map of the cards where the key is the card suit, and the value is a count of the appearances
-     * of that suit in the card set. The use case here is for identifying flushes.
-     * @param cards: List of cards
-     * @return Map(SuitEnum, Integer)
+     * Evaluate a set of cards.
+     * @param cards: CardSet to evaluate
+     * @return HandEvalResult
      */
-    protected Map<SuitEnum, Integer> suitsByOccurrences(List<Card> cards) {
-        Map<SuitEnum, Integer> returnVal = new HashMap<>(SuitEnum.numSuits());
-        for (Card card : cards) {
-            returnVal.compute(card.getSuit(), (tokenKey, oldValue) -> oldValue == null ? 1 : oldValue + 1);
-        }
-        return returnVal;
+    public HandEvalResult evaluate(CardSet cards) {
+        CardHistogram histogram = new CardHistogram();
+        histogram.set(cards);
+        return toHandEvalResult(handRank(histogram));
     }
 
     /**
-     * Find the highest card rank that shows up as least numDuplicates amount of times in our card set.
-     * This function uses our map of ranks which is keyed by rank and the value is the number of
-     * of appearances. We created this function for the usages of calculating three of a kind / four of a
-     * kind.
-     * @param cards
-     * @param numDuplicates
-     * @return
+     * Build the HandEvalResult that describes a hand rank calculated by this evaluator.
+     * @param handRank: int hand rank or NO_MATCH.
+     * @return HandEvalResult
      */
-    protected RankEnum findHighestDuplicate(List<Card> hand, int numDuplicates) {
-        Map<RankEnum, Integer> ranksByOccurrences = ranksByOccurrences(hand);
-        // We loop through our rank enums which we know is in order from highest to lowest. This way we can get
-        // the highest first.
-        for (RankEnum rank : RankEnum.values()) {
-            if (ranksByOccurrences.getOrDefault(rank, 0) == numDuplicates) {
-                return rank;
-            }
+    public HandEvalResult toHandEvalResult(int handRank) {
+        if (handRank == NO_MATCH) {
+            return new HandEvalResult(false, handType, 0);
         }
-        return null;
+        return new HandEvalResult(true, handResult(handRank), score(handRank));
+    }
+
+    /**
+     * @param handRank: int hand rank
+     * @return HandResult that the hand rank belongs to.
+     */
+    public static HandResult handResult(int handRank) {
+        return HAND_RESULTS[handRank >>> CATEGORY_SHIFT];
     }
 
     /**
      * For each set of cards, we have to figure out the highest card type it belongs to. But we also have to solve
      * for cases where other hands have the same type of hand but of a different value. For example two hands could
      * both be straights, but one straight is higher than the other. Both hands could be flushes with one flush higher.
-     * This function calculates a score by weighting each element in the score array. It is impt to note that if the
+     * This function calculates a score by weighting each rank packed in the hand rank. It is impt to note that if the
      * highest card has a higher value it should always win, regardless of what the other cards are. That is why
      * we use a weighting system with powers of 13 (since there are 13 cards of each suit) so that even if another hand
-     * has a higher 2nd/3rd value if the 1st value is lower it will return a lower score no matter what.
-     * @param scores: List of scores that need to be weighted.
+     * has a higher 2nd/3rd value if the 1st value is lower it will return a lower score no matter what. Straights and
+     * straight flushes are scored by their highest card alone.
+     * @param handRank: int hand rank
      * @return: int score
      */
-    protected int calculateScore(List<RankEnum> scores) {
-        int result = 0;
-        int i = -1;
-        // traverse through the scores and weigh them appropriately.
-        for (RankEnum rank : scores) {
-            i++;
-            result += rank.getValue()*SCORING_WEIGHT[i];
+    public static int score(int handRank) {
+        HandResult handResult = handResult(handRank);
+        int packedRanks = handRank & SCORE_MASK;
+        if ((handResult == HandResult.STRAIGHT) || (handResult == HandResult.STRAIGHT_FLUSH) ||
+                (handResult == HandResult.ROYAL_FLUSH)) {
+            return packedRanks >>> (RANK_BITS * (NUM_SCORED_RANKS - 1));
+        }
+
+        int score = 0;
+        for (int i = NUM_SCORED_RANKS - 1; i >= 0; i--) {
+            score = (score * NUM_RANKS) + ((packedRanks >>> (RANK_BITS * i)) & 0xF);
         }
-        return result;
+        return score;
     }
 
     /**
-     * This function finds the top X number of pairs. Used for finding two pair / one pair hands. Also used
-     * for finding the pair in the full house evaluator.
-     * @param cards
-     * @param numPairs
-     * @return: List of pairs up to the num pairs expected.
+     * @param handResult: HandResult
+     * @return int with the hand result in the high bits of a hand rank.
      */
-    protected List<RankEnum> findTopNPairs(List<Card> hand, int numPairs) {
-        List<RankEnum> pairs = new ArrayList<>();
-
-        // First we map our cards such that rank id is keyed, and value is # appearances.
-        // Then we start searching traverse through our list of ranks where the highest
-        // rank is first and find up to n values where the num appearances = 2.
-        Map<RankEnum, Integer> ranksByOccurrences = ranksByOccurrences(hand);
-        for (RankEnum rank : RankEnum.values()) {
-            if (pairs.size() == numPairs) break;
-
-            if (ranksByOccurrences.getOrDefault(rank, 0) == 2) {
-                pairs.add(rank);
+    protected static int category(HandResult handResult) {
+        return handResult.getValue() << CATEGORY_SHIFT;
+    }
+
+    /**
+     * Place a rank at one of the five scoring positions of a hand rank (0 is the most significant).
+     * @param rank: int rank value
+     * @param position: int scoring position
+     * @return int to be or'ed into the hand rank.
+     */
+    protected static int packRank(int rank, int position) {
+        return rank << (RANK_BITS * (NUM_SCORED_RANKS - 1 - position));
+    }
+
+    /**
+     * Take the highest numRanks ranks out of the rank mask, and pack them starting at the given scoring position.
+     * We walk the ranks from the highest down so the first ones we find are weighted the most.
+     * @param rankMask: int mask of the ranks to choose from.
+     * @param numRanks: int number of ranks to take.
+     * @param position: int scoring position of the first rank.
+     * @return int to be or'ed into the hand rank.
+     */
+    protected static int packTopRanks(int rankMask, int numRanks, int position) {
+        int packed = 0;
+        for (int rank = NUM_RANKS - 1; (rank >= 0) && (numRanks > 0); rank--) {
+            if ((rankMask & (1 << rank)) != 0) {
+                packed |= packRank(rank, position++);
+                numRanks--;
             }
         }
+        return packed;
+    }
 
-        return pairs;
+    /**
+     * @param rankMask: int mask of ranks.
+     * @return int value of the highest rank in the mask, or -1 if it is empty.
+     */
+    protected static int highestRank(int rankMask) {
+        return 31 - Integer.numberOfLeadingZeros(rankMask);
+    }
+
+    /**
+     * Find the highest card rank that shows up exactly numDuplicates amount of times in our card set.
+     * We created this function for the usages of calculating three of a kind / four of a kind.
+     * @param histogram: CardHistogram of the cards.
+     * @param numDuplicates: int
+     * @return int rank value, or -1 if there is none.
+     */
+    protected int findHighestDuplicate(CardHistogram histogram, int numDuplicates) {
+        // We loop from the highest rank to the lowest. This way we can get the highest first.
+        for (int rank = NUM_RANKS - 1; rank >= 0; rank--) {
+            if (histogram.getRankCount(rank) == numDuplicates) {
+                return rank;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the highest rank that shows up exactly twice and is not one of the excluded ranks. Used for finding two
+     * pair / one pair hands.
+     * @param histogram: CardHistogram of the cards.
+     * @param excludedRanks: int mask of ranks to skip (e.g. a pair that was already found).
+     * @return int rank value, or -1 if there is none.
+     */
+    protected int findHighestPair(CardHistogram histogram, int excludedRanks) {
+        for (int rank = NUM_RANKS - 1; rank >= 0; rank--) {
+            if (((excludedRanks & (1 << rank)) == 0) && (histogram.getRankCount(rank) == 2)) {
+                return rank;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find a suit that has 5 cards or more. Note that you cannot have two different flushes since there are only
+     * 7 cards.
+     * @param histogram: CardHistogram of the cards.
+     * @return int suit value, or -1 if there is no flush.
+     */
+    protected int findFlushSuit(CardHistogram histogram) {
+        for (int suit = 0; suit < NUM_SUITS; suit++) {
+            if (histogram.getSuitCount(suit) >= 5) {
+                return suit;
+            }
+        }
+        return -1;
     }
-}
 
+    /**
+     * To check if we have a straight we iterate through the ranks descending. We keep checking to see if the rank
+     * exists in our set of cards. If it does we increment the number of sequential cards. As soon as we find one that
+     * isn't present we reset and start over. If our count of sequential cards hits 5, we have found a straight. The
+     * wheel (A, 2, 3, 4, 5) is checked last since the five is its highest card.
+     * @param rankMask: int mask of ranks to look for a straight in.
+     * @return int rank value of the highest card of the straight, or -1 if there is none.
+     */
+    protected static int findStraight(int rankMask) {
+        int count = 0;
+        for (int rank = NUM_RANKS - 1; rank >= 0; rank--) {
+            if ((rankMask & (1 << rank)) == 0) {
+                count = 0;
+            } else if (++count >= 5) {
+                return rank + 4;
+            }
+        }
+
+        if ((rankMask & WHEEL_RANKS) == WHEEL_RANKS) {
+            return 3;
+        }
+        return -1;
+    }
+}
@@ -8,7 +8,7 @@ public enum HandResult {
     ONE_PAIR("1 Pair", 1),
     TWO_PAIR("2 Pairs", 2),
     THREE_OF_A_KIND("3 of a Kind", 3),
-    STRAIGHT("Straight", 3),
+    STRAIGHT("Straight", 4),
     FLUSH("Flush", 5),
     FULL_HOUSE("Full House", 6),
     FOUR_OF_A_KIND("Four of a Kind", 7),
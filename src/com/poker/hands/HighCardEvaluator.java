@@ -1,11 +1,5 @@
 package com.poker.hands;
 
-import com.poker.Card;
-import com.poker.RankEnum;
-
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Created by atul on 2/25/15.
  */
@@ -14,16 +8,11 @@ public class HighCardEvaluator extends HandEvaluator {
     private static int numRanksNeeded = 5;
 
     public HighCardEvaluator() {
-        super();
+        super(handType);
     }
 
-    public HandEvalResult evaluate(List<Card> cards) {
-        List<RankEnum> scores = new ArrayList<>();
-        for (int i = 0; i < numRanksNeeded; i++) {
-            scores.add(cards.get(i).getRank());
-        }
-
-        // We know high card will always return true
-        return new HandEvalResult(true, handType, calculateScore(scores));
+    public int handRank(CardHistogram histogram) {
+        // We know high card will always match
+        return category(handType) | packTopRanks(histogram.getRankMask(), numRanksNeeded, 0);
     }
 }
@@ -0,0 +1,201 @@
+package com.poker.hands;
+
+import com.poker.Card;
+import com.poker.CardSet;
+
+import java.util.List;
+
+/**
+ * This evaluator replaces walking the chain of evaluators (StraightFlushEvaluator -> ... -> HighCardEvaluator) with a
+ * handful of lookups into tables that are built once when the class loads. It produces the same HandResult and score
+ * as the chain, but without walking the ranks one at a time.
+ *
+ * The cards are described by four 13 bit masks, one per suit, where bit N is set if the card with rank value N is
+ * present. Every table below is indexed by one of those masks (or a combination of them), so each table only has
+ * 8192 entries. None of the lookups depend on how many cards there are, so scoring 5 cards on the flop or 6 on the
+ * turn costs the same as scoring 7 on the river.
+ */
+public class LookupHandEvaluator extends HandEvaluator {
+
+    private static final int NUM_MASKS = 1 << NUM_RANKS;
+    private static final int RANK_BITS = 4;
+    private static final int NUM_SCORED_RANKS = 5;
+
+    public static final int MIN_CARDS = 5;
+    public static final int MAX_CARDS = 7;
+
+    // Highest rank of the best straight that can be made out of the ranks in the mask, plus one (0 means no straight).
+    private static final byte[] STRAIGHT_TOP = new byte[NUM_MASKS];
+
+    // The (up to) five highest ranks in the mask, packed 4 bits per rank with the highest rank first.
+    private static final int[] TOP_FIVE = new int[NUM_MASKS];
+
+    // Hand rank of a flush or straight flush made out of the ranks of a single suit. 0 if there are less than 5 ranks.
+    private static final int[] FLUSH_RANK = new int[NUM_MASKS];
+
+    // Hand rank of a straight or high card hand made out of 5 or more unique ranks.
+    private static final int[] UNIQUE_RANK = new int[NUM_MASKS];
+
+    static {
+        for (int mask = 0; mask < NUM_MASKS; mask++) {
+            int straightTop = findStraight(mask);
+            STRAIGHT_TOP[mask] = (byte) (straightTop + 1);
+
+            int topFive = packTopRanks(mask, NUM_SCORED_RANKS, 0);
+            TOP_FIVE[mask] = topFive;
+
+            if (Integer.bitCount(mask) >= NUM_SCORED_RANKS) {
+                if (straightTop == NUM_RANKS - 1) {
+                    FLUSH_RANK[mask] = category(HandResult.ROYAL_FLUSH) | packRank(straightTop, 0);
+                } else if (straightTop >= 0) {
+                    FLUSH_RANK[mask] = category(HandResult.STRAIGHT_FLUSH) | packRank(straightTop, 0);
+                } else {
+                    FLUSH_RANK[mask] = category(HandResult.FLUSH) | topFive;
+                }
+
+                if (straightTop >= 0) {
+                    UNIQUE_RANK[mask] = category(HandResult.STRAIGHT) | packRank(straightTop, 0);
+                } else {
+                    UNIQUE_RANK[mask] = category(HandResult.HIGH_CARD) | topFive;
+                }
+            }
+        }
+    }
+
+    public LookupHandEvaluator() {
+        // Every set of cards is at least a high card hand, so this evaluator always matches.
+        super(HandResult.HIGH_CARD);
+    }
+
+    /**
+     * Evaluate the counted cards. Only the rank masks of each suit are needed.
+     * @param histogram: CardHistogram of the cards to evaluate.
+     * @return int hand rank
+     */
+    public int handRank(CardHistogram histogram) {
+        return handRank(histogram.getSuitMask(0), histogram.getSuitMask(1), histogram.getSuitMask(2),
+                histogram.getSuitMask(3));
+    }
+
+    /**
+     * Calculate the hand rank of 5, 6 or 7 cards.
+     * @param cards: List of cards to evaluate (they do not need to be sorted).
+     * @return int hand rank
+     */
+    public static int handRank(List<Card> cards) {
+        return handRank(CardSet.of(cards));
+    }
+
+    /**
+     * Calculate the hand rank of a set of 5, 6 or 7 cards.
+     * @param cards: CardSet to evaluate.
+     * @return int hand rank
+     */
+    public static int handRank(CardSet cards) {
+        checkNumCards(cards.size());
+        return handRank(cards.getBits());
+    }
+
+    /**
+     * Calculate the hand rank of 5, 6 or 7 cards given by their ordinals (see Card.getOrdinal()).
+     * @param ordinals: Array of card ordinals.
+     * @return int hand rank
+     */
+    public static int handRank(int[] ordinals) {
+        long cards = 0L;
+        for (int ordinal : ordinals) {
+            cards |= CardSet.bit(Card.of(ordinal));
+        }
+        checkNumCards(Long.bitCount(cards));
+        return handRank(cards);
+    }
+
+    private static void checkNumCards(int numCards) {
+        if ((numCards < MIN_CARDS) || (numCards > MAX_CARDS)) {
+            throw new IllegalArgumentException("Hands must have between " + MIN_CARDS + " and " + MAX_CARDS +
+                    " different cards");
+        }
+    }
+
+    /**
+     * Calculate the hand rank of a set of cards packed into a long (see CardSet).
+     * @param cards: long packed set of cards.
+     * @return int hand rank
+     */
+    public static int handRank(long cards) {
+        return handRank(CardSet.suitMask(cards, 0), CardSet.suitMask(cards, 1), CardSet.suitMask(cards, 2),
+                CardSet.suitMask(cards, 3));
+    }
+
+    /**
+     * Calculate the hand rank of a set of cards described by one rank mask per suit (bit N is set when the card with
+     * rank value N of that suit is present).
+     *
+     * With 7 cards or less a flush can never be beaten by a full house or four of a kind (they would need at least 8
+     * cards combined), so as soon as one of the suits has a flush we are done.
+     * @return int hand rank
+     */
+    public static int handRank(int diamonds, int clubs, int hearts, int spades) {
+        int flushRank = FLUSH_RANK[diamonds] | FLUSH_RANK[clubs] | FLUSH_RANK[hearts] | FLUSH_RANK[spades];
+        if (flushRank != 0) {
+            return flushRank;
+        }
+
+        int ranks = diamonds | clubs | hearts | spades;
+        int numCards = Integer.bitCount(diamonds) + Integer.bitCount(clubs) + Integer.bitCount(hearts) +
+                Integer.bitCount(spades);
+
+        // No two cards share a rank, so this is either a straight or a high card hand.
+        if (numCards == Integer.bitCount(ranks)) {
+            return (numCards >= NUM_SCORED_RANKS) ? UNIQUE_RANK[ranks] : category(HandResult.HIGH_CARD) | TOP_FIVE[ranks];
+        }
+
+        // Ranks that show up on all four suits.
+        int fours = diamonds & clubs & hearts & spades;
+        if (fours != 0) {
+            int quad = highestRank(fours);
+            return category(HandResult.FOUR_OF_A_KIND) | packRank(quad, 0) | kickers(ranks ^ (1 << quad), 1, 1);
+        }
+
+        // Ranks that show up on at least three suits, and ranks that show up on exactly two (an even number of
+        // suits that is not four).
+        int threes = ((diamonds & clubs) | (hearts & spades)) & ((diamonds & hearts) | (clubs & spades));
+        int twos = ranks ^ (diamonds ^ clubs ^ hearts ^ spades);
+
+        int trips = -1;
+        if (threes != 0) {
+            trips = highestRank(threes);
+            int pairs = (threes ^ (1 << trips)) | twos;
+            if (pairs != 0) {
+                return category(HandResult.FULL_HOUSE) | packRank(trips, 0) | packRank(highestRank(pairs), 1);
+            }
+        }
+
+        int straightTop = STRAIGHT_TOP[ranks] - 1;
+        if (straightTop >= 0) {
+            return category(HandResult.STRAIGHT) | packRank(straightTop, 0);
+        }
+
+        if (trips >= 0) {
+            return category(HandResult.THREE_OF_A_KIND) | packRank(trips, 0) | kickers(ranks ^ (1 << trips), 2, 1);
+        }
+
+        if (Integer.bitCount(twos) >= 2) {
+            int highPair = highestRank(twos);
+            int lowPair = highestRank(twos ^ (1 << highPair));
+            return category(HandResult.TWO_PAIR) | packRank(highPair, 0) | packRank(lowPair, 1) |
+                    kickers(ranks ^ (1 << highPair) ^ (1 << lowPair), 1, 2);
+        }
+
+        int pair = highestRank(twos);
+        return category(HandResult.ONE_PAIR) | packRank(pair, 0) | kickers(ranks ^ (1 << pair), 3, 1);
+    }
+
+    /**
+     * Take the highest numKickers ranks out of the mask, and pack them starting at the given scoring position.
+     */
+    private static int kickers(int mask, int numKickers, int position) {
+        return (TOP_FIVE[mask] >>> (RANK_BITS * (NUM_SCORED_RANKS - numKickers)))
+                << (RANK_BITS * (NUM_SCORED_RANKS - numKickers - position));
+    }
+}
@@ -0,0 +1,150 @@
+package com.poker.history;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the hands in an archive written by a HandArchiveWriter, either one hand by its id or many in a row.
+ *
+ * The index and the segments are memory mapped, so opening an archive only maps the files (however big they are), and
+ * the hands are read straight out of the mapped files with no copying and nothing to collect: getHand() returns a
+ * ByteBuffer over the bytes of a hand in its segment, and readHands() a HandHistoryReader over the bytes of the hands
+ * in each segment, one segment after another.
+ *
+ * The archive is read as it was when it was opened: hands appended after that aren't seen until it is opened again.
+ * The files are closed as soon as they are mapped, and unmapped when the archive is garbage collected. Reading doesn't
+ * change the archive, so any number of threads can read it at the same time, each with its own HandHistoryReaders.
+ */
+public class HandArchive {
+    // Entries in each mapped piece of the index, so an index bigger than 2GB can still be mapped.
+    private static final int INDEX_CHUNK_BITS = 27;
+    private static final int INDEX_CHUNK_MASK = (1 << INDEX_CHUNK_BITS) - 1;
+
+    private final long numHands;
+    private final ByteBuffer[] indexChunks;
+    private final ByteBuffer[] segments;
+
+    /**
+     * @param directory: File directory of the archive.
+     * @throws java.io.IOException: If the archive can't be read, or its index points past the end of a segment.
+     */
+    public HandArchive(File directory) throws IOException {
+        try (FileChannel index = FileChannel.open(new File(directory, HandArchiveWriter.INDEX_FILE_NAME).toPath(),
+                StandardOpenOption.READ)) {
+            numHands = index.size() / HandArchiveWriter.INDEX_ENTRY_SIZE;
+            indexChunks = new ByteBuffer[(int) ((numHands + INDEX_CHUNK_MASK) >>> INDEX_CHUNK_BITS)];
+            for (int i = 0; i < indexChunks.length; i++) {
+                long first = (long) i << INDEX_CHUNK_BITS;
+                long numEntries = Math.min(numHands - first, 1L << INDEX_CHUNK_BITS);
+                indexChunks[i] = index.map(FileChannel.MapMode.READ_ONLY, first * HandArchiveWriter.INDEX_ENTRY_SIZE,
+                        numEntries * HandArchiveWriter.INDEX_ENTRY_SIZE);
+            }
+        }
+
+        segments = new ByteBuffer[(numHands == 0) ? 0 : HandArchiveWriter.getSegment(getEntry(numHands - 1)) + 1];
+        for (int segment = 0; segment < segments.length; segment++) {
+            File file = HandArchiveWriter.getSegmentFile(directory, segment);
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                segments[segment] = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+        if ((numHands > 0)
+                && (HandArchiveWriter.getEnd(getEntry(numHands - 1)) > segments[segments.length - 1].capacity())) {
+            throw new IOException("The index points past the end of segment " + (segments.length - 1) + ".");
+        }
+    }
+
+    /**
+     * @return long number of hands in the archive. Their ids go from 0 to one less than that.
+     */
+    public long getNumHands() {
+        return numHands;
+    }
+
+    /**
+     * @return int number of segment files the hands are in.
+     */
+    public int getNumSegments() {
+        return segments.length;
+    }
+
+    /**
+     * @param handId: long
+     * @return ByteBuffer of the hand's records, from its position to its limit, in the HandHistoryWriter format.
+     * @throws java.lang.IllegalArgumentException: If there is no hand with that id.
+     */
+    public ByteBuffer getHand(long handId) {
+        if ((handId < 0) || (handId >= numHands)) {
+            throw new IllegalArgumentException("There is no hand " + handId + " in the archive.");
+        }
+        long entry = getEntry(handId);
+        int segment = HandArchiveWriter.getSegment(entry);
+        ByteBuffer hand = segments[segment].duplicate();
+        ((Buffer) hand).limit(HandArchiveWriter.getEnd(entry));
+        ((Buffer) hand).position(getStart(handId, segment));
+        return hand;
+    }
+
+    /**
+     * @param handId: long
+     * @return HandHistoryReader of the hand.
+     * @throws java.lang.IllegalArgumentException: If there is no hand with that id.
+     */
+    public HandHistoryReader readHand(long handId) {
+        return new HandHistoryReader(getHand(handId));
+    }
+
+    /**
+     * @param fromHandId: long id of the first hand to read.
+     * @param toHandId: long id after the last hand to read.
+     * @return HandHistoryReader of the hands, one after another.
+     * @throws java.lang.IllegalArgumentException: If the hands aren't all in the archive.
+     */
+    public HandHistoryReader readHands(long fromHandId, long toHandId) {
+        if ((fromHandId < 0) || (fromHandId > toHandId) || (toHandId > numHands)) {
+            throw new IllegalArgumentException("The hands " + fromHandId + " to " + toHandId
+                    + " aren't in the archive.");
+        }
+        if (fromHandId == toHandId) {
+            return new HandHistoryReader();
+        }
+        long lastEntry = getEntry(toHandId - 1);
+        int firstSegment = HandArchiveWriter.getSegment(getEntry(fromHandId));
+        ByteBuffer[] hands = new ByteBuffer[HandArchiveWriter.getSegment(lastEntry) - firstSegment + 1];
+        for (int i = 0; i < hands.length; i++) {
+            hands[i] = segments[firstSegment + i].duplicate();
+        }
+        // Every segment but the last is full of hands, the last one may have hands after the ones to read.
+        ((Buffer) hands[0]).position(getStart(fromHandId, firstSegment));
+        ((Buffer) hands[hands.length - 1]).limit(HandArchiveWriter.getEnd(lastEntry));
+        return new HandHistoryReader(hands);
+    }
+
+    /**
+     * @return HandHistoryReader of every hand in the archive, one after another.
+     */
+    public HandHistoryReader readAllHands() {
+        return readHands(0, numHands);
+    }
+
+    private long getEntry(long handId) {
+        return indexChunks[(int) (handId >>> INDEX_CHUNK_BITS)]
+                .getLong((int) (handId & INDEX_CHUNK_MASK) * HandArchiveWriter.INDEX_ENTRY_SIZE);
+    }
+
+    /**
+     * @return int offset in the segment where the hand starts: where the hand before it ends, if it's in the same
+     * segment.
+     */
+    private int getStart(long handId, int segment) {
+        if (handId == 0) {
+            return 0;
+        }
+        long previous = getEntry(handId - 1);
+        return (HandArchiveWriter.getSegment(previous) == segment) ? HandArchiveWriter.getEnd(previous) : 0;
+    }
+}
@@ -0,0 +1,223 @@
+package com.poker.history;
+
+import com.poker.events.ActionTakenEvent;
+import com.poker.events.BoardDealtEvent;
+import com.poker.events.GameListener;
+import com.poker.events.HandStartedEvent;
+import com.poker.events.ShowdownEvent;
+import com.poker.events.TournamentFinishedEvent;
+import com.poker.player.Player;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Appends hands to an archive: a directory of segment files holding the hands in the HandHistoryWriter format, and an
+ * index file with one entry per hand, so a HandArchive can go straight to any hand. Add it to a GameTable as a
+ * listener, like a HandHistoryWriter.
+ *
+ * Hands are numbered in the archive in the order they were written, starting from 0 (the hand id, which unlike the
+ * hand number of a table doesn't start again with every tournament). The index entry of a hand is 8 bytes, high byte
+ * first: the segment in the high 32 bits and the offset in the segment where the hand ends in the low 32 bits. A hand
+ * starts where the one before it ends, or at the start of its segment. When a segment reaches the segment size, the
+ * next hand goes in a new segment, so no segment is much bigger than the segment size and every one can be mapped.
+ *
+ * A hand is only indexed once it is over (when the next hand starts, or the tournament finishes), and the index is
+ * only written after the segments, so the index never points at a hand that isn't all there. Opening an archive that
+ * already has hands appends to it, after cutting off whatever was written after the last indexed hand.
+ *
+ * Like a HandHistoryWriter, flush() or close() the writer when the hands are done, and errors from the files are
+ * thrown as UncheckedIOException.
+ */
+public class HandArchiveWriter implements GameListener, Flushable, Closeable {
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+
+    static final String INDEX_FILE_NAME = "hands.index";
+    static final int INDEX_ENTRY_SIZE = 8;
+    // Segments are mapped in one piece, so they must stay well under 2GB.
+    private static final int MAX_SEGMENT_SIZE = 1 << 30;
+    private static final int INDEX_BUFFER_SIZE = 1 << 13;
+
+    private final File directory;
+    private final List<Player> players;
+    private final boolean isSeedOnly;
+    private final int segmentSize;
+
+    private final FileOutputStream indexOut;
+    // Index entries not written yet, so they can be written after the hands they point at.
+    private final byte[] indexBuffer = new byte[INDEX_BUFFER_SIZE];
+    private int indexPosition;
+
+    private int segment;
+    // Bytes already in the segment before the current writer started writing to it.
+    private long segmentStart;
+    private HandHistoryWriter writer;
+    private boolean isInHand;
+    private long numHands;
+
+    /**
+     * @param directory: File directory of the archive. It is created if it doesn't exist.
+     * @param players: List of players at the table, in the same order the table was created with (their seats).
+     * @throws java.io.IOException: If the archive can't be opened.
+     */
+    public HandArchiveWriter(File directory, List<Player> players) throws IOException {
+        this(directory, players, false, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * @param directory: File directory of the archive. It is created if it doesn't exist.
+     * @param players: List of players at the table, in the same order the table was created with (their seats).
+     * @param isSeedOnly: boolean true to only write what is needed to play the hands again (see HandHistoryWriter).
+     * @param segmentSize: int bytes after which the hands go in a new segment (at most 1GB).
+     * @throws java.lang.IllegalArgumentException: If the segment size is out of range.
+     * @throws java.io.IOException: If the archive can't be opened.
+     */
+    public HandArchiveWriter(File directory, List<Player> players, boolean isSeedOnly, int segmentSize)
+            throws IOException {
+        if ((segmentSize <= 0) || (segmentSize > MAX_SEGMENT_SIZE)) {
+            throw new IllegalArgumentException("The segment size must be between 1 and " + MAX_SEGMENT_SIZE + ".");
+        }
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Can't create the archive directory " + directory + ".");
+        }
+        this.directory = directory;
+        this.players = players;
+        this.isSeedOnly = isSeedOnly;
+        this.segmentSize = segmentSize;
+
+        // Carry on from the last indexed hand, dropping a half written index entry or hand if there is one.
+        long lastEntry = 0L;
+        try (RandomAccessFile index = new RandomAccessFile(new File(directory, INDEX_FILE_NAME), "rw")) {
+            numHands = index.length() / INDEX_ENTRY_SIZE;
+            index.setLength(numHands * INDEX_ENTRY_SIZE);
+            if (numHands > 0) {
+                index.seek((numHands - 1) * INDEX_ENTRY_SIZE);
+                lastEntry = index.readLong();
+            }
+        }
+        segment = getSegment(lastEntry);
+        segmentStart = getEnd(lastEntry);
+        try (RandomAccessFile segmentFile = new RandomAccessFile(getSegmentFile(directory, segment), "rw")) {
+            if (segmentFile.length() < segmentStart) {
+                throw new IOException("The index points past the end of segment " + segment + ".");
+            }
+            segmentFile.setLength(segmentStart);
+        }
+        this.indexOut = new FileOutputStream(new File(directory, INDEX_FILE_NAME), true);
+        this.writer = new HandHistoryWriter(new FileOutputStream(getSegmentFile(directory, segment), true), players,
+                isSeedOnly);
+    }
+
+    @Override
+    public void onHandStarted(HandStartedEvent event) {
+        finishHand();
+        if (segmentStart + writer.getBytesWritten() >= segmentSize) {
+            nextSegment();
+        }
+        writer.onHandStarted(event);
+        isInHand = true;
+    }
+
+    @Override
+    public void onActionTaken(ActionTakenEvent event) {
+        writer.onActionTaken(event);
+    }
+
+    @Override
+    public void onBoardDealt(BoardDealtEvent event) {
+        writer.onBoardDealt(event);
+    }
+
+    @Override
+    public void onShowdown(ShowdownEvent event) {
+        writer.onShowdown(event);
+    }
+
+    @Override
+    public void onTournamentFinished(TournamentFinishedEvent event) {
+        finishHand();
+        flush();
+    }
+
+    /**
+     * @return long number of hands in the archive, which is also the id the next hand will get.
+     */
+    public long getNumHands() {
+        return numHands + (isInHand ? 1 : 0);
+    }
+
+    /**
+     * Write the hands and index entries gathered so far to the files.
+     */
+    @Override
+    public void flush() {
+        writer.flush();
+        try {
+            indexOut.write(indexBuffer, 0, indexPosition);
+            indexOut.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        indexPosition = 0;
+    }
+
+    /**
+     * Index the last hand, write everything out and close the files.
+     */
+    @Override
+    public void close() {
+        finishHand();
+        flush();
+        writer.close();
+        try {
+            indexOut.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void finishHand() {
+        if (!isInHand) {
+            return;
+        }
+        if (indexPosition == INDEX_BUFFER_SIZE) {
+            flush();
+        }
+        long entry = ((long) segment << 32) | (segmentStart + writer.getBytesWritten());
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            indexBuffer[indexPosition++] = (byte) (entry >>> shift);
+        }
+        numHands++;
+        isInHand = false;
+    }
+
+    private void nextSegment() {
+        writer.close();
+        segment++;
+        segmentStart = 0L;
+        try {
+            writer = new HandHistoryWriter(new FileOutputStream(getSegmentFile(directory, segment)), players,
+                    isSeedOnly);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static File getSegmentFile(File directory, int segment) {
+        return new File(directory, String.format("segment-%05d.hands", segment));
+    }
+
+    static int getSegment(long entry) {
+        return (int) (entry >>> 32);
+    }
+
+    static int getEnd(long entry) {
+        return (int) entry;
+    }
+}
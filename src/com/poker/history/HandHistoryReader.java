@@ -0,0 +1,298 @@
+package com.poker.history;
+
+import com.poker.RoundEnum;
+import com.poker.actions.ActionEnum;
+import com.poker.actions.EncodedAction;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads back the hands written by a HandHistoryWriter, one record at a time. next() reads the next record and returns
+ * its kind, and the getters return what was in it. Only the getters for the kind of the last record make sense (and
+ * the hand started getters, which last until the next hand). Nothing is allocated while reading: the cards come back
+ * as ordinals or packed into longs (see CardSet), and the actions as ActionEnums or encoded (see EncodedAction).
+ *
+ * The hands can be read from a stream, or straight out of ByteBuffers (e.g. the mapped segments of a HandArchive),
+ * in which case nothing is copied at all.
+ *
+ * Hands written in the seed only format have no hole cards, blinds, board cards or showdowns, just the stacks, the
+ * hand seed and the decisions of the players, which is what GameTable.replayHand() needs to play them again.
+ */
+public class HandHistoryReader implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_SEATS = 64;
+    private static final HandRecordEnum[] KINDS = HandRecordEnum.values();
+    private static final ActionEnum[] ACTIONS = ActionEnum.values();
+    private static final RoundEnum[] ROUNDS = RoundEnum.values();
+
+    // Either the stream and the buffer it is read into, or the ByteBuffers to read one after another.
+    private final InputStream in;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    private final ByteBuffer[] sources;
+    private int sourceIndex;
+
+    // HAND_STARTED
+    private int handNumber;
+    private int dealerSeat;
+    private long seats;
+    private boolean isSeedOnly;
+    private long handSeed;
+    private final int[] stacks = new int[MAX_SEATS];
+    private final long[] holeCards = new long[MAX_SEATS];
+    private long boardCards;
+
+    // ACTION_TAKEN and SHOWDOWN
+    private int seat;
+    private ActionEnum action;
+    private int amount;
+
+    // BOARD_DEALT
+    private RoundEnum round;
+    private long newCards;
+
+    // SHOWDOWN
+    private int pot;
+    private long winnerSeats;
+    private int handRank;
+
+    public HandHistoryReader(InputStream in) {
+        this.in = in;
+        this.buffer = new byte[BUFFER_SIZE];
+        this.sources = null;
+    }
+
+    /**
+     * Read the hands between the position and the limit of each buffer, one buffer after another. A record can't be
+     * split between two buffers. The buffers' positions move as they are read.
+     * @param sources: ByteBuffers of hands.
+     */
+    public HandHistoryReader(ByteBuffer... sources) {
+        this.in = null;
+        this.buffer = null;
+        this.sources = sources;
+    }
+
+    /**
+     * Read the next record.
+     * @return HandRecordEnum kind of record, or null at the end of the stream.
+     * @throws java.io.EOFException: If the stream ends in the middle of a record.
+     * @throws java.io.IOException: If the stream can't be read.
+     */
+    public HandRecordEnum next() throws IOException {
+        if (sources != null) {
+            while ((sourceIndex < sources.length) && !sources[sourceIndex].hasRemaining()) {
+                sourceIndex++;
+            }
+            if (sourceIndex == sources.length) {
+                return null;
+            }
+        } else if ((position == limit) && !fill()) {
+            return null;
+        }
+        long header = readVarint();
+        HandRecordEnum kind = KINDS[(int) (header & ((1 << HandHistoryWriter.KIND_BITS) - 1))];
+        int value = (int) (header >>> HandHistoryWriter.KIND_BITS);
+        switch (kind) {
+            case HAND_STARTED:
+                readHandStarted(value);
+                break;
+            case ACTION_TAKEN:
+                seat = value >>> HandHistoryWriter.ACTION_BITS;
+                action = ACTIONS[value & ((1 << HandHistoryWriter.ACTION_BITS) - 1)];
+                amount = HandHistoryWriter.hasAmount(action) ? (int) readVarint() : 0;
+                break;
+            case BOARD_DEALT:
+                round = ROUNDS[value];
+                newCards = 0L;
+                for (int i = 0; i < round.getNumCards(); i++) {
+                    newCards |= 1L << readByte();
+                }
+                boardCards |= newCards;
+                break;
+            default:
+                pot = value - 1;
+                amount = (int) readVarint();
+                winnerSeats = readVarint();
+                handRank = (int) readVarint() - 1;
+                break;
+        }
+        return kind;
+    }
+
+    private void readHandStarted(int value) throws IOException {
+        dealerSeat = value >>> 1;
+        isSeedOnly = (value & 1) != 0;
+        handNumber = (int) readVarint();
+        seats = readVarint();
+        handSeed = 0L;
+        for (int i = 0; i < HandHistoryWriter.SEED_BYTES; i++) {
+            handSeed |= (long) readByte() << (8 * i);
+        }
+        for (long remaining = seats; remaining != 0; remaining &= remaining - 1) {
+            int seat = Long.numberOfTrailingZeros(remaining);
+            stacks[seat] = (int) readVarint();
+            holeCards[seat] = isSeedOnly ? 0L : (1L << readByte()) | (1L << readByte());
+        }
+        boardCards = 0L;
+    }
+
+    public int getHandNumber() {
+        return handNumber;
+    }
+
+    public int getDealerSeat() {
+        return dealerSeat;
+    }
+
+    /**
+     * @return long mask of the seats dealt into the hand.
+     */
+    public long getSeats() {
+        return seats;
+    }
+
+    /**
+     * @return boolean true if the hand was written in the seed only format.
+     */
+    public boolean isSeedOnly() {
+        return isSeedOnly;
+    }
+
+    /**
+     * @return long seed the hand was shuffled from.
+     */
+    public long getHandSeed() {
+        return handSeed;
+    }
+
+    /**
+     * @param seat: int seat dealt into the hand.
+     * @return int chips the seat had when the hand started.
+     */
+    public int getStack(int seat) {
+        return stacks[seat];
+    }
+
+    /**
+     * @param seat: int seat dealt into the hand.
+     * @return long packed hole cards of the seat (none in the seed only format).
+     */
+    public long getHoleCards(int seat) {
+        return holeCards[seat];
+    }
+
+    /**
+     * @return long packed cards on the board so far in this hand.
+     */
+    public long getBoardCards() {
+        return boardCards;
+    }
+
+    /**
+     * @return int seat that took the action.
+     */
+    public int getSeat() {
+        return seat;
+    }
+
+    public ActionEnum getAction() {
+        return action;
+    }
+
+    /**
+     * @return int chips put in with the action, or paid out of the pot at a showdown.
+     */
+    public int getAmount() {
+        return amount;
+    }
+
+    /**
+     * @return long the action encoded (see EncodedAction).
+     */
+    public long getEncodedAction() {
+        return EncodedAction.encode(action, amount);
+    }
+
+    public RoundEnum getRound() {
+        return round;
+    }
+
+    /**
+     * @return long packed cards dealt in the round.
+     */
+    public long getNewCards() {
+        return newCards;
+    }
+
+    /**
+     * @return int pot paid out, 0 being the main pot, or -1 when everyone else folded and the winner took everything.
+     */
+    public int getPot() {
+        return pot;
+    }
+
+    public long getWinnerSeats() {
+        return winnerSeats;
+    }
+
+    /**
+     * @return int packed rank of the winning hand, or HandEvaluator.NO_MATCH if nobody had to show.
+     */
+    public int getHandRank() {
+        return handRank;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (in != null) {
+            in.close();
+        }
+    }
+
+    private long readVarint() throws IOException {
+        long value = 0L;
+        for (int shift = 0; ; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    private int readByte() throws IOException {
+        if (sources != null) {
+            ByteBuffer source = sources[sourceIndex];
+            if (!source.hasRemaining()) {
+                throw new EOFException("The hand history ends in the middle of a record.");
+            }
+            return source.get() & 0xFF;
+        }
+        if ((position == limit) && !fill()) {
+            throw new EOFException("The hand history ends in the middle of a record.");
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    /**
+     * @return boolean false if the stream has ended.
+     */
+    private boolean fill() throws IOException {
+        int numRead = in.read(buffer, 0, BUFFER_SIZE);
+        while (numRead == 0) {
+            numRead = in.read(buffer, 0, BUFFER_SIZE);
+        }
+        if (numRead < 0) {
+            return false;
+        }
+        position = 0;
+        limit = numRead;
+        return true;
+    }
+}
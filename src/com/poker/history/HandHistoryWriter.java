@@ -0,0 +1,214 @@
+package com.poker.history;
+
+import com.poker.Card;
+import com.poker.actions.ActionEnum;
+import com.poker.events.ActionTakenEvent;
+import com.poker.events.BoardDealtEvent;
+import com.poker.events.GameListener;
+import com.poker.events.HandStartedEvent;
+import com.poker.events.ShowdownEvent;
+import com.poker.events.TournamentFinishedEvent;
+import com.poker.player.Player;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Writes what happens at a table to a stream in a compact binary format, so the hands can be read back later with a
+ * HandHistoryReader. Add it to a GameTable as a listener.
+ *
+ * Every record starts with a varint (7 bits per byte, low bits first, the top bit set on every byte but the last)
+ * holding the kind of record (see HandRecordEnum) in its low 2 bits and a small value above them:
+ * - HAND_STARTED: the dealer seat times 2, plus 1 in the seed only format. Then the hand number, the mask of the seats
+ *   dealt in, the seed the hand was shuffled from (8 bytes, low byte first), and for each of the seats dealt in
+ *   (lowest first) its stack as a varint and its two hole cards as one byte each (the card ordinals).
+ * - ACTION_TAKEN: the seat times 8 plus the ActionEnum ordinal. Then the amount, except for checks and folds.
+ * - BOARD_DEALT: the RoundEnum ordinal. Then the new cards of the round, one byte each.
+ * - SHOWDOWN: the pot plus 1 (0 when everyone else folded). Then the amount, the mask of the winners, and the hand
+ *   rank plus 1 (0 when nobody had to show).
+ * A hand at a 6 player table takes about 100 bytes.
+ *
+ * Since a hand can be played again from its seed and the players' decisions (see GameTable.replayHand()), the writer
+ * can also leave out everything else: in the seed only format the hole cards, blinds, board cards and showdowns are
+ * not written, which takes about a third off the size of a hand.
+ *
+ * The records are gathered in a buffer and written to the stream when it fills up, so flush() or close() the writer
+ * when the hands are done. Errors from the stream are thrown as UncheckedIOException, since the table can't handle
+ * them.
+ */
+public class HandHistoryWriter implements GameListener, Flushable, Closeable {
+    static final int KIND_BITS = 2;
+    static final int ACTION_BITS = 3;
+    static final int SEED_BYTES = 8;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    // More than the biggest record (a hand started with all 64 seats dealt in).
+    private static final int MAX_RECORD_SIZE = 1024;
+
+    private final OutputStream out;
+    private final List<Player> players;
+    private final boolean isSeedOnly;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private long bytesFlushed;
+    // Board cards already written in this hand.
+    private long boardCards;
+
+    /**
+     * @param out: OutputStream to write the hands to.
+     * @param players: List of players at the table, in the same order the table was created with (their seats).
+     */
+    public HandHistoryWriter(OutputStream out, List<Player> players) {
+        this(out, players, false);
+    }
+
+    /**
+     * @param out: OutputStream to write the hands to.
+     * @param players: List of players at the table, in the same order the table was created with (their seats).
+     * @param isSeedOnly: boolean true to only write what is needed to play the hands again.
+     */
+    public HandHistoryWriter(OutputStream out, List<Player> players, boolean isSeedOnly) {
+        this.out = out;
+        this.players = players;
+        this.isSeedOnly = isSeedOnly;
+    }
+
+    @Override
+    public void onHandStarted(HandStartedEvent event) {
+        makeRoom();
+        long seats = event.getActiveSeats();
+        writeHeader(HandRecordEnum.HAND_STARTED, (event.getDealerSeat() << 1) | (isSeedOnly ? 1 : 0));
+        writeVarint(event.getHandNumber());
+        writeVarint(seats);
+        long seed = event.getHandSeed();
+        for (int i = 0; i < SEED_BYTES; i++) {
+            buffer[position++] = (byte) (seed >>> (8 * i));
+        }
+        for (; seats != 0; seats &= seats - 1) {
+            Player player = players.get(Long.numberOfTrailingZeros(seats));
+            writeVarint(player.getNumChips());
+            if (!isSeedOnly) {
+                Card[] cards = player.getCards();
+                buffer[position++] = (byte) cards[0].getOrdinal();
+                buffer[position++] = (byte) cards[1].getOrdinal();
+            }
+        }
+        boardCards = 0L;
+    }
+
+    @Override
+    public void onActionTaken(ActionTakenEvent event) {
+        makeRoom();
+        ActionEnum action = event.getAction();
+        if (isSeedOnly && isBlind(action)) {
+            return;
+        }
+        writeHeader(HandRecordEnum.ACTION_TAKEN, (event.getSeat() << ACTION_BITS) | action.ordinal());
+        if (hasAmount(action)) {
+            writeVarint(event.getAmount());
+        }
+    }
+
+    @Override
+    public void onBoardDealt(BoardDealtEvent event) {
+        if (isSeedOnly) {
+            return;
+        }
+        makeRoom();
+        writeHeader(HandRecordEnum.BOARD_DEALT, event.getRound().ordinal());
+        for (long newCards = event.getBoardCards() & ~boardCards; newCards != 0; newCards &= newCards - 1) {
+            buffer[position++] = (byte) Long.numberOfTrailingZeros(newCards);
+        }
+        boardCards = event.getBoardCards();
+    }
+
+    @Override
+    public void onShowdown(ShowdownEvent event) {
+        if (isSeedOnly) {
+            return;
+        }
+        makeRoom();
+        writeHeader(HandRecordEnum.SHOWDOWN, event.getPot() + 1);
+        writeVarint(event.getAmount());
+        writeVarint(event.getWinnerSeats());
+        writeVarint(event.getHandRank() + 1);
+    }
+
+    @Override
+    public void onTournamentFinished(TournamentFinishedEvent event) {
+        flush();
+    }
+
+    /**
+     * @return long bytes written so far, including the ones still in the buffer.
+     */
+    public long getBytesWritten() {
+        return bytesFlushed + position;
+    }
+
+    /**
+     * Write out the buffered records.
+     */
+    @Override
+    public void flush() {
+        try {
+            out.write(buffer, 0, position);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        bytesFlushed += position;
+        position = 0;
+    }
+
+    @Override
+    public void close() {
+        flush();
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param action: ActionEnum
+     * @return boolean indicating if the action puts in chips, so its record has an amount.
+     */
+    static boolean hasAmount(ActionEnum action) {
+        return (action != ActionEnum.CHECK) && (action != ActionEnum.FOLD);
+    }
+
+    /**
+     * @param action: ActionEnum
+     * @return boolean indicating if the action is a blind, which the table posts without asking the player.
+     */
+    static boolean isBlind(ActionEnum action) {
+        return (action == ActionEnum.SMALL_BLIND) || (action == ActionEnum.BIG_BLIND);
+    }
+
+    /**
+     * Flush the buffer if the next record might not fit in it.
+     */
+    private void makeRoom() {
+        if (position > BUFFER_SIZE - MAX_RECORD_SIZE) {
+            flush();
+        }
+    }
+
+    private void writeHeader(HandRecordEnum kind, int value) {
+        writeVarint(((long) value << KIND_BITS) | kind.ordinal());
+    }
+
+    private void writeVarint(long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+}
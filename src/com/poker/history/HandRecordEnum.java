@@ -0,0 +1,16 @@
+package com.poker.history;
+
+/**
+ * The kinds of records in a hand history (see HandHistoryWriter). A hand is a HAND_STARTED record followed by the
+ * records of everything that happened in it, up to the next HAND_STARTED record.
+ */
+public enum HandRecordEnum {
+    // The dealer, and the seats dealt in with their stacks and hole cards.
+    HAND_STARTED,
+    // A seat posted a blind, folded, checked, called or raised.
+    ACTION_TAKEN,
+    // The cards of the flop, turn or river.
+    BOARD_DEALT,
+    // A pot was paid out to its winners.
+    SHOWDOWN
+}
@@ -29,19 +29,31 @@ public class HumanPlayer extends Player {
      * @return Action that human to run.
      */
     public Action generateAction(List<ActionEnum> availActions, PotManager potManager) {
+        return generateAction(legalActions(availActions, potManager), potManager);
+    }
+
+    /**
+     * Ask for human input to console based on the legal actions. Keep asking for human input until the human
+     * provides a valid input.
+     * @param legalActions: LegalActions that can be performed, with the amounts for calling and raising.
+     * @param potManager: The pot manager, to show the human the state of the hand.
+     * @return Action that human to run.
+     */
+    @Override
+    public Action generateAction(LegalActions legalActions, PotManager potManager) {
         // If the human player has only one option and that is to check, simply perform
         // the check for them. This case happens often when players are all in...no need
         // to keep entering in a check option.
-        if ((availActions.size() == 1) && (availActions.get(0) == ActionEnum.CHECK)) {
-            return new CheckAction();
+        if (legalActions.getMask() == LegalActions.bit(ActionEnum.CHECK)) {
+            return CheckAction.INSTANCE;
         }
         Scanner scanner = new Scanner(System.in);
         StringBuilder sb = new StringBuilder();
-        int elementsInSet = availActions.size();
+        int elementsInSet = legalActions.size();
 
         // String representation of available actions to be shown on console.
         for (int i = 0; i < elementsInSet; i++) {
-            sb.append(String.format("(%s)%s ", i + 1, availActions.get(i)));
+            sb.append(String.format("(%s)%s ", i + 1, legalActions.get(i)));
         }
 
         System.out.println(this.getBettingInfo(potManager));
@@ -56,27 +68,23 @@ public class HumanPlayer extends Player {
             try {
                 int index = getOptionNum(input, elementsInSet);
                 int amount = getAmount(input);
-                ActionEnum actionEnum = availActions.get(index - 1);
+                ActionEnum actionEnum = legalActions.get(index - 1);
 
                 switch (actionEnum) {
                     // Get the details of what the user entered and make sure the action and amounts are valid based
                     // on this player's state.
                     case RAISE:
-                        int minRaiseAmount = potManager.getMinimumBetAmount() - bet;
-                        int callAmt = potManager.getLastBet() - bet;
-                        validateRaise(amount, minRaiseAmount, callAmt);
+                        validateRaise(amount, legalActions.getMinRaise(), legalActions.getCallAmount());
                         return new RaiseAction(amount);
                     case FOLD:
                         validateNonRaiseActions(input);
-                        return new FoldAction();
+                        return FoldAction.INSTANCE;
                     case CALL:
                         validateNonRaiseActions(input);
-                        int amt = potManager.getLastBet() - bet;
-                        amt = (amt >= numChips) ? numChips : amt;
-                        return new CallAction(amt);
+                        return new CallAction(legalActions.getCallAmount());
                     case CHECK:
                         validateNonRaiseActions(input);
-                        return new CheckAction();
+                        return CheckAction.INSTANCE;
                     default:
                         throw new IllegalArgumentException("Invalid action enum passed in");
                 }
@@ -3,12 +3,11 @@ package com.poker.player;
 import com.poker.Card;
 import com.poker.actions.Action;
 import com.poker.actions.ActionEnum;
-import com.poker.actions.BigBlindAction;
-import com.poker.actions.SmallBlindAction;
+import com.poker.actions.EncodedAction;
+import com.poker.actions.LegalActions;
+import com.poker.hands.BoardState;
 import com.poker.hands.Hand;
 import com.poker.pots.PotManager;
-import com.sun.istack.internal.NotNull;
-import com.sun.istack.internal.Nullable;
 
 import java.util.Arrays;
 import java.util.Comparator;
@@ -85,11 +84,22 @@ public abstract class Player implements Comparable<Player> {
      * Clear out this users hand.
      */
     public void clearHand() {
-        cards = new Card[2];
+        cards[0] = null;
+        cards[1] = null;
         clearBet();
         isInHand = false;
     }
 
+    /**
+     * Fold this hand. Unlike clearHand() the bet is kept until the end of the betting round, since the chips above
+     * another player's all in still have to go into the side pot.
+     */
+    public void fold() {
+        cards[0] = null;
+        cards[1] = null;
+        isInHand = false;
+    }
+
     /**
      * A user is all in when he is still in the hand but his number of chips is set to 0.
      * @return
@@ -141,11 +151,7 @@ public abstract class Player implements Comparable<Player> {
      * @return Action
      */
     public Action postSmallBlind(int amount) {
-        lastAction = ActionEnum.SMALL_BLIND;
-        int amountToBet = (amount <= numChips) ? amount : numChips;
-        bet(amountToBet);
-        setBetIncrement(amountToBet);
-        return new SmallBlindAction(amountToBet);
+        return EncodedAction.toAction(postBlind(ActionEnum.SMALL_BLIND, amount));
     }
 
     /**
@@ -154,11 +160,21 @@ public abstract class Player implements Comparable<Player> {
      * @return Action
      */
     public Action postBigBlind(int amount) {
-        lastAction = ActionEnum.BIG_BLIND;
+        return EncodedAction.toAction(postBlind(ActionEnum.BIG_BLIND, amount));
+    }
+
+    /**
+     * Post a blind, or all of our chips if we have less than that.
+     * @param blind: ActionEnum SMALL_BLIND or BIG_BLIND.
+     * @param amount: amount to post.
+     * @return long encoded action (see EncodedAction) with the amount actually posted.
+     */
+    public long postBlind(ActionEnum blind, int amount) {
+        lastAction = blind;
         int amountToBet = (amount <= numChips) ? amount : numChips;
         bet(amountToBet);
         setBetIncrement(amountToBet);
-        return new BigBlindAction(amountToBet);
+        return EncodedAction.encode(blind, amountToBet);
     }
 
     /**
@@ -208,23 +224,53 @@ public abstract class Player implements Comparable<Player> {
      * @param lastPotBet
      */
     public void processAction(Action action, int lastPotBet) {
-        int amount = action.getIncrementAmount();
-        if (action.getIncrementAmount() > 0) {
+        processAction(EncodedAction.encode(action), lastPotBet);
+    }
+
+    /**
+     * Process an action in its encoded form (see EncodedAction), the same as processAction(Action, int).
+     * @param action: long encoded action.
+     * @param lastPotBet: int last bet of the pot before the action.
+     */
+    public void processAction(long action, int lastPotBet) {
+        int amount = EncodedAction.getAmount(action);
+        if (amount > 0) {
             bet(amount);
             setBetIncrement(getBet() - lastPotBet);
         }
-        setLastAction(action);
+        lastAction = EncodedAction.getActionEnum(action);
     }
 
+    /**
+     * Set this player's hand to their cards and the table cards. The same Hand is refilled each time, so getHand()
+     * is only good until the next call.
+     * @param tableCards: List of the table cards.
+     */
     public void setHand(List<Card> tableCards) {
-        hand = new Hand(getCards(), tableCards);
+        if (hand == null) {
+            hand = new Hand(getCards(), tableCards);
+        } else {
+            hand.set(getCards(), tableCards);
+        }
     }
 
     public void evaluateHand(List<Card> tableCards) {
-        hand = new Hand(getCards(), tableCards);
+        setHand(tableCards);
         hand.evaluate();
     }
 
+    /**
+     * Evaluate this player's cards against a board that has already been counted. Only the hole cards are added.
+     * @param board: BoardState of the table cards.
+     */
+    public void evaluateHand(BoardState board) {
+        if (hand == null) {
+            hand = new Hand(getCards(), board);
+        } else {
+            hand.set(getCards(), board);
+        }
+    }
+
     /**
      * Return information about the game state and the player state. Offers more info if the current player is you.
      * @param potManager
@@ -249,6 +295,41 @@ public abstract class Player implements Comparable<Player> {
      */
     public abstract Action generateAction(List<ActionEnum> allowableActions, PotManager potManager);
 
+    /**
+     * Decide on an action out of the legal actions the table worked out, without building a list of them. Players
+     * that only implement the list version get the legal actions as a list.
+     * @param legalActions: LegalActions the player can perform, with the amounts for calling and raising.
+     * @param potManager: The pot manager in case we need more info about the pots.
+     * @return Action: indicates the action the player decided to choose.
+     */
+    public Action generateAction(LegalActions legalActions, PotManager potManager) {
+        return generateAction(legalActions.toList(), potManager);
+    }
+
+    /**
+     * Decide on an action in its encoded form (see EncodedAction). The table calls this one, so players that can
+     * decide without creating an Action object should override it. By default the Action is encoded.
+     * @param legalActions: LegalActions the player can perform, with the amounts for calling and raising.
+     * @param potManager: The pot manager in case we need more info about the pots.
+     * @return long encoded action.
+     */
+    public long generateEncodedAction(LegalActions legalActions, PotManager potManager) {
+        return EncodedAction.encode(generateAction(legalActions, potManager));
+    }
+
+    /**
+     * Work out the call and raise amounts for this player from the state of the pot, for players that are handed a
+     * list of actions.
+     * @param allowableActions: List of actions that the player can perform.
+     * @param potManager: PotManager of the hand.
+     * @return LegalActions
+     */
+    protected LegalActions legalActions(List<ActionEnum> allowableActions, PotManager potManager) {
+        int callAmount = Math.min(potManager.getLastBet() - bet, numChips);
+        return LegalActions.of(allowableActions, Math.max(callAmount, 0), potManager.getMinimumBetAmount() - bet,
+                numChips);
+    }
+
     @Override
     public String toString() {
         return String.format("%s", playerName);
@@ -4,11 +4,12 @@ import java.util.Comparator;
 
 /**
  * Created by atul on 2/26/15.
+ * Sorts players by the strength of their evaluated hands, strongest first.
  */
 public class PlayerHandComparator implements Comparator<Player> {
 
     @Override
     public int compare(Player player1, Player player2) {
-        return player1.getHand().getHandEvalResult().compareTo(player2.getHand().getHandEvalResult());
+        return Integer.compare(player2.getHand().getHandRank(), player1.getHand().getHandRank());
     }
 }
@@ -1,10 +1,11 @@
 package com.poker.player;
 
+import com.poker.RandomSource;
+import com.poker.SplittableRandomSource;
 import com.poker.actions.*;
 import com.poker.pots.PotManager;
 
 import java.util.List;
-import java.util.Random;
 
 /**
  * Created by atul on 2/24/15.
@@ -13,8 +14,21 @@ import java.util.Random;
  */
 public class RobotPlayer extends Player {
 
+    // Used for every random decision, so seeding it makes the robot's play reproducible.
+    private final RandomSource random;
+
     public RobotPlayer(int startingChips, String name) {
+        this(startingChips, name, new SplittableRandomSource());
+    }
+
+    /**
+     * @param startingChips: int
+     * @param name: String
+     * @param random: RandomSource for the robot's decisions. Robots at the same table should each get their own.
+     */
+    public RobotPlayer(int startingChips, String name, RandomSource random) {
         super(startingChips, name);
+        this.random = random;
     }
 
     /**
@@ -24,73 +38,90 @@ public class RobotPlayer extends Player {
      * @return
      */
     public Action generateAction(List<ActionEnum> allowableActions, PotManager potManager) {
+        return generateAction(legalActions(allowableActions, potManager), potManager);
+    }
+
+    /**
+     * From the legal actions that the player can perform, we randomly choose one.
+     * @param legalActions: LegalActions the player can perform, with the amounts for calling and raising.
+     * @param potManager: The pot manager of the hand.
+     * @return Action
+     */
+    @Override
+    public Action generateAction(LegalActions legalActions, PotManager potManager) {
+        return EncodedAction.toAction(generateEncodedAction(legalActions, potManager));
+    }
+
+    /**
+     * From the legal actions that the player can perform, we randomly choose one, without creating an Action.
+     * @param legalActions: LegalActions the player can perform, with the amounts for calling and raising.
+     * @param potManager: The pot manager of the hand.
+     * @return long encoded action (see EncodedAction).
+     */
+    @Override
+    public long generateEncodedAction(LegalActions legalActions, PotManager potManager) {
+        long action = chooseAction(legalActions, random);
+        lastAction = EncodedAction.getActionEnum(action);
+        return action;
+    }
+
+    /**
+     * The robot's choice of action, shared with the robots of the BettingEngine (see RobotStrategy).
+     * @param legalActions: LegalActions the robot can perform, with the amounts for calling and raising.
+     * @param random: RandomSource for the robot's decisions.
+     * @return long encoded action (see EncodedAction).
+     */
+    public static long chooseAction(LegalActions legalActions, RandomSource random) {
 
         // The robot will always call if calling is an option. If calling is not an option the robot will check
         // to see if checking is an option, in which case it will perform that then. If neither of those two are
         // available, the robot will randomly choose an action.
-        boolean hasCallOption = false;
-        boolean hasCheckOption = false;
-        for (ActionEnum actionEnum : allowableActions) {
-            if (actionEnum == ActionEnum.CALL) {
-                hasCallOption = true;
-                break;
-            }
-
-            if (actionEnum == ActionEnum.CHECK) {
-                hasCheckOption = true;
-            }
-        }
-
-        // Check if call option is avail and use that, else if check option is avail use that, else choose random.
-        if (hasCallOption) {
-            lastAction = ActionEnum.CALL;
-        } else if (hasCheckOption) {
-            lastAction = ActionEnum.CHECK;
+        ActionEnum action;
+        if (legalActions.contains(ActionEnum.CALL)) {
+            action = ActionEnum.CALL;
+        } else if (legalActions.contains(ActionEnum.CHECK)) {
+            action = ActionEnum.CHECK;
         } else {
-            // Randomly choose element based on size of action list.
-            int elementsInSet = allowableActions.size();
+            // Randomly choose element based on the number of legal actions.
+            int elementsInSet = legalActions.size();
             int index;
             if (elementsInSet > 1) {
-                index = (new Random()).nextInt(elementsInSet);
+                index = random.nextInt(elementsInSet);
             } else {
                 index = 0;
             }
-            lastAction = allowableActions.get(index);
+            action = legalActions.get(index);
         }
 
         // Based on the type of action we choose we randomly decide on amounts that are within the confines of legality.
         // Return the correct action based on the type we chose.
-        switch (lastAction) {
+        switch (action) {
             case CHECK:
-                return new CheckAction();
+                return EncodedAction.CHECK;
             case RAISE:
                 // If we chose a raise action choose a random number that is greater than the min raise amount if we
                 // have more than that number of chips. else choose all of our chips.
-                int minBet = potManager.getMinimumBetAmount() - bet;
-                if (minBet >= numChips) {
-                    // Calculate the min amount for a call. If we have less than the amount for a call we did something
-                    // wrong when calculating the available actions.
-                    int diff = potManager.getLastBet() - bet;
-                    if (diff >= numChips) {
+                int minBet = legalActions.getMinRaise();
+                int maxBet = legalActions.getMaxRaise();
+                if (minBet >= maxBet) {
+                    // If we have no more than the amount for a call we did something wrong when calculating the
+                    // available actions.
+                    if (legalActions.getCallAmount() >= maxBet) {
                         throw new IllegalArgumentException("This should have never been allowed");
                     } else {
                         // push in all our chips for less than the min raise.
-                        return new RaiseAction(numChips);
+                        return EncodedAction.encode(ActionEnum.RAISE, maxBet);
                     }
                 } else {
                     // Choose a random amount to raise.
-                    int randomBetAmount = (new Random()).nextInt(numChips - minBet) + minBet;
-                    return new RaiseAction(randomBetAmount);
+                    int randomBetAmount = random.nextInt(maxBet - minBet) + minBet;
+                    return EncodedAction.encode(ActionEnum.RAISE, randomBetAmount);
                 }
             case FOLD:
-                return new FoldAction();
+                return EncodedAction.FOLD;
             case CALL:
                 // If we decide to call we either call the full amount or up to the number of chips we have.
-                int amt = potManager.getLastBet()-bet;
-                if (amt >= numChips) {
-                    amt = numChips;
-                }
-                return new CallAction(amt);
+                return EncodedAction.encode(ActionEnum.CALL, legalActions.getCallAmount());
             default:
                 throw new IllegalArgumentException("Invalid action enum passed in");
         }
@@ -0,0 +1,160 @@
+package com.poker.pots;
+
+import java.util.Arrays;
+
+/**
+ * A pot engine that only records how many chips each seat has put in over the whole hand, and which seats folded.
+ * Nothing is divided while the betting goes on. At showdown calculatePots() sorts the seats by their contributions
+ * once and walks up the contribution levels, which gives the main pot and every side pot in one pass: each level that
+ * a player still in the hand is capped at (because they are all in, or it is the top bet) closes a pot, and the
+ * players that put in at least that much can win it. Folded chips count towards the pots they reach, but folded seats
+ * can't win anything.
+ *
+ * This gives the same pots as PotManager, in the same order (main pot first). Seats are numbered like the table's
+ * seats, and the seats that can win a pot are returned as a mask with bit N set for seat N.
+ */
+public class ContributionLedger {
+    public static final int MAX_SEATS = 64;
+
+    // Seats are packed in the low bits of the sort keys, under the contribution.
+    private static final int SEAT_BITS = 6;
+    private static final long SEAT_MASK = (1L << SEAT_BITS) - 1;
+
+    private final int[] contributions;
+    private long foldedSeats;
+    private int totalPot;
+
+    // The pots from the last calculatePots(). There are never more pots than seats.
+    private final int[] potAmounts;
+    private final long[] eligibleSeats;
+    private int numPots;
+
+    // Scratch space for sorting the seats by contribution.
+    private final long[] sortKeys;
+
+    /**
+     * @param numSeats: int number of seats at the table (at most MAX_SEATS).
+     * @throws java.lang.IllegalArgumentException: If there are too many seats.
+     */
+    public ContributionLedger(int numSeats) {
+        if ((numSeats < 1) || (numSeats > MAX_SEATS)) {
+            throw new IllegalArgumentException("A ledger holds between 1 and " + MAX_SEATS + " seats.");
+        }
+        contributions = new int[numSeats];
+        potAmounts = new int[numSeats];
+        eligibleSeats = new long[numSeats];
+        sortKeys = new long[numSeats];
+    }
+
+    /**
+     * Clear out the ledger for a new hand.
+     */
+    public void reset() {
+        Arrays.fill(contributions, 0);
+        foldedSeats = 0L;
+        totalPot = 0;
+        numPots = 0;
+    }
+
+    /**
+     * Record chips put in by a seat (a blind, call or raise).
+     * @param seat: int seat that put the chips in.
+     * @param amount: int chips put in.
+     */
+    public void contribute(int seat, int amount) {
+        contributions[seat] += amount;
+        totalPot += amount;
+    }
+
+    /**
+     * Record that a seat folded. Its chips stay in the pots, but it can't win any of them.
+     * @param seat: int seat that folded.
+     */
+    public void fold(int seat) {
+        foldedSeats |= 1L << seat;
+    }
+
+    public int getContribution(int seat) {
+        return contributions[seat];
+    }
+
+    public long getFoldedSeats() {
+        return foldedSeats;
+    }
+
+    public int getTotalPot() {
+        return totalPot;
+    }
+
+    /**
+     * Work out the main pot and side pots from the contributions. This is meant to be called at showdown, once the
+     * betting is over.
+     * @return int number of pots.
+     */
+    public int calculatePots() {
+        int numContributors = 0;
+        long seatsAbove = 0L;
+        for (int seat = 0; seat < contributions.length; seat++) {
+            if (contributions[seat] > 0) {
+                sortKeys[numContributors++] = ((long) contributions[seat] << SEAT_BITS) | seat;
+                seatsAbove |= 1L << seat;
+            }
+        }
+        Arrays.sort(sortKeys, 0, numContributors);
+
+        // seatsAbove holds the seats that put in at least the current level.
+        numPots = 0;
+        int level = 0;
+        int chips = 0;
+        long seatsAtLevel = 0L;
+        for (int i = 0; i < numContributors; i++) {
+            int contribution = (int) (sortKeys[i] >>> SEAT_BITS);
+            if (contribution > level) {
+                // Every seat from here up puts in the chips between the last level and this one.
+                chips += (contribution - level) * (numContributors - i);
+                level = contribution;
+            }
+            seatsAtLevel |= 1L << (sortKeys[i] & SEAT_MASK);
+            if ((i < numContributors - 1) && ((int) (sortKeys[i + 1] >>> SEAT_BITS) == level)) {
+                continue;
+            }
+
+            // All the seats at this level are counted. If one of them is still in the hand this level closes a pot,
+            // which the seats still in the hand from this level up can win.
+            if ((seatsAtLevel & ~foldedSeats) != 0) {
+                potAmounts[numPots] = chips;
+                eligibleSeats[numPots] = seatsAbove & ~foldedSeats;
+                numPots++;
+                chips = 0;
+            }
+            seatsAbove &= ~seatsAtLevel;
+            seatsAtLevel = 0L;
+        }
+
+        // Chips that folded seats put in above everyone still in the hand have nobody else to go to.
+        if ((chips > 0) && (numPots > 0)) {
+            potAmounts[numPots - 1] += chips;
+        }
+        return numPots;
+    }
+
+    public int getNumPots() {
+        return numPots;
+    }
+
+    /**
+     * @param pot: int pot index, 0 is the main pot.
+     * @return int chips in the pot.
+     */
+    public int getPotAmount(int pot) {
+        return potAmounts[pot];
+    }
+
+    /**
+     * @param pot: int pot index, 0 is the main pot.
+     * @return long mask of the seats that can win the pot.
+     */
+    public long getEligibleSeats(int pot) {
+        return eligibleSeats[pot];
+    }
+}
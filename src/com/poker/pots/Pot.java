@@ -2,14 +2,15 @@ package com.poker.pots;
 
 import com.poker.player.Player;
 
-import java.util.*;
+import java.util.List;
 
 /**
  * Created by atul on 2/25/15.
  * This class keeps track of the pot. The reason this is needed is because in a given hand there can
  * be multiple pots due to players going all in. This class handles keeping track of the last bet in
  * the pot as well, to make sure the min raise amount is respected. It also keeps track of which players
- * have $$ in this pot, so it knows whose hands to check at showdown for the $$ in this pot.
+ * have $$ in this pot, so it knows whose hands to check at showdown for the $$ in this pot. Players are tracked by
+ * their seat at the table, as a mask with bit N set for seat N.
  */
 public class Pot {
     private String desc;
@@ -19,8 +20,8 @@ public class Pot {
     private int betIncrement;
     private int totalBet;
 
-    // This is used to keep track of the players in the pot.
-    private Set<Player> playersInPot;
+    // This is used to keep track of the seats of the players in the pot.
+    private long seatsInPot;
 
     public Pot(String desc) {
         this(0, desc);
@@ -33,102 +34,74 @@ public class Pot {
     public Pot(int bet, String desc) {
         this.desc = desc;
         currentBet = bet;
-        playersInPot = new HashSet<Player>();;
+        seatsInPot = 0L;
         totalBet = bet;
         betIncrement = bet;
     }
 
     /**
      * Add a player to this pot
-     * @param player: Player to add
+     * @param seat: int seat of the player to add
      */
-    public void addPlayer(Player player) {
-        playersInPot.add(player);
+    public void addSeat(int seat) {
+        seatsInPot |= 1L << seat;
     }
 
     /**
-     * Retrieve the set of players involved in this pot.
-     * @return: Set of players
+     * Retrieve the seats of the players involved in this pot.
+     * @return: long mask of seats
      */
-    public Set<Player> getPlayers() {
-        return playersInPot;
+    public long getSeats() {
+        return seatsInPot;
     }
 
     /**
-     * This function is a bit complex. It creates a side pot by subtracting out some $$ in this pot and transferring
-     * that $$ over to the side pot. The use case is when a player goes all in but has less than the current bet of this
-     * pot, we need to create another pot for the extra $$ that the player was not able to cover. We then create a side
-     * pot to store that difference, and exclude this player from that side pot (as well as any players no longer active.
-     * We also changed the bet amount of this pot to the player's lower all in amount.
-     * @param potDivision: Object that store info about the previous min bet and if we need to set a specific amount on the side
-     *                     pot (sometimes if multiple players go all in you will need to create multiple side pots.
-     * @param sidePotName: String to name the side pot.
-     * @return Pot: the side pot.
+     * This function is a bit complex. It creates a side pot by taking the chips that were bet above an all in out of
+     * this pot and moving them over to the side pot. The use case is when a player goes all in but has less than the
+     * current bet of this pot: the players with more in only contest the extra $$ in the side pot, the all in player
+     * can't win it. Only this betting round's bets are moved, so the chips from earlier streets stay in this pot.
+     * Players that folded this round can have bet more than the all in too, their extra chips go to the side pot as
+     * well (they are kept in its players, but can't win it since they are no longer in the hand).
+     * @param betAmount: int bet this round that the players being divided out are all in for.
+     * @param sidePot: Pot to move the chips above the all in to. It should be empty (see reset()).
+     * @param players: List of the players at the table, by seat.
      */
-    public Pot divide(PotDivision potDivision, String sidePotName) {
-        // Get the lower bet amount from the potDivision object.
-        int betAmount = potDivision.getChipsToDivide();
-
-        // Check if the potDiv object specified a limit for the side pot. If so, use that,
-        // otherwise simply take the difference from the lower bet amount and our current bet
-        // amount.
-        int sidePotAmount = (potDivision.shouldLimit()) ? potDivision.getLimit() : (currentBet - betAmount);
-
-        // Create the side pot with the calculated amount.
-        Pot sidePot = new Pot(sidePotAmount, sidePotName);
-        Set<Player> potDivisionPlayers = potDivision.getPlayersToDivide();
-
-        // Loop through all the players involved in this pot. For the ones that are listed in the potDiv object,
-        // don't add them to the side pot (since they are maxed out on this pot). Also, skip the players that are no
-        // longer in the hand (folded, already all in, etc). Only create the side pot for the players that are still
-        // active and have bet more already.
-        for (Player playerInPot : playersInPot) {
-            if (!potDivisionPlayers.contains(playerInPot) && playerInPot.isActive()) {
-                sidePot.addPlayer(playerInPot);
-                totalBet -= playerInPot.getBet() - betAmount;
+    public void divide(int betAmount, Pot sidePot, List<Player> players) {
+        // Loop through all the players involved in this pot, and move whatever they bet above the all in amount to
+        // the side pot. The all in players themselves (and the players that put nothing in this round) have nothing
+        // above it, so they stay out of the side pot.
+        for (long seats = seatsInPot; seats != 0; seats &= seats - 1) {
+            int seat = Long.numberOfTrailingZeros(seats);
+            int chipsAbove = players.get(seat).getBet() - betAmount;
+            if (chipsAbove > 0) {
+                sidePot.addSeat(seat);
+                sidePot.totalBet += chipsAbove;
+                totalBet -= chipsAbove;
             }
-
         }
 
         // Switch the current bet to the lower amount.
         currentBet = betAmount;
-
-        // Everyone in this pot should have committed the same amount of $$. So we can refresh simply by doing
-        // currentBet * numPlayersInPot.
-        refreshTotal();
-        sidePot.refreshTotal();
-        return sidePot;
-    }
-
-    /**
-     * Refresh the total $$ in this pot. Each player will be contributing the same amount to each side pot,
-     * so it is simple multiplication.
-     */
-    public void refreshTotal() {
-        totalBet = currentBet*playersInPot.size();
     }
 
     /**
      * Check if a player has $$ in this pot.
-     * @param player
-     * @return
+     * @param seat: int seat of the player.
+     * @return boolean
      */
-    public boolean hasPlayer(Player player) {
-        return playersInPot.contains(player);
+    public boolean hasSeat(int seat) {
+        return (seatsInPot & (1L << seat)) != 0;
     }
 
     /**
      * Add a call action from a player into this pot. Call actions should not affect the bet amount.
      * If the player was not already part of this pot, add him to it.
-     * @param player: Player that called.
+     * @param seat: int seat of the player that called.
      * @param callAmount: int amount that was called.
      */
-    public void addCall(Player player, int callAmount) {
+    public void addCall(int seat, int callAmount) {
         totalBet += callAmount;
-
-        if (!hasPlayer(player)) {
-            playersInPot.add(player);
-        }
+        addSeat(seat);
     }
 
     /**
@@ -137,12 +110,12 @@ public class Pot {
      * than the previous increment already set it means this raise occurred due to an all in that was more than this total
      * bet, but not enough to cover the min raise. In that case we should still update the total bet, but the bet increment
      * should not be touched.
-     * @param player: Player that raised
+     * @param seat: int seat of the player that raised
      * @param amount: int amount that was raised.
+     * @param totalBetByPlayer: int the player's whole bet this round, after the raise.
      */
-    public void addRaise(Player player, int amount) {
+    public void addRaise(int seat, int amount, int totalBetByPlayer) {
         totalBet += amount;
-        int totalBetByPlayer = player.getBet();
         int raiseIncrement = totalBetByPlayer - currentBet;
         currentBet = totalBetByPlayer;
 
@@ -153,10 +126,7 @@ public class Pot {
         if (raiseIncrement >= betIncrement) {
             betIncrement = raiseIncrement;
         }
-
-        if (!hasPlayer(player)) {
-            playersInPot.add(player);
-        }
+        addSeat(seat);
     }
 
     public int getCurrentBet() {
@@ -171,6 +141,16 @@ public class Pot {
         return totalBet;
     }
 
+    /**
+     * Empty out the pot so it can be used again in another hand. It keeps its name.
+     */
+    public void reset() {
+        currentBet = 0;
+        betIncrement = 0;
+        totalBet = 0;
+        seatsInPot = 0L;
+    }
+
     /**
      * Reset the bets in this pot (will be called after a round of betting). Note that this will not reset the
      * totalBet since we need to keep track of that value across the lifetime of a hand.
@@ -1,34 +1,119 @@
 package com.poker.pots;
 
-import com.poker.hands.Hand;
-import com.poker.hands.HandEvalResult;
 import com.poker.player.Player;
-import com.poker.player.PlayerHandComparator;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Created by atul on 2/25/15.
  * This class is used to track all the pots that are part of a given hand. Because there can be multiple pots due to
  * players going all in, we need a place to store the list of all our pots. This is impt with tracking who is involved
  * in which pot, so that when we calculate the winners of each pot, we know how much $$ to pay them.
+ *
+ * Players are tracked by their seat (their index in the table's list of players), so the pots hold seat masks. The
+ * methods that take a Player look up its seat, players that aren't seated yet get the next free seat.
+ *
+ * A table keeps one PotManager and calls reset() before each hand. The pots and pot winners are kept around and
+ * reused, so once a table has seen its largest number of side pots, playing a hand doesn't allocate anything here.
  */
 public class PotManager {
+    private static final String MAIN_POT_NAME = "Main Pot";
+    private static final int MAX_SEATS = 64;
+
+    // Seats are packed in the low bits of the sort keys, under the bet or hand rank.
+    private static final int SEAT_BITS = 6;
+    private static final long SEAT_MASK = (1L << SEAT_BITS) - 1;
 
     // This tracks all of the pots in a hand.
-    private List<Pot> pots;
+    private final List<Pot> pots;
+
+    // Every pot created so far. The pot at index N is always named potName(N), so it can be reused as the Nth pot of
+    // any hand.
+    private final List<Pot> potPool;
+
+    // The winners of each pot, from the last calculateWinners(). Reused the same way as the pots.
+    private final List<PotWinner> potWinners;
+    private final List<PotWinner> potWinnerPool;
+
+    // Scratch space for sorting seats by their bets or hands.
+    private final long[] sortKeys;
 
     private final int bigBlind;
     private final int smallBlind;
     private Pot currentPot;
 
+    // The players by seat.
+    private final List<Player> players;
+    // True if players that aren't seated yet take the next seat, which is only done for a list of our own.
+    private final boolean isSeatingOnDemand;
+
+    /**
+     * Players are seated in the order they first put chips in.
+     * @param smallBlind: int
+     * @param bigBlind: int
+     */
     public PotManager(int smallBlind, int bigBlind) {
+        this(smallBlind, bigBlind, new ArrayList<Player>(), true);
+    }
+
+    /**
+     * @param smallBlind: int
+     * @param bigBlind: int
+     * @param players: List of the players at the table, by seat (at most 64).
+     */
+    public PotManager(int smallBlind, int bigBlind, List<Player> players) {
+        this(smallBlind, bigBlind, players, false);
+    }
+
+    private PotManager(int smallBlind, int bigBlind, List<Player> players, boolean isSeatingOnDemand) {
         // Create the initial pot. This will be called the 'Main Pot'
-        currentPot = new Pot("Main Pot");
+        currentPot = new Pot(MAIN_POT_NAME);
         pots = new ArrayList<Pot>();
         pots.add(currentPot);
+        potPool = new ArrayList<Pot>();
+        potPool.add(currentPot);
+        potWinners = new ArrayList<PotWinner>();
+        potWinnerPool = new ArrayList<PotWinner>();
+        sortKeys = new long[MAX_SEATS];
         this.bigBlind = bigBlind;
         this.smallBlind = smallBlind;
+        this.players = players;
+        this.isSeatingOnDemand = isSeatingOnDemand;
+    }
+
+    /**
+     * Clear out the pots for a new hand, keeping the same blinds and players.
+     */
+    public void reset() {
+        currentPot = potPool.get(0);
+        currentPot.reset();
+        pots.clear();
+        pots.add(currentPot);
+        potWinners.clear();
+    }
+
+    /**
+     * @param player: Player
+     * @return int seat of the player. If the player isn't seated yet and the PotManager was created without a list
+     * of players, they take the next seat.
+     * @throws java.lang.IllegalArgumentException: If the player isn't in the list of players the PotManager was
+     * created with, or all the seats are taken.
+     */
+    public int seatOf(Player player) {
+        int seat = players.indexOf(player);
+        if (seat < 0) {
+            if (!isSeatingOnDemand) {
+                throw new IllegalArgumentException("The player " + player + " isn't seated at the table.");
+            }
+            if (players.size() >= MAX_SEATS) {
+                throw new IllegalArgumentException("A pot can't track more than " + MAX_SEATS + " players.");
+            }
+            players.add(player);
+            seat = players.size() - 1;
+        }
+        return seat;
     }
 
     /**
@@ -37,7 +122,16 @@ public class PotManager {
      * @param amount: Amount of small blind.
      */
     public void postSmallBlind(Player player, int amount) {
-        currentPot.addRaise(player, amount);
+        postSmallBlind(seatOf(player), amount);
+    }
+
+    /**
+     * Post a small blind from a seat into the pot.
+     * @param seat: int seat that posted small blind.
+     * @param amount: Amount of small blind.
+     */
+    public void postSmallBlind(int seat, int amount) {
+        currentPot.addRaise(seat, amount, players.get(seat).getBet());
 
         // If the small blind posted is lower than the actual small blind it means this player only has this many
         // chips left. We still want to maintain the lowest bet as the regular small blind amount though.
@@ -53,7 +147,16 @@ public class PotManager {
      * @param amount: amount of big blind
      */
     public void postBigBlind(Player player, int amount) {
-        currentPot.addRaise(player, amount);
+        postBigBlind(seatOf(player), amount);
+    }
+
+    /**
+     * Post the big blind from a seat into the pot.
+     * @param seat: int seat that posted big blind.
+     * @param amount: amount of big blind
+     */
+    public void postBigBlind(int seat, int amount) {
+        currentPot.addRaise(seat, amount, players.get(seat).getBet());
         currentPot.setBetIncrement(bigBlind);
 
         // If the amount posted is smaller than the game defined big blind, that means this player has used all his
@@ -69,7 +172,16 @@ public class PotManager {
      * @param callAmount: int amount that was called.
      */
     public void addCall(Player player, int callAmount) {
-        currentPot.addCall(player, callAmount);
+        addCall(seatOf(player), callAmount);
+    }
+
+    /**
+     * Add a call into the pot from a seat.
+     * @param seat: int seat that called.
+     * @param callAmount: int amount that was called.
+     */
+    public void addCall(int seat, int callAmount) {
+        currentPot.addCall(seat, callAmount);
     }
 
     /**
@@ -78,7 +190,16 @@ public class PotManager {
      * @param raiseAmount: int amount that was raised.
      */
     public void addRaise(Player player, int raiseAmount) {
-        currentPot.addRaise(player, raiseAmount);
+        addRaise(seatOf(player), raiseAmount);
+    }
+
+    /**
+     * Add a raise into the pot from a seat.
+     * @param seat: int seat that raised.
+     * @param raiseAmount: int amount that was raised.
+     */
+    public void addRaise(int seat, int raiseAmount) {
+        currentPot.addRaise(seat, raiseAmount, players.get(seat).getBet());
     }
 
     /**
@@ -88,32 +209,49 @@ public class PotManager {
      * player didn't have enough chips to match the bet and is all in. Create side pots accordingly.
      */
     public void closePotBetting() {
-        Set<Player> playersInPot = currentPot.getPlayers();
+        long seatsInPot = currentPot.getSeats();
         int betAmount = currentPot.getCurrentBet();
-        List<Player> playersBelowBet = new ArrayList<Player>();
-        for (Player player: playersInPot) {
+        int numBelowBet = 0;
+        boolean isBetMatched = false;
+        for (long seats = seatsInPot; seats != 0; seats &= seats - 1) {
             // Traverse through each player in the pot and find those that are below the bet amount. Ignore the
-            // players that are either inactive (folded) or were all in from a previous round.
-            if ((player.getBet() < betAmount) && (player.isActive())) {
-                playersBelowBet.add(player);
+            // players that folded. Players that went all in on an earlier street are still in this pot if they
+            // matched the bet back then, they are below the bet (with nothing) if anyone bet this round.
+            int seat = Long.numberOfTrailingZeros(seats);
+            Player player = players.get(seat);
+            if (player.isActive() || player.isAllIn()) {
+                if (player.getBet() < betAmount) {
+                    sortKeys[numBelowBet++] = ((long) player.getBet() << SEAT_BITS) | seat;
+                } else {
+                    isBetMatched = true;
+                }
             }
         }
 
         // Once we get all the players sort them in ascending order by the value of their bets. This is so in case
         // we need to create multiple side pots, we will start from the smallest one and work forward.
-        Collections.sort(playersBelowBet);
-
-        // Calculate the potDivision objects that tell us exactly how many side pots will need to be created and
-        // what the bet amount should be set to for each of those side pots, and which players need to be excluded
-        // from those side pots.
-        List<PotDivision> potDivisions = calculatePotDivisions(playersBelowBet, betAmount);
-        for (PotDivision potDivision : potDivisions) {
-            int numPots = pots.size();
-            String nameForPot = "Side Pot " + (numPots);
+        Arrays.sort(sortKeys, 0, numBelowBet);
+
+        // Each different all in amount creates a side pot. If one person went all in for 300, and the player after
+        // him went all in for 500, the first side pot gets the chips from 300 up and the next one the chips from 500
+        // up (the first division moves them to the side pot and the next one splits that side pot again). Players
+        // all in for the same amount are excluded from the same side pot. A short blind can leave the current bet
+        // above what anyone still in the hand put in. Then the highest all in is the top of the betting, and the only
+        // chips above it are from players that folded. Nobody could win a side pot of those, so they stay in the pot
+        // below.
+        int topBetToDivide = isBetMatched ? betAmount : (int) (sortKeys[Math.max(numBelowBet - 1, 0)] >>> SEAT_BITS);
+        int lastDividedBet = -1;
+        for (int i = 0; i < numBelowBet; i++) {
+            int bet = (int) (sortKeys[i] >>> SEAT_BITS);
+            if ((bet == lastDividedBet) || (bet >= topBetToDivide)) {
+                continue;
+            }
 
             // Get the side pot and add it to our list of pots.
-            Pot sidePot = currentPot.divide(potDivision, nameForPot);
+            Pot sidePot = nextPot();
+            currentPot.divide(bet, sidePot, players);
             pots.add(sidePot);
+            lastDividedBet = bet;
 
             // Set our current pot to the last side pot since that is the pot that the active players will be
             // betting into now.
@@ -125,63 +263,36 @@ public class PotManager {
     }
 
     /**
-     * Cleanup pots after a betting round is complete.
+     * @return Pot empty pot to use as the next side pot, reusing one from an earlier hand if there is one.
      */
-    private void cleanupPots() {
-        // Clean out the current bets in each pot.
-        for (Pot pot : pots) {
-            pot.resetBets();
-            pot.setBetIncrement(bigBlind);
+    private Pot nextPot() {
+        int index = pots.size();
+        if (index == potPool.size()) {
+            potPool.add(new Pot(potName(index)));
         }
+        Pot pot = potPool.get(index);
+        pot.reset();
+        return pot;
     }
 
     /**
-     * Calculate the potDivisions that tell us how many side pots need to be created and what the current bet amount
-     * of the side pots should be set to.
-     * @param playersToDivide: List of players that are all in for less than the bet amount.
-     * @param fullBet: int amount of the betAmount of the current pot.
-     * @return: List of potDivisions that tell us how to create the side pots.
+     * @param index: int position of the pot in the list of pots.
+     * @return String name of the pot: the first is the "Main Pot", the rest are numbered side pots.
      */
-    private List<PotDivision> calculatePotDivisions(List<Player> playersToDivide, int fullBet) {
-        int bet = -1;
-        int numChips = 0;
-        List<PotDivision> divisionList = new ArrayList<PotDivision>();
-        PotDivision currentDivision = null;
-
-        // Traverse through each player below the bet amount.
-        for (Player player : playersToDivide) {
-            int playerChips = player.getBet();
-            // If this player has bet more than the current bet then create a new pot division for him.
-            if (playerChips > bet) {
-                // We calculate the remaining chips that should be used incrementally. If one person went all in
-                // for 300, and the player after him went all in for 500, 300 of the 2nd players cash will go
-                // into the first side pot, and the remaining (500-300 = 200) will go into the next side pot.
-                int remainingChips = playerChips - numChips;
-                PotDivision divisionToAdd = new PotDivision(remainingChips, player);
-                divisionList.add(divisionToAdd);
-
-                // Set the limit for the side pot on the previous division to our remaining chips.
-                if (currentDivision != null) {
-                    currentDivision.setLimit(remainingChips);
-                }
-                currentDivision = divisionToAdd;
-                numChips += remainingChips;
-                bet = playerChips;
-            } else if ((playerChips == bet) && (currentDivision != null)) {
-                // If the player's bet equals the previous bet, then that means we want to add this player to
-                // the existing division because both players went all in for the same amount and they both
-                // need to be included from the side pot. (Imagine two players going all in for 500 on a bet of 1000).
-                currentDivision.addPlayer(player);
-            }
-        }
+    public static String potName(int index) {
+        return (index == 0) ? MAIN_POT_NAME : "Side Pot " + index;
+    }
 
-        // At the end we check to see the difference between the actual bet of this pot before and the largest bet
-        // from one of our all in players that was below the limit. The final side pot created needs its bet to be
-        // set to this amount.
-        if (currentDivision != null) {
-            currentDivision.setLimit(fullBet-numChips);
+    /**
+     * Cleanup pots after a betting round is complete.
+     */
+    private void cleanupPots() {
+        // Clean out the current bets in each pot.
+        for (int i = 0; i < pots.size(); i++) {
+            Pot pot = pots.get(i);
+            pot.resetBets();
+            pot.setBetIncrement(bigBlind);
         }
-        return divisionList;
     }
 
     /**
@@ -190,8 +301,8 @@ public class PotManager {
      */
     public int getTotalPot() {
         int potValue = 0;
-        for (Pot pot : pots) {
-            potValue += pot.getTotalBet();
+        for (int i = 0; i < pots.size(); i++) {
+            potValue += pots.get(i).getTotalBet();
         }
         return potValue;
     }
@@ -227,43 +338,65 @@ public class PotManager {
 
     /**
      * This function calculates the winners of each pot, and returns a list of potWinners indicating the winners
-     * of each pot. It takes in the last of activePlayers still in the hand. It then goes through each pot to see
-     * which of the active players were involved with that pot. Then for the active players that were involved it sorts
-     * them by their hand strength, and determines the winners of that pot.
-     * @param activePlayers
-     * @return
+     * of each pot. It takes in the list of activePlayers still in the hand, whose hands must already be evaluated.
+     * @param activePlayers: List of players still in the hand.
+     * @return List of potWinners, one per pot. The list and the potWinners are reused by the next hand.
      */
     public List<PotWinner> calculateWinners(List<Player> activePlayers) {
-        List<PotWinner> potWinners = new ArrayList<PotWinner>();
-        for (Pot pot : pots) {
-            // Find the active players in each pot.
-            List<Player> potPlayers = new ArrayList<Player>();
-            for (Player player : activePlayers) {
-                if (pot.hasPlayer(player)) {
-                    potPlayers.add(player);
-                }
-            }
+        long showdownSeats = 0L;
+        for (Player player : activePlayers) {
+            showdownSeats |= 1L << seatOf(player);
+        }
+        return calculateWinners(showdownSeats);
+    }
 
-            // Sort the players using the hand comparator.
-            Collections.sort(potPlayers, new PlayerHandComparator());
-            PotWinner potWinner = new PotWinner(pot);
-            HandEvalResult lastHandEvalResult = null;
+    /**
+     * This function calculates the winners of each pot. The players still in the hand are ranked once, by the packed
+     * rank of their evaluated hands, and sorted strongest first (ties in seat order). Then for each pot we go down
+     * that order, skipping the players that aren't in the pot: the first one in it has the best hand, and the ones
+     * right after with the same rank split the pot with them.
+     * @param showdownSeats: long mask of the seats still in the hand. Their hands must already be evaluated.
+     * @return List of potWinners, one per pot. The list and the potWinners are reused by the next hand.
+     */
+    public List<PotWinner> calculateWinners(long showdownSeats) {
+        // Rank each player once. The seat is flipped so that with equal hands the lower seat sorts last, and we go
+        // through the sorted keys from the end.
+        long[] rankedSeats = sortKeys;
+        int numRanked = 0;
+        for (long seats = showdownSeats; seats != 0; seats &= seats - 1) {
+            int seat = Long.numberOfTrailingZeros(seats);
+            int handRank = players.get(seat).getHand().getHandRank();
+            rankedSeats[numRanked++] = ((long) handRank << SEAT_BITS) | (SEAT_MASK - seat);
+        }
+        Arrays.sort(rankedSeats, 0, numRanked);
+
+        potWinners.clear();
+        for (int pot = 0; pot < pots.size(); pot++) {
+            if (pot == potWinnerPool.size()) {
+                potWinnerPool.add(new PotWinner(pots.get(pot)));
+            }
+            PotWinner potWinner = potWinnerPool.get(pot);
+            potWinner.reset(pots.get(pot));
+            long potSeats = pots.get(pot).getSeats();
+            long bestHandRank = 0L;
+            boolean hasWinner = false;
 
             // Track the list of winners by keeping in mind some players might have equal hands.
-            for (Player player : potPlayers) {
-                HandEvalResult thisHandEval = player.getHand().getHandEvalResult();
-                if (lastHandEvalResult == null) {
-                    potWinner.addWinner(player);
-                    lastHandEvalResult = thisHandEval;
-                } else if (lastHandEvalResult.compareTo(thisHandEval) == 0) {
-                    potWinner.addWinner(player);
-                } else {
+            for (int i = numRanked - 1; i >= 0; i--) {
+                int seat = (int) (SEAT_MASK - (rankedSeats[i] & SEAT_MASK));
+                if ((potSeats & (1L << seat)) == 0) {
+                    continue;
+                }
+                long thisHandRank = rankedSeats[i] >> SEAT_BITS;
+                if (!hasWinner) {
+                    bestHandRank = thisHandRank;
+                    hasWinner = true;
+                } else if (thisHandRank != bestHandRank) {
                     break;
                 }
+                potWinner.addWinner(players.get(seat), seat);
             }
-
             potWinners.add(potWinner);
-
         }
         return potWinners;
     }
@@ -14,6 +14,7 @@ public class PotWinner {
     // Keep track of the pot that is being looked at, as well as the list of winners.
     private Pot pot;
     private List<Player> winners = new ArrayList<Player>();
+    private long winnerSeats;
 
     /**
      * Initialize with just the pot
@@ -33,6 +34,16 @@ public class PotWinner {
         this.winners = winners;
     }
 
+    /**
+     * Start over with another pot and no winners, so the object can be reused.
+     * @param pot: Pot
+     */
+    public void reset(Pot pot) {
+        this.pot = pot;
+        winners.clear();
+        winnerSeats = 0L;
+    }
+
     /**
      * Add a player as a winner of this pot.
      * @param winner
@@ -41,6 +52,31 @@ public class PotWinner {
         winners.add(winner);
     }
 
+    /**
+     * Add a player as a winner of this pot, along with their seat.
+     * @param winner: Player
+     * @param seat: int seat of the player.
+     */
+    public void addWinner(Player winner, int seat) {
+        winners.add(winner);
+        winnerSeats |= 1L << seat;
+    }
+
+    public Pot getPot() {
+        return pot;
+    }
+
+    public List<Player> getWinners() {
+        return winners;
+    }
+
+    /**
+     * @return long mask of the winners' seats, for the winners that were added with their seat.
+     */
+    public long getWinnerSeats() {
+        return winnerSeats;
+    }
+
     /**
      * When paying out the winners, you want to split the cash evenly amongst each winner. Obviously there can be
      * some remainders though, so we simply just pay each winner 1 unit of the remainder starting at the beginning
@@ -59,9 +95,9 @@ public class PotWinner {
         // Get the remainder from the division.
         int remainder = pot.getTotalBet() % winners.size();
 
-        for (Player winner : winners) {
+        for (int i = 0; i < winners.size(); i++) {
             // Give each winner their share.
-            winner.incrementCash(moneyPerWinner);
+            winners.get(i).incrementCash(moneyPerWinner);
         }
 
         // Pass the remainders one at a time until they are out.
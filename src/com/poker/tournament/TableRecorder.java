@@ -0,0 +1,85 @@
+package com.poker.tournament;
+
+import com.poker.events.GameListener;
+import com.poker.events.HandStartedEvent;
+import com.poker.events.TournamentFinishedEvent;
+import com.poker.player.Player;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Listens to one table and records when each player is knocked out, and everyone's chips at the start of every
+ * chipInterval'th hand and at the end of the tournament. Each table gets its own recorder, so recorders are never
+ * shared between threads.
+ */
+class TableRecorder implements GameListener {
+    private final List<Player> players;
+    private final int chipInterval;
+    private final int[] places;
+    // Mask of the seats that still have chips (bit N is set for seat N).
+    private long seatsLeft;
+    private int handsPlayed;
+
+    // Chips of every seat, one row of players.size() entries per snapshot.
+    private int[] chips;
+    private int numSnapshots;
+
+    TableRecorder(List<Player> players, int chipInterval) {
+        this.players = players;
+        this.chipInterval = chipInterval;
+        this.places = new int[players.size()];
+        this.seatsLeft = (players.size() == Long.SIZE) ? -1L : (1L << players.size()) - 1;
+        this.chips = new int[players.size() * 64];
+    }
+
+    @Override
+    public void onHandStarted(HandStartedEvent event) {
+        handsPlayed = event.getHandNumber();
+        knockOut(event.getActiveSeats());
+        if ((handsPlayed - 1) % chipInterval == 0) {
+            snapshotChips();
+        }
+    }
+
+    @Override
+    public void onTournamentFinished(TournamentFinishedEvent event) {
+        long winner = event.hasWinner() ? (1L << event.getWinnerSeat()) : 0L;
+        knockOut(winner);
+        if (event.hasWinner()) {
+            places[event.getWinnerSeat()] = 1;
+        }
+        snapshotChips();
+    }
+
+    /**
+     * Give every player that was still in but isn't any more the best place left. Players knocked out in the same
+     * hand share that place.
+     * @param stillIn: long mask of the seats that still have chips.
+     */
+    private void knockOut(long stillIn) {
+        long knockedOut = seatsLeft & ~stillIn;
+        int place = Long.bitCount(stillIn) + 1;
+        while (knockedOut != 0) {
+            places[Long.numberOfTrailingZeros(knockedOut)] = place;
+            knockedOut &= knockedOut - 1;
+        }
+        seatsLeft = stillIn;
+    }
+
+    private void snapshotChips() {
+        int numSeats = players.size();
+        if ((numSnapshots + 1) * numSeats > chips.length) {
+            chips = Arrays.copyOf(chips, chips.length * 2);
+        }
+        for (int seat = 0; seat < numSeats; seat++) {
+            chips[numSnapshots * numSeats + seat] = players.get(seat).getNumChips();
+        }
+        numSnapshots++;
+    }
+
+    TableResult toResult(long seed) {
+        return new TableResult(seed, places, handsPlayed, chipInterval,
+                Arrays.copyOf(chips, numSnapshots * players.size()));
+    }
+}
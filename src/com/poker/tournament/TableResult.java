@@ -0,0 +1,71 @@
+package com.poker.tournament;
+
+/**
+ * This class holds how one table of a TournamentRunner played out: the place each seat finished in, how many hands
+ * were played, and each seat's chips at the start of every getChipInterval()'th hand.
+ */
+public class TableResult {
+    private final long seed;
+    private final int[] places;
+    private final int handsPlayed;
+    private final int chipInterval;
+    // One row of getNumSeats() entries per recorded hand, plus a last row with the final chip counts.
+    private final int[] chips;
+
+    TableResult(long seed, int[] places, int handsPlayed, int chipInterval, int[] chips) {
+        this.seed = seed;
+        this.places = places;
+        this.handsPlayed = handsPlayed;
+        this.chipInterval = chipInterval;
+        this.chips = chips;
+    }
+
+    /**
+     * @return long seed the table was played with. Playing a table with the same seed gives the same result.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getNumSeats() {
+        return places.length;
+    }
+
+    /**
+     * @param seat: int seat at the table.
+     * @return int place the seat finished in (1 is the winner). Players knocked out in the same hand share a place,
+     * and 0 means the player never finished.
+     */
+    public int getPlace(int seat) {
+        return places[seat];
+    }
+
+    public int getHandsPlayed() {
+        return handsPlayed;
+    }
+
+    /**
+     * @return int number of hands between chip counts.
+     */
+    public int getChipInterval() {
+        return chipInterval;
+    }
+
+    /**
+     * @return int number of chip counts recorded for each seat: one every getChipInterval() hands, and one after the
+     * last hand.
+     */
+    public int getNumChipCounts() {
+        return chips.length / places.length;
+    }
+
+    /**
+     * @param count: int chip count index. Count N is the start of hand N * getChipInterval() + 1, and the last count
+     *             (getNumChipCounts() - 1) is the end of the tournament.
+     * @param seat: int seat at the table.
+     * @return int chips the seat had at that point.
+     */
+    public int getChips(int count, int seat) {
+        return chips[count * places.length + seat];
+    }
+}
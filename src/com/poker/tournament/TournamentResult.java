@@ -0,0 +1,121 @@
+package com.poker.tournament;
+
+/**
+ * This class holds the results of every table a TournamentRunner played, and adds them up: how often each seat
+ * finished in each place, the average chips of each seat hand by hand, and how fast the tables were played.
+ */
+public class TournamentResult {
+    private final TableResult[] tables;
+    private final long elapsedNanos;
+    private final long totalHands;
+    // placeCounts[seat][place - 1] is the number of tables where the seat finished in that place.
+    private final long[][] placeCounts;
+    private final int maxChipCounts;
+
+    TournamentResult(TableResult[] tables, long elapsedNanos) {
+        this.tables = tables;
+        this.elapsedNanos = elapsedNanos;
+
+        int numSeats = (tables.length == 0) ? 0 : tables[0].getNumSeats();
+        int chipCounts = 0;
+        long hands = 0;
+        placeCounts = new long[numSeats][numSeats];
+        for (TableResult table : tables) {
+            hands += table.getHandsPlayed();
+            chipCounts = Math.max(chipCounts, table.getNumChipCounts());
+            for (int seat = 0; seat < numSeats; seat++) {
+                int place = table.getPlace(seat);
+                if (place > 0) {
+                    placeCounts[seat][place - 1]++;
+                }
+            }
+        }
+        totalHands = hands;
+        maxChipCounts = chipCounts;
+    }
+
+    public int getNumTables() {
+        return tables.length;
+    }
+
+    public TableResult getTable(int table) {
+        return tables[table];
+    }
+
+    public long getTotalHands() {
+        return totalHands;
+    }
+
+    public double getAverageHands() {
+        return (tables.length == 0) ? 0 : (double) totalHands / tables.length;
+    }
+
+    /**
+     * @param seat: int seat at the table.
+     * @param place: int place, from 1 (the winner) to the number of seats.
+     * @return long number of tables where the seat finished in that place.
+     */
+    public long getPlaceCount(int seat, int place) {
+        return placeCounts[seat][place - 1];
+    }
+
+    /**
+     * @return double average place the seat finished in over every table.
+     */
+    public double getAveragePlace(int seat) {
+        long finished = 0;
+        long total = 0;
+        for (int place = 1; place <= placeCounts[seat].length; place++) {
+            finished += placeCounts[seat][place - 1];
+            total += placeCounts[seat][place - 1] * place;
+        }
+        return (finished == 0) ? 0 : (double) total / finished;
+    }
+
+    /**
+     * @return int number of points in the chip trajectories (the longest table's chip counts).
+     */
+    public int getNumChipCounts() {
+        return maxChipCounts;
+    }
+
+    /**
+     * Average a seat's chips over every table. Tables that finished before the given point count with their final
+     * chips.
+     * @param count: int chip count index, from 0 to getNumChipCounts() - 1 (see TableResult.getChips()).
+     * @param seat: int seat at the table.
+     * @return double chips the seat had on average at that point.
+     */
+    public double getAverageChips(int count, int seat) {
+        double total = 0;
+        for (TableResult table : tables) {
+            total += table.getChips(Math.min(count, table.getNumChipCounts() - 1), seat);
+        }
+        return (tables.length == 0) ? 0 : total / tables.length;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getTablesPerSecond() {
+        return tables.length / (elapsedNanos / 1e9);
+    }
+
+    public double getHandsPerSecond() {
+        return totalHands / (elapsedNanos / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder(String.format(
+                "%d tables, %d hands in %.2f seconds (%.0f tables/sec, %.0f hands/sec, %.1f hands per table)",
+                tables.length, totalHands, elapsedNanos / 1e9, getTablesPerSecond(), getHandsPerSecond(),
+                getAverageHands()));
+        for (int seat = 0; seat < placeCounts.length; seat++) {
+            str.append(String.format("\nSeat %d: average place %.2f, won %d", seat + 1, getAveragePlace(seat),
+                    placeCounts[seat][0]));
+        }
+        return str.toString();
+    }
+}
@@ -0,0 +1,163 @@
+package com.poker.tournament;
+
+import com.poker.GameTable;
+import com.poker.RandomSource;
+import com.poker.SplittableRandomSource;
+import com.poker.player.Player;
+import com.poker.player.RobotPlayer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Plays lots of independent tournaments between robots, one GameTable each, on a fixed number of worker threads.
+ *
+ * Every table is played from its own seed, which is worked out from the runner's seed and the table's index, so a
+ * table plays out the same way no matter which thread runs it or what else is running. A table creates its own
+ * players, deck and recorder, and nothing is shared between tables: the results are only added up once every table
+ * has finished.
+ *
+ * Usage: TournamentRunner [number of tables] [players per table] [seed]
+ */
+public class TournamentRunner {
+    private static final int DEFAULT_NUM_TABLES = 1000;
+    private static final int DEFAULT_PLAYERS_PER_TABLE = 6;
+    private static final int STARTING_CHIPS = 1000;
+    private static final int SMALL_BLIND = 10;
+    private static final int BIG_BLIND = 20;
+    // Robots play long tournaments (tens of thousands of hands), so only every 100th hand's chips are kept.
+    private static final int CHIP_INTERVAL = 100;
+
+    private final int numThreads;
+    private final int startingChips;
+    private final int smallBlind;
+    private final int bigBlind;
+    private final int chipInterval;
+
+    public TournamentRunner() {
+        this(Runtime.getRuntime().availableProcessors(), STARTING_CHIPS, SMALL_BLIND, BIG_BLIND, CHIP_INTERVAL);
+    }
+
+    /**
+     * @param numThreads: int number of worker threads to play the tables on.
+     * @param startingChips: int chips each player starts with.
+     * @param smallBlind: int
+     * @param bigBlind: int
+     * @param chipInterval: int number of hands between the chip counts recorded at each table.
+     */
+    public TournamentRunner(int numThreads, int startingChips, int smallBlind, int bigBlind, int chipInterval) {
+        if (numThreads <= 0) {
+            throw new IllegalArgumentException("Need at least one thread to play the tables on.");
+        }
+        if (startingChips <= 0) {
+            throw new IllegalArgumentException("Players must start with a positive number of chips.");
+        }
+        if (chipInterval <= 0) {
+            throw new IllegalArgumentException("Chips must be counted every positive number of hands.");
+        }
+        this.numThreads = numThreads;
+        this.startingChips = startingChips;
+        this.smallBlind = smallBlind;
+        this.bigBlind = bigBlind;
+        this.chipInterval = chipInterval;
+    }
+
+    public static void main(String[] args) {
+        int numTables = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_NUM_TABLES;
+        int playersPerTable = (args.length > 1) ? Integer.parseInt(args[1]) : DEFAULT_PLAYERS_PER_TABLE;
+        long seed = (args.length > 2) ? Long.parseLong(args[2]) : System.nanoTime();
+
+        System.out.println(new TournamentRunner().run(numTables, playersPerTable, seed));
+    }
+
+    /**
+     * Play a tournament at each of the given number of tables, and wait for all of them to finish.
+     * @param numTables: int number of tables to play.
+     * @param playersPerTable: int number of robots at each table.
+     * @param seed: long seed every table's own seed is worked out from.
+     * @return TournamentResult with every table's result, in table order.
+     */
+    public TournamentResult run(int numTables, int playersPerTable, long seed) {
+        if (numTables < 0) {
+            throw new IllegalArgumentException("Can't play a negative number of tables.");
+        }
+        if ((playersPerTable < 2) || (playersPerTable > GameTable.MAX_PLAYERS)) {
+            throw new IllegalArgumentException("Tables need between 2 and " + GameTable.MAX_PLAYERS + " players.");
+        }
+
+        List<Callable<TableResult>> tables = new ArrayList<Callable<TableResult>>(numTables);
+        for (int table = 0; table < numTables; table++) {
+            tables.add(new TableTask(tableSeed(seed, table), playersPerTable));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(numThreads);
+        long start = System.nanoTime();
+        try {
+            List<Future<TableResult>> futures = pool.invokeAll(tables);
+            TableResult[] results = new TableResult[numTables];
+            for (int table = 0; table < numTables; table++) {
+                results[table] = futures.get(table).get();
+            }
+            return new TournamentResult(results, System.nanoTime() - start);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the tables to finish.", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("A table failed to finish its tournament.", ex.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Play a single table. This is what the runner does for each table, so it can be used to replay one.
+     * @param seed: long seed of the table (see TableResult.getSeed()).
+     * @param numPlayers: int number of robots at the table.
+     * @return TableResult
+     */
+    public TableResult playTable(long seed, int numPlayers) {
+        // The deck and every robot get their own source, all split off the table's seed.
+        RandomSource random = new SplittableRandomSource(seed);
+        List<Player> players = new ArrayList<Player>(numPlayers);
+        for (int seat = 0; seat < numPlayers; seat++) {
+            players.add(new RobotPlayer(startingChips, "Robot #" + (seat + 1), random.split()));
+        }
+
+        GameTable table = new GameTable(players, smallBlind, bigBlind, random);
+        TableRecorder recorder = new TableRecorder(players, chipInterval);
+        table.addListener(recorder);
+        table.run();
+        return recorder.toResult(seed);
+    }
+
+    /**
+     * Spread the runner's seed out into a different seed for every table (this is the SplitMix64 mixing function),
+     * so neighbouring tables don't get neighbouring seeds.
+     */
+    static long tableSeed(long seed, int table) {
+        long z = seed + (table + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private class TableTask implements Callable<TableResult> {
+        private final long seed;
+        private final int numPlayers;
+
+        TableTask(long seed, int numPlayers) {
+            this.seed = seed;
+            this.numPlayers = numPlayers;
+        }
+
+        @Override
+        public TableResult call() {
+            return playTable(seed, numPlayers);
+        }
+    }
+}
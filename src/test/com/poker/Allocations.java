@@ -0,0 +1,35 @@
+package test.com.poker;
+
+import org.junit.Assume;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the bytes some code allocates, for the tests that check the hot paths don't allocate.
+ */
+final class Allocations {
+
+    private Allocations() {
+    }
+
+    /**
+     * Run the code on this thread and count what it allocated. If the JVM can't count the bytes a thread allocates
+     * (or counting is turned off), the test stops on a failed assumption instead of passing without checking anything.
+     * @param work: Runnable to measure.
+     * @return long bytes allocated by this thread while the code ran.
+     */
+    static long measure(Runnable work) {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue("The JVM can't count the bytes a thread allocates.",
+                bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue("Counting the bytes a thread allocates is turned off.",
+                threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        work.run();
+        return threadBean.getThreadAllocatedBytes(threadId) - before;
+    }
+}
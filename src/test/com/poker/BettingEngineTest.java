@@ -0,0 +1,171 @@
+package test.com.poker;
+
+import com.poker.GameTable;
+import com.poker.RandomSource;
+import com.poker.SplittableRandomSource;
+import com.poker.actions.Action;
+import com.poker.actions.ActionEnum;
+import com.poker.actions.EncodedAction;
+import com.poker.actions.LegalActions;
+import com.poker.engine.BettingEngine;
+import com.poker.engine.RobotStrategy;
+import com.poker.engine.Strategy;
+import com.poker.engine.TableState;
+import com.poker.engine.TableView;
+import com.poker.player.Player;
+import com.poker.pots.PotManager;
+import junit.framework.TestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BettingEngineTest extends TestCase {
+    private static final int SMALL_BLIND = 10;
+    private static final int BIG_BLIND = 20;
+    private static final int STARTING_CHIPS = 1000;
+
+    @Test
+    public void testPlaysLikeGameTable() {
+        for (int numPlayers : new int[] {2, 3, 6, 9}) {
+            SplittableRandomSource tableRandom = new SplittableRandomSource(numPlayers);
+            SplittableRandomSource engineRandom = new SplittableRandomSource(numPlayers);
+            List<Player> players = new ArrayList<Player>();
+            Strategy[] strategies = new Strategy[numPlayers];
+            TableState state = new TableState(numPlayers, SMALL_BLIND, BIG_BLIND);
+            for (int seat = 0; seat < numPlayers; seat++) {
+                players.add(new RandomPlayer(tableRandom.split()));
+                strategies[seat] = new RandomStrategy(engineRandom.split());
+                state.setChips(seat, STARTING_CHIPS);
+            }
+            GameTable table = new GameTable(players, SMALL_BLIND, BIG_BLIND, tableRandom);
+            BettingEngine engine = new BettingEngine(state, strategies, engineRandom);
+
+            // Players that raise at random go all in a lot, so there are plenty of side pots and rebuys.
+            for (int round = 0; round < 50; round++) {
+                table.simulate(100, STARTING_CHIPS);
+                engine.simulate(100, STARTING_CHIPS);
+                for (int seat = 0; seat < numPlayers; seat++) {
+                    Assert.assertEquals(numPlayers + " players, seat " + seat, players.get(seat).getNumChips(),
+                            state.getChips(seat));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testStrategiesSeeTheSeatToAct() {
+        final TableState state = new TableState(6, SMALL_BLIND, BIG_BLIND);
+        final RandomSource random = new SplittableRandomSource(22L);
+        Strategy[] strategies = new Strategy[6];
+        for (int seat = 0; seat < 6; seat++) {
+            state.setChips(seat, 200);
+            strategies[seat] = new Strategy() {
+                @Override
+                public long decide(TableView table, LegalActions legalActions) {
+                    int seat = table.getSeatToAct();
+                    long bit = 1L << seat;
+                    Assert.assertTrue((table.getInHandSeats() & bit) != 0);
+                    Assert.assertEquals(0L, table.getAllInSeats() & bit);
+                    Assert.assertTrue(table.getChips(seat) > 0);
+                    Assert.assertEquals(2, Long.bitCount(table.getHoleCards()));
+                    Assert.assertEquals(state.getHoleCards(seat), table.getHoleCards());
+                    Assert.assertEquals(0L, table.getHoleCards() & table.getBoard());
+                    Assert.assertNotEquals(ActionEnum.FOLD, table.getLastAction(seat));
+                    return chooseRandomly(legalActions, random);
+                }
+            };
+        }
+
+        BettingEngine engine = new BettingEngine(state, strategies, new SplittableRandomSource(23L));
+        int numHands = 0;
+        while (engine.playHand()) {
+            numHands++;
+            int totalChips = 0;
+            for (int seat = 0; seat < 6; seat++) {
+                totalChips += state.getChips(seat);
+            }
+            Assert.assertEquals(1200, totalChips);
+        }
+        Assert.assertTrue(numHands > 0);
+        Assert.assertEquals(1, Long.bitCount(state.getSeatsWithChips()));
+    }
+
+    @Test
+    public void testHandsDoNotAllocate() {
+        SplittableRandomSource random = new SplittableRandomSource(22L);
+        TableState state = new TableState(6, SMALL_BLIND, BIG_BLIND);
+        Strategy[] strategies = new Strategy[6];
+        for (int seat = 0; seat < 6; seat++) {
+            state.setChips(seat, STARTING_CHIPS);
+            strategies[seat] = new RobotStrategy(random.split());
+        }
+        final BettingEngine engine = new BettingEngine(state, strategies, random);
+
+        engine.simulate(2000, STARTING_CHIPS);
+        final int numHands = 10000;
+        long allocated = Allocations.measure(new Runnable() {
+            @Override
+            public void run() {
+                engine.simulate(numHands, STARTING_CHIPS);
+            }
+        });
+
+        Assert.assertTrue(allocated + " bytes allocated", allocated < numHands);
+    }
+
+    /**
+     * Pick any of the legal actions, raising by a random amount (or all in) when raising.
+     */
+    private static long chooseRandomly(LegalActions legalActions, RandomSource random) {
+        ActionEnum action = legalActions.get(random.nextInt(legalActions.size()));
+        switch (action) {
+            case CHECK:
+                return EncodedAction.CHECK;
+            case FOLD:
+                return EncodedAction.FOLD;
+            case CALL:
+                return EncodedAction.encode(ActionEnum.CALL, legalActions.getCallAmount());
+            default:
+                int minRaise = legalActions.getMinRaise();
+                int maxRaise = legalActions.getMaxRaise();
+                if ((minRaise >= maxRaise) || (random.nextInt(4) == 0)) {
+                    return EncodedAction.encode(ActionEnum.RAISE, maxRaise);
+                }
+                return EncodedAction.encode(ActionEnum.RAISE, minRaise + random.nextInt(maxRaise - minRaise));
+        }
+    }
+
+    private static class RandomPlayer extends Player {
+        private final RandomSource random;
+
+        RandomPlayer(RandomSource random) {
+            super(STARTING_CHIPS, "random");
+            this.random = random;
+        }
+
+        @Override
+        public Action generateAction(List<ActionEnum> allowableActions, PotManager potManager) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long generateEncodedAction(LegalActions legalActions, PotManager potManager) {
+            return chooseRandomly(legalActions, random);
+        }
+    }
+
+    private static class RandomStrategy implements Strategy {
+        private final RandomSource random;
+
+        RandomStrategy(RandomSource random) {
+            this.random = random;
+        }
+
+        @Override
+        public long decide(TableView table, LegalActions legalActions) {
+            return chooseRandomly(legalActions, random);
+        }
+    }
+}
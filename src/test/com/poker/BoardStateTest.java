@@ -0,0 +1,78 @@
+package test.com.poker;
+
+import com.poker.Card;
+import com.poker.CardSet;
+import com.poker.RankEnum;
+import com.poker.SuitEnum;
+import com.poker.hands.BoardState;
+import com.poker.hands.Hand;
+import com.poker.hands.LookupHandEvaluator;
+import junit.framework.TestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class BoardStateTest extends TestCase {
+
+    private static final int NUM_RANDOM_BOARDS = 20000;
+    private static final int NUM_PLAYERS = 9;
+
+    @Test
+    public void testMatchesEvaluatingFromScratch() {
+        List<Card> deck = new ArrayList<>();
+        for (RankEnum rank : RankEnum.values()) {
+            for (SuitEnum suit : SuitEnum.values()) {
+                deck.add(Card.of(rank, suit));
+            }
+        }
+
+        BoardState board = new BoardState();
+        Random random = new Random(11);
+        for (int i = 0; i < NUM_RANDOM_BOARDS; i++) {
+            Collections.shuffle(deck, random);
+            List<Card> tableCards = deck.subList(0, 5);
+
+            // Grow the board the way the table deals it: flop, turn, river.
+            board.clear();
+            for (int numTableCards = 1; numTableCards <= tableCards.size(); numTableCards++) {
+                board.add(tableCards.get(numTableCards - 1));
+                if (numTableCards < 3) {
+                    continue;
+                }
+
+                for (int player = 0; player < NUM_PLAYERS; player++) {
+                    Card[] holeCards = {deck.get(5 + (2 * player)), deck.get(6 + (2 * player))};
+                    long cards = board.getBits() | CardSet.of(holeCards).getBits();
+                    int expected = LookupHandEvaluator.handRank(cards);
+                    Assert.assertEquals(expected, board.handRank(holeCards));
+                    Assert.assertEquals(expected, board.handRank(CardSet.of(holeCards).getBits()));
+                }
+            }
+            Assert.assertEquals(CardSet.of(tableCards), board.getCards());
+
+            Card[] holeCards = {deck.get(5), deck.get(6)};
+            Hand fromScratch = new Hand(holeCards, tableCards);
+            fromScratch.evaluate();
+            Hand fromBoard = new Hand(holeCards, board);
+            Assert.assertEquals(fromScratch.getHandRank(), fromBoard.getHandRank());
+            Assert.assertEquals(fromScratch.getHandEvalResult().getResult(), fromBoard.getHandEvalResult().getResult());
+            Assert.assertEquals(fromScratch.getCards(), fromBoard.getCards());
+        }
+    }
+
+    @Test
+    public void testCardCannotBeDealtTwice() {
+        BoardState board = new BoardState();
+        board.add(Card.of(RankEnum.ACE, SuitEnum.HEARTS));
+        try {
+            board.add(Card.of(RankEnum.ACE, SuitEnum.HEARTS));
+            fail("Expected the second ace of hearts to be rejected");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(1, board.size());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package test.com.poker;
+
+import com.poker.Card;
+import com.poker.CardSet;
+import com.poker.RankEnum;
+import com.poker.SuitEnum;
+import com.poker.hands.CardHistogram;
+import com.poker.hands.CascadingHandEvaluator;
+import com.poker.hands.HandEvaluator;
+import com.poker.hands.LookupHandEvaluator;
+import junit.framework.TestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class CardHistogramTest extends TestCase {
+
+    private static final int NUM_HANDS = 1000;
+    private static final int NUM_ROUNDS = 200;
+
+    @Test
+    public void testCounts() {
+        List<Card> cards = new ArrayList<Card>();
+        cards.add(Card.of(RankEnum.ACE, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.ACE, SuitEnum.SPADES));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TWO, SuitEnum.HEARTS));
+
+        CardHistogram histogram = new CardHistogram();
+        histogram.set(cards);
+        Assert.assertEquals(4, histogram.getNumCards());
+        Assert.assertEquals(2, histogram.getRankCount(RankEnum.ACE.getValue()));
+        Assert.assertEquals(1, histogram.getRankCount(RankEnum.TEN.getValue()));
+        Assert.assertEquals(0, histogram.getRankCount(RankEnum.KING.getValue()));
+        Assert.assertEquals(3, histogram.getSuitCount(SuitEnum.HEARTS.getValue()));
+        Assert.assertEquals(0, histogram.getSuitCount(SuitEnum.CLUBS.getValue()));
+        Assert.assertEquals((1 << RankEnum.ACE.getValue()) | (1 << RankEnum.TEN.getValue()) |
+                (1 << RankEnum.TWO.getValue()), histogram.getSuitMask(SuitEnum.HEARTS.getValue()));
+
+        // Filling it in from a card set gives the same counts, and replaces the old ones.
+        CardHistogram fromSet = new CardHistogram();
+        fromSet.set(CardSet.of(Card.of(RankEnum.KING, SuitEnum.CLUBS)));
+        fromSet.set(CardSet.of(cards));
+        for (int rank = 0; rank < RankEnum.numRanks(); rank++) {
+            Assert.assertEquals(histogram.getRankCount(rank), fromSet.getRankCount(rank));
+        }
+        for (int suit = 0; suit < SuitEnum.numSuits(); suit++) {
+            Assert.assertEquals(histogram.getSuitCount(suit), fromSet.getSuitCount(suit));
+            Assert.assertEquals(histogram.getSuitMask(suit), fromSet.getSuitMask(suit));
+        }
+        Assert.assertEquals(histogram.getRankMask(), fromSet.getRankMask());
+    }
+
+    @Test
+    public void testEvaluationDoesNotAllocate() {
+        // Build the hands up front so only the evaluation is measured.
+        List<Card> deck = new ArrayList<Card>();
+        for (RankEnum rank : RankEnum.values()) {
+            for (SuitEnum suit : SuitEnum.values()) {
+                deck.add(Card.of(rank, suit));
+            }
+        }
+        final long[] hands = new long[NUM_HANDS];
+        Random random = new Random(7);
+        for (int i = 0; i < NUM_HANDS; i++) {
+            Collections.shuffle(deck, random);
+            hands[i] = CardSet.of(deck.subList(0, 7)).getBits();
+        }
+
+        final HandEvaluator cascading = new CascadingHandEvaluator();
+        final HandEvaluator lookup = new LookupHandEvaluator();
+        final CardHistogram histogram = new CardHistogram();
+
+        // Run once so the classes are loaded and their tables built before we start counting.
+        final long[] checksum = {evaluateAll(hands, histogram, cascading, lookup)};
+        long allocated = Allocations.measure(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < NUM_ROUNDS; i++) {
+                    checksum[0] += evaluateAll(hands, histogram, cascading, lookup);
+                }
+            }
+        });
+
+        Assert.assertTrue(checksum[0] != 0);
+        // Allow for a little noise from the measuring itself, but far less than a byte per evaluation.
+        Assert.assertTrue("Allocated " + allocated + " bytes", allocated < 1024);
+    }
+
+    private long evaluateAll(long[] hands, CardHistogram histogram, HandEvaluator cascading, HandEvaluator lookup) {
+        long checksum = 0;
+        for (long hand : hands) {
+            histogram.set(hand);
+            checksum += cascading.handRank(histogram);
+            checksum += lookup.handRank(histogram);
+            checksum += LookupHandEvaluator.handRank(hand);
+        }
+        return checksum;
+    }
+}
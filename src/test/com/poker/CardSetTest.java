@@ -0,0 +1,99 @@
+package test.com.poker;
+
+import com.poker.Card;
+import com.poker.CardSet;
+import com.poker.Deck;
+import com.poker.RankEnum;
+import com.poker.SuitEnum;
+import junit.framework.TestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class CardSetTest extends TestCase {
+
+    @Test
+    public void testAddContainsRemove() {
+        Card aceHearts = Card.of(RankEnum.ACE, SuitEnum.HEARTS);
+        Card twoClubs = Card.of(RankEnum.TWO, SuitEnum.CLUBS);
+
+        CardSet cards = CardSet.EMPTY.add(aceHearts);
+        Assert.assertTrue(cards.contains(aceHearts));
+        Assert.assertFalse(cards.contains(twoClubs));
+        Assert.assertEquals(1, cards.size());
+
+        cards = cards.add(twoClubs).add(aceHearts);
+        Assert.assertEquals(2, cards.size());
+        Assert.assertTrue(cards.contains(twoClubs));
+
+        cards = cards.remove(aceHearts);
+        Assert.assertFalse(cards.contains(aceHearts));
+        Assert.assertEquals(CardSet.of(twoClubs), cards);
+        Assert.assertTrue(CardSet.EMPTY.isEmpty());
+    }
+
+    @Test
+    public void testUnion() {
+        CardSet set1 = CardSet.of(Card.of(RankEnum.ACE, SuitEnum.HEARTS), Card.of(RankEnum.KING, SuitEnum.HEARTS));
+        CardSet set2 = CardSet.of(Card.of(RankEnum.KING, SuitEnum.HEARTS), Card.of(RankEnum.TEN, SuitEnum.SPADES));
+
+        CardSet union = set1.union(set2);
+        Assert.assertEquals(3, union.size());
+        Assert.assertTrue(set1.containsAny(set2));
+        Assert.assertEquals(1, set1.intersect(set2).size());
+    }
+
+    @Test
+    public void testSuitMasks() {
+        CardSet cards = CardSet.of(Card.of(RankEnum.ACE, SuitEnum.HEARTS), Card.of(RankEnum.TWO, SuitEnum.HEARTS),
+                Card.of(RankEnum.TEN, SuitEnum.SPADES), Card.of(RankEnum.TEN, SuitEnum.DIAMONDS));
+
+        Assert.assertEquals((1 << RankEnum.ACE.getValue()) | (1 << RankEnum.TWO.getValue()),
+                cards.suitMask(SuitEnum.HEARTS));
+        Assert.assertEquals(1 << RankEnum.TEN.getValue(), cards.suitMask(SuitEnum.SPADES));
+        Assert.assertEquals(1 << RankEnum.TEN.getValue(), cards.suitMask(SuitEnum.DIAMONDS));
+        Assert.assertEquals(0, cards.suitMask(SuitEnum.CLUBS));
+        Assert.assertEquals((1 << RankEnum.ACE.getValue()) | (1 << RankEnum.TWO.getValue()) |
+                (1 << RankEnum.TEN.getValue()), cards.rankMask());
+    }
+
+    @Test
+    public void testToListIsSorted() {
+        List<Card> cards = new ArrayList<>();
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.ACE, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.TWO, SuitEnum.SPADES));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.DIAMONDS));
+        cards.add(Card.of(RankEnum.ACE, SuitEnum.SPADES));
+
+        List<Card> fromSet = CardSet.of(cards).toList();
+        Collections.sort(cards);
+        Assert.assertEquals(cards, fromSet);
+    }
+
+    @Test
+    public void testDeckWithExcludedCards() {
+        Card aceHearts = Card.of(RankEnum.ACE, SuitEnum.HEARTS);
+        Card twoClubs = Card.of(RankEnum.TWO, SuitEnum.CLUBS);
+        Deck deck = new Deck(CardSet.of(aceHearts, twoClubs));
+        deck.shuffle();
+
+        CardSet dealt = CardSet.EMPTY;
+        for (int i = 0; i < CardSet.NUM_CARDS - 2; i++) {
+            dealt = dealt.add(deck.deal());
+        }
+        Assert.assertEquals(CardSet.NUM_CARDS - 2, dealt.size());
+        Assert.assertFalse(dealt.contains(aceHearts));
+        Assert.assertFalse(dealt.contains(twoClubs));
+
+        try {
+            deck.deal();
+            Assert.fail("Looking for illegal argument exception");
+        } catch (IllegalArgumentException ex) {
+            // worked as expected.
+        }
+    }
+}
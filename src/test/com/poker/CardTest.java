@@ -7,11 +7,37 @@ import junit.framework.TestCase;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 public class CardTest extends TestCase {
 
     @Test
     public void testConstructor() {
-        Card card = new Card(RankEnum.ACE, SuitEnum.HEARTS);
+        Card card = Card.of(RankEnum.ACE, SuitEnum.HEARTS);
         Assert.assertEquals(card.toString(), "Ah");
     }
+
+    @Test
+    public void testCardsAreShared() {
+        Card card = Card.of(RankEnum.ACE, SuitEnum.HEARTS);
+        Assert.assertSame(card, Card.of(RankEnum.ACE, SuitEnum.HEARTS));
+        Assert.assertSame(card, Card.of(card.getOrdinal()));
+        Assert.assertEquals(card.hashCode(), card.getOrdinal());
+        for (int ordinal = 0; ordinal < Card.NUM_CARDS; ordinal++) {
+            Assert.assertEquals(ordinal, Card.of(ordinal).getOrdinal());
+        }
+    }
+
+    @Test
+    public void testCardsSortHighestFirst() {
+        List<Card> cards = new ArrayList<>();
+        cards.add(Card.of(RankEnum.TWO, SuitEnum.DIAMONDS));
+        cards.add(Card.of(RankEnum.ACE, SuitEnum.SPADES));
+        cards.add(Card.of(RankEnum.KING, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.KING, SuitEnum.CLUBS));
+        Collections.sort(cards);
+        Assert.assertEquals("[As, Kh, Kc, 2d]", cards.toString());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,170 @@
+package test.com.poker;
+
+import com.poker.Deck;
+import com.poker.actions.ActionEnum;
+import com.poker.actions.EncodedAction;
+import com.poker.player.Player;
+import com.poker.player.RobotPlayer;
+import com.poker.pots.ContributionLedger;
+import com.poker.pots.Pot;
+import com.poker.pots.PotManager;
+import junit.framework.TestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class ContributionLedgerTest extends TestCase {
+    private static final int SMALL_BLIND = 10;
+    private static final int BIG_BLIND = 20;
+    private static final int NUM_HANDS = 20000;
+
+    @Test
+    public void testSidePotOnLaterStreet() {
+        // Everyone puts in 20 preflop. On the flop seat 0 bets 100, seat 2 is all in for 50 and seat 1 calls.
+        ContributionLedger ledger = new ContributionLedger(3);
+        for (int seat = 0; seat < 3; seat++) {
+            ledger.contribute(seat, 20);
+        }
+        ledger.contribute(0, 100);
+        ledger.contribute(2, 50);
+        ledger.contribute(1, 100);
+
+        Assert.assertEquals(2, ledger.calculatePots());
+        Assert.assertEquals(60 + 150, ledger.getPotAmount(0));
+        Assert.assertEquals(0b111L, ledger.getEligibleSeats(0));
+        Assert.assertEquals(100, ledger.getPotAmount(1));
+        Assert.assertEquals(0b011L, ledger.getEligibleSeats(1));
+        Assert.assertEquals(310, ledger.getTotalPot());
+    }
+
+    @Test
+    public void testFoldedChipsGoToTheSidePot() {
+        // Seat 2 calls 100 and folds to a raise to 300, after seat 1 went all in for 50.
+        ContributionLedger ledger = new ContributionLedger(3);
+        ledger.contribute(0, 300);
+        ledger.contribute(1, 50);
+        ledger.contribute(2, 100);
+        ledger.fold(2);
+
+        Assert.assertEquals(2, ledger.calculatePots());
+        Assert.assertEquals(150, ledger.getPotAmount(0));
+        Assert.assertEquals(0b011L, ledger.getEligibleSeats(0));
+        Assert.assertEquals(300, ledger.getPotAmount(1));
+        Assert.assertEquals(0b001L, ledger.getEligibleSeats(1));
+
+        ledger.reset();
+        Assert.assertEquals(0, ledger.getTotalPot());
+        Assert.assertEquals(0, ledger.calculatePots());
+    }
+
+    @Test
+    public void testMatchesPotManager() {
+        Random random = new Random(19);
+        for (int hand = 0; hand < NUM_HANDS; hand++) {
+            playRandomHand(random.nextLong());
+        }
+    }
+
+    /**
+     * Play a hand with random folds, calls, raises and all ins, putting every bet into both a PotManager and a
+     * ContributionLedger. If it goes to showdown both must have the same pots, with the same players able to win them.
+     */
+    private void playRandomHand(long seed) {
+        Random random = new Random(seed);
+        int numPlayers = 2 + random.nextInt(8);
+        List<Player> players = new ArrayList<Player>();
+        Deck deck = new Deck();
+        for (int seat = 0; seat < numPlayers; seat++) {
+            // Plenty of short stacks, so there are lots of all ins.
+            int chips = 1 + random.nextInt(random.nextBoolean() ? 100 : 1000);
+            Player player = new RobotPlayer(chips, "robot" + seat);
+            player.setCard(deck.deal(), 0);
+            player.setCard(deck.deal(), 1);
+            players.add(player);
+        }
+
+        PotManager potManager = new PotManager(SMALL_BLIND, BIG_BLIND, players);
+        ContributionLedger ledger = new ContributionLedger(numPlayers);
+        Player smallBlind = players.get(0);
+        int amount = EncodedAction.getAmount(smallBlind.postBlind(ActionEnum.SMALL_BLIND, SMALL_BLIND));
+        potManager.postSmallBlind(0, amount);
+        ledger.contribute(0, amount);
+        Player bigBlind = players.get(1);
+        amount = EncodedAction.getAmount(bigBlind.postBlind(ActionEnum.BIG_BLIND, BIG_BLIND));
+        potManager.postBigBlind(1, amount);
+        ledger.contribute(1, amount);
+
+        long inHandSeats = (1L << numPlayers) - 1;
+        for (int street = 0; (street < 4) && (Long.bitCount(inHandSeats) > 1); street++) {
+            int seat = (street == 0) ? 2 % numPlayers : 0;
+            int numToAct = numCanAct(players, inHandSeats);
+            while ((numToAct > 0) && (Long.bitCount(inHandSeats) > 1)) {
+                Player player = players.get(seat);
+                if (((inHandSeats & (1L << seat)) == 0) || player.isAllIn()) {
+                    seat = (seat + 1) % numPlayers;
+                    continue;
+                }
+
+                int lastBet = potManager.getLastBet();
+                int toCall = Math.max(lastBet - player.getBet(), 0);
+                int chips = player.getNumChips();
+                int choice = random.nextInt(10);
+                if ((toCall > 0) && (choice < 2)) {
+                    player.processAction(EncodedAction.FOLD, lastBet);
+                    player.fold();
+                    ledger.fold(seat);
+                    inHandSeats &= ~(1L << seat);
+                    numToAct--;
+                } else if ((choice >= 7) && (chips > toCall)) {
+                    int minRaise = potManager.getMinimumBetAmount() - player.getBet();
+                    int raise = random.nextInt(4) == 0 ? chips : Math.min(chips, minRaise + random.nextInt(100));
+                    player.processAction(EncodedAction.encode(ActionEnum.RAISE, raise), lastBet);
+                    potManager.addRaise(seat, raise);
+                    ledger.contribute(seat, raise);
+                    numToAct = numCanAct(players, inHandSeats) - (player.isAllIn() ? 0 : 1);
+                } else if (toCall > 0) {
+                    int call = Math.min(toCall, chips);
+                    player.processAction(EncodedAction.encode(ActionEnum.CALL, call), lastBet);
+                    potManager.addCall(seat, call);
+                    ledger.contribute(seat, call);
+                    numToAct--;
+                } else {
+                    player.processAction(EncodedAction.CHECK, lastBet);
+                    numToAct--;
+                }
+                seat = (seat + 1) % numPlayers;
+            }
+
+            potManager.closePotBetting();
+            for (Player eachPlayer : players) {
+                eachPlayer.clearBet();
+            }
+        }
+
+        String message = "Hand with seed " + seed;
+        Assert.assertEquals(message, potManager.getTotalPot(), ledger.getTotalPot());
+        if (Long.bitCount(inHandSeats) == 1) {
+            return;
+        }
+
+        List<Pot> pots = potManager.getPots();
+        Assert.assertEquals(message, pots.size(), ledger.calculatePots());
+        for (int pot = 0; pot < pots.size(); pot++) {
+            Assert.assertEquals(message, pots.get(pot).getTotalBet(), ledger.getPotAmount(pot));
+            Assert.assertEquals(message, pots.get(pot).getSeats() & inHandSeats, ledger.getEligibleSeats(pot));
+        }
+    }
+
+    private static int numCanAct(List<Player> players, long inHandSeats) {
+        int numCanAct = 0;
+        for (long seats = inHandSeats; seats != 0; seats &= seats - 1) {
+            if (!players.get(Long.numberOfTrailingZeros(seats)).isAllIn()) {
+                numCanAct++;
+            }
+        }
+        return numCanAct;
+    }
+}
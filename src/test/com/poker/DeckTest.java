@@ -1,7 +1,12 @@
 package test.com.poker;
 
 import com.poker.Card;
+import com.poker.CardSet;
 import com.poker.Deck;
+import com.poker.RankEnum;
+import com.poker.SeededRandomSource;
+import com.poker.SplittableRandomSource;
+import com.poker.SuitEnum;
 import junit.framework.TestCase;
 import org.junit.Assert;
 import org.junit.Rule;
@@ -74,4 +79,79 @@ public class DeckTest extends TestCase {
         Assert.assertTrue(isEqual);
     }
 
+    public void testSameSeedDealsSameCards() {
+        Deck deck1 = new Deck(new SplittableRandomSource(17));
+        Deck deck2 = new Deck(new SplittableRandomSource(17));
+        for (int hand = 0; hand < 3; hand++) {
+            deck1.shuffle();
+            deck2.shuffle();
+            long dealt = 0L;
+            for (int i = 0; i < 52; i++) {
+                Card card = deck1.deal();
+                Assert.assertSame(card, deck2.deal());
+                dealt |= 1L << card.getOrdinal();
+            }
+            // Every card is still in the deck exactly once.
+            Assert.assertEquals(Long.bitCount(dealt), 52);
+        }
+    }
+
+    public void testSortedDeckDealsTheSameFromASeed() {
+        Deck fresh = new Deck(new SplittableRandomSource(24));
+        SeededRandomSource random = new SeededRandomSource(0L);
+        Deck used = new Deck(random);
+        used.shuffle();
+        used.remove(Card.of(RankEnum.ACE, SuitEnum.SPADES));
+        for (int i = 0; i < 20; i++) {
+            used.deal();
+        }
+
+        // Sorting puts back the dealt and removed cards, so with the same seed the deck deals like a new one.
+        random.setSeed(24);
+        used.sort();
+        used.shuffle();
+        fresh.shuffle();
+        for (int i = 0; i < 52; i++) {
+            Assert.assertSame(fresh.deal(), used.deal());
+        }
+    }
+
+    public void testRemoveDeadCards() {
+        Card aceSpades = Card.of(RankEnum.ACE, SuitEnum.SPADES);
+        Card kingSpades = Card.of(RankEnum.KING, SuitEnum.SPADES);
+        Deck deck = new Deck(new SplittableRandomSource(3));
+        deck.remove(aceSpades);
+        deck.remove(kingSpades);
+        Assert.assertEquals(50, deck.getNumCardsLeft());
+
+        // The removed cards stay out through shuffles.
+        for (int hand = 0; hand < 20; hand++) {
+            deck.shuffle();
+            CardSet dealt = CardSet.EMPTY;
+            for (int i = 0; i < 9; i++) {
+                dealt = dealt.add(deck.deal());
+            }
+            Assert.assertEquals(9, dealt.size());
+            Assert.assertFalse(dealt.contains(aceSpades));
+            Assert.assertFalse(dealt.contains(kingSpades));
+        }
+
+        // A card that was dealt can't be removed.
+        Card dealt = deck.deal();
+        try {
+            deck.remove(dealt);
+            Assert.fail("Looking for illegal argument exception");
+        } catch (IllegalArgumentException ex) {
+            // worked as expected.
+        }
+
+        deck.restore();
+        deck.shuffle();
+        CardSet all = CardSet.EMPTY;
+        for (int i = 0; i < 52; i++) {
+            all = all.add(deck.deal());
+        }
+        Assert.assertEquals(52, all.size());
+    }
+
 }
\ No newline at end of file
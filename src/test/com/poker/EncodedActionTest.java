@@ -0,0 +1,54 @@
+package test.com.poker;
+
+import com.poker.actions.Action;
+import com.poker.actions.ActionEnum;
+import com.poker.actions.CheckAction;
+import com.poker.actions.EncodedAction;
+import com.poker.actions.FoldAction;
+import com.poker.actions.RaiseAction;
+import com.poker.player.Player;
+import com.poker.player.RobotPlayer;
+import junit.framework.TestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EncodedActionTest extends TestCase {
+
+    @Test
+    public void testRoundTrip() {
+        for (ActionEnum actionEnum : ActionEnum.values()) {
+            // Checks and folds never put in any chips.
+            int amount = ((actionEnum == ActionEnum.CHECK) || (actionEnum == ActionEnum.FOLD)) ? 0 : 1234567;
+            long action = EncodedAction.encode(actionEnum, amount);
+            Assert.assertEquals(actionEnum, EncodedAction.getActionEnum(action));
+            Assert.assertEquals(amount, EncodedAction.getAmount(action));
+
+            Action object = EncodedAction.toAction(action);
+            Assert.assertEquals(actionEnum, object.getActionEnum());
+            Assert.assertEquals(action, EncodedAction.encode(object));
+        }
+        Assert.assertEquals(Integer.MAX_VALUE, EncodedAction.getAmount(EncodedAction.encode(ActionEnum.RAISE,
+                Integer.MAX_VALUE)));
+
+        // Checks and folds carry nothing, so they are shared.
+        Assert.assertSame(CheckAction.INSTANCE, EncodedAction.toAction(EncodedAction.CHECK));
+        Assert.assertSame(FoldAction.INSTANCE, EncodedAction.toAction(EncodedAction.FOLD));
+    }
+
+    @Test
+    public void testPlayerProcessesEncodedActions() {
+        Player encoded = new RobotPlayer(400, "encoded");
+        Player object = new RobotPlayer(400, "object");
+
+        Assert.assertEquals(EncodedAction.encode(ActionEnum.BIG_BLIND, 20),
+                encoded.postBlind(ActionEnum.BIG_BLIND, 20));
+        object.postBigBlind(20);
+        encoded.processAction(EncodedAction.encode(ActionEnum.RAISE, 100), 20);
+        object.processAction(new RaiseAction(100), 20);
+
+        Assert.assertEquals(object.getNumChips(), encoded.getNumChips());
+        Assert.assertEquals(object.getBet(), encoded.getBet());
+        Assert.assertEquals(object.getBetIncrement(), encoded.getBetIncrement());
+        Assert.assertEquals(ActionEnum.RAISE, encoded.getLastAction());
+    }
+}
@@ -0,0 +1,82 @@
+package test.com.poker;
+
+import com.poker.Card;
+import com.poker.CardSet;
+import com.poker.RankEnum;
+import com.poker.SuitEnum;
+import com.poker.equity.EquityCalculator;
+import com.poker.equity.EquityResult;
+import junit.framework.TestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class EquityCalculatorTest extends TestCase {
+
+    private static final double DELTA = 1e-9;
+
+    private final CardSet aces = CardSet.of(Card.of(RankEnum.ACE, SuitEnum.HEARTS),
+            Card.of(RankEnum.ACE, SuitEnum.SPADES));
+    private final CardSet kings = CardSet.of(Card.of(RankEnum.KING, SuitEnum.DIAMONDS),
+            Card.of(RankEnum.KING, SuitEnum.CLUBS));
+
+    @Test
+    public void testAcesAgainstKingsPreflop() {
+        EquityCalculator calculator = new EquityCalculator(ForkJoinPool.commonPool(), 1);
+        EquityResult result = calculator.calculate(new CardSet[] {aces, kings}, CardSet.EMPTY, CardSet.EMPTY, 200000);
+
+        Assert.assertEquals(200000, result.getNumBoards());
+        Assert.assertFalse(result.isExact());
+        // Aces hold up against kings about 82% of the time.
+        Assert.assertEquals(0.82, result.getEquity(0), 0.01);
+        Assert.assertTrue(result.getConfidenceInterval(0) > 0);
+        Assert.assertTrue(result.getConfidenceInterval(0) < 0.01);
+        Assert.assertEquals(1.0, result.getEquity(0) + result.getEquity(1), DELTA);
+        for (int player = 0; player < 2; player++) {
+            Assert.assertEquals(1.0, result.getWin(player) + result.getTie(player) + result.getLoss(player), DELTA);
+        }
+        Assert.assertEquals(result.getWin(0), result.getLoss(1), DELTA);
+    }
+
+    @Test
+    public void testSameSeedGivesSameResult() {
+        CardSet board = CardSet.of(Card.of(RankEnum.KING, SuitEnum.SPADES), Card.of(RankEnum.SEVEN, SuitEnum.HEARTS),
+                Card.of(RankEnum.TWO, SuitEnum.HEARTS));
+        // The pools are different sizes, so the boards must not depend on how many threads play them.
+        ForkJoinPool pool = new ForkJoinPool(3);
+        ForkJoinPool otherPool = new ForkJoinPool(1);
+        EquityResult first = new EquityCalculator(pool, 99).calculate(new CardSet[] {aces, kings}, board,
+                CardSet.EMPTY, 10000);
+        EquityResult second = new EquityCalculator(otherPool, 99).calculate(new CardSet[] {aces, kings}, board,
+                CardSet.EMPTY, 10000);
+        pool.shutdown();
+        otherPool.shutdown();
+        Assert.assertEquals(first.getEquity(0), second.getEquity(0), DELTA);
+        Assert.assertEquals(first.getTie(1), second.getTie(1), DELTA);
+    }
+
+    @Test
+    public void testFinishedBoardAndTimeBudget() {
+        // With the whole board out there is nothing left to chance: the board plays for both players.
+        CardSet board = CardSet.of(Card.of(RankEnum.TWO, SuitEnum.CLUBS), Card.of(RankEnum.THREE, SuitEnum.CLUBS),
+                Card.of(RankEnum.FOUR, SuitEnum.CLUBS), Card.of(RankEnum.FIVE, SuitEnum.CLUBS),
+                Card.of(RankEnum.SIX, SuitEnum.CLUBS));
+        EquityResult result = new EquityCalculator().calculate(new CardSet[] {aces, kings}, board, CardSet.EMPTY,
+                Long.MAX_VALUE, 50);
+        Assert.assertTrue(result.getNumBoards() > 0);
+        Assert.assertEquals(1.0, result.getTie(0), DELTA);
+        Assert.assertEquals(0.5, result.getEquity(1), DELTA);
+    }
+
+    @Test
+    public void testCardsCannotBeShared() {
+        CardSet moreAces = CardSet.of(Card.of(RankEnum.ACE, SuitEnum.HEARTS), Card.of(RankEnum.ACE, SuitEnum.CLUBS));
+        try {
+            new EquityCalculator().calculate(new CardSet[] {aces, moreAces}, CardSet.EMPTY, CardSet.EMPTY, 100);
+            fail("Expected the ace of hearts to be rejected");
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+}
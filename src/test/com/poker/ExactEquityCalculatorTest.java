@@ -0,0 +1,85 @@
+package test.com.poker;
+
+import com.poker.Card;
+import com.poker.CardSet;
+import com.poker.RankEnum;
+import com.poker.SuitEnum;
+import com.poker.equity.EquityCalculator;
+import com.poker.equity.EquityResult;
+import com.poker.equity.ExactEquityCalculator;
+import com.poker.hands.LookupHandEvaluator;
+import junit.framework.TestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class ExactEquityCalculatorTest extends TestCase {
+
+    private static final double DELTA = 1e-9;
+
+    private final CardSet aces = CardSet.of(Card.of(RankEnum.ACE, SuitEnum.HEARTS),
+            Card.of(RankEnum.ACE, SuitEnum.SPADES));
+    private final CardSet kings = CardSet.of(Card.of(RankEnum.KING, SuitEnum.DIAMONDS),
+            Card.of(RankEnum.KING, SuitEnum.CLUBS));
+
+    @Test
+    public void testEveryPreflopBoard() {
+        EquityResult result = new ExactEquityCalculator().calculate(new CardSet[] {aces, kings}, CardSet.EMPTY,
+                CardSet.EMPTY);
+        // 48 choose 5 boards.
+        Assert.assertEquals(1712304, result.getNumBoards());
+        Assert.assertTrue(result.isExact());
+        Assert.assertEquals(0.0, result.getConfidenceInterval(0), DELTA);
+        Assert.assertEquals(1.0, result.getEquity(0) + result.getEquity(1), DELTA);
+        Assert.assertEquals(result.getWin(0), result.getLoss(1), DELTA);
+
+        // The estimate should land within its confidence interval of the exact answer most of the time. Give it some
+        // room so the test doesn't flake.
+        EquityResult estimate = new EquityCalculator(ForkJoinPool.commonPool(), 3).calculate(
+                new CardSet[] {aces, kings}, CardSet.EMPTY, CardSet.EMPTY, 200000);
+        Assert.assertEquals(result.getEquity(0), estimate.getEquity(0), 2 * estimate.getConfidenceInterval(0));
+    }
+
+    @Test
+    public void testFlopWithDeadCards() {
+        CardSet board = CardSet.of(Card.of(RankEnum.KING, SuitEnum.SPADES), Card.of(RankEnum.SEVEN, SuitEnum.HEARTS),
+                Card.of(RankEnum.TWO, SuitEnum.HEARTS));
+        CardSet dead = CardSet.of(Card.of(RankEnum.KING, SuitEnum.HEARTS));
+        EquityResult result = new ExactEquityCalculator().calculate(new CardSet[] {aces, kings}, board, dead);
+
+        // 44 cards are left after the dead king, and two of them are still to come.
+        Assert.assertEquals(946, result.getNumBoards());
+        // Play out every turn and river by hand and check the counts match.
+        long used = aces.getBits() | kings.getBits() | board.getBits() | dead.getBits();
+        long acesWins = 0;
+        long kingsWins = 0;
+        for (int turn = 0; turn < Card.NUM_CARDS; turn++) {
+            for (int river = turn + 1; river < Card.NUM_CARDS; river++) {
+                long finished = (1L << turn) | (1L << river);
+                if ((finished & used) != 0) {
+                    continue;
+                }
+                int acesRank = LookupHandEvaluator.handRank(board.getBits() | finished | aces.getBits());
+                int kingsRank = LookupHandEvaluator.handRank(board.getBits() | finished | kings.getBits());
+                acesWins += (acesRank > kingsRank) ? 1 : 0;
+                kingsWins += (kingsRank > acesRank) ? 1 : 0;
+            }
+        }
+        Assert.assertEquals(acesWins / 946.0, result.getWin(0), DELTA);
+        Assert.assertEquals(kingsWins / 946.0, result.getWin(1), DELTA);
+        Assert.assertEquals(1.0, result.getEquity(0) + result.getEquity(1), DELTA);
+    }
+
+    @Test
+    public void testFinishedBoard() {
+        CardSet board = CardSet.of(Card.of(RankEnum.ACE, SuitEnum.CLUBS), Card.of(RankEnum.SEVEN, SuitEnum.HEARTS),
+                Card.of(RankEnum.TWO, SuitEnum.HEARTS), Card.of(RankEnum.NINE, SuitEnum.SPADES),
+                Card.of(RankEnum.FOUR, SuitEnum.DIAMONDS));
+        EquityResult result = new ExactEquityCalculator().calculate(new CardSet[] {aces, kings}, board,
+                CardSet.EMPTY);
+        Assert.assertEquals(1, result.getNumBoards());
+        Assert.assertEquals(1.0, result.getWin(0), DELTA);
+        Assert.assertEquals(1.0, result.getLoss(1), DELTA);
+    }
+}
@@ -1,6 +1,10 @@
 package test.com.poker;
 
 import com.poker.GameTable;
+import com.poker.SplittableRandomSource;
+import com.poker.actions.ActionEnum;
+import com.poker.actions.EncodedAction;
+import com.poker.events.*;
 import com.poker.player.HumanPlayer;
 import com.poker.player.Player;
 import com.poker.player.RobotPlayer;
@@ -8,7 +12,10 @@ import junit.framework.TestCase;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -63,4 +70,296 @@ public class GameTableTest extends TestCase {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testGameWithTooManyPlayers() {
+        List<Player> players = new ArrayList<Player>();
+        for (int i = 0; i < GameTable.MAX_PLAYERS; i++) {
+            players.add(new RobotPlayer(1000, "Robot #" + i, new SplittableRandomSource(i)));
+        }
+
+        // A full table has enough cards for every hand, however far it goes.
+        new GameTable(players, 10, 20, 12L).simulate(200, 1000);
+
+        players.add(new RobotPlayer(1000, "One too many"));
+        try {
+            new GameTable(players, 10, 20).run();
+            Assert.fail("We did not encounter the exception we were expecting.");
+        } catch (IllegalArgumentException ex) {
+            // good
+        }
+    }
+
+    @Test
+    public void testHeadlessSimulation() {
+        List<Player> players = new ArrayList<Player>();
+        for (int i = 0; i < 6; i++) {
+            players.add(new RobotPlayer(200, "Robot #" + i));
+        }
+        GameTable gameTable = new GameTable(players, 10, 20);
+
+        PrintStream console = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        try {
+            gameTable.simulate(2000, 200);
+        } finally {
+            System.setOut(console);
+        }
+
+        // Nothing should have been printed, and the robots keep buying back in so no one is ever left without chips
+        // for long.
+        Assert.assertEquals(0, output.size());
+        int totalChips = 0;
+        for (Player player : players) {
+            totalChips += player.getNumChips();
+        }
+        Assert.assertTrue(totalChips >= 200);
+    }
+
+    @Test
+    public void testListenersSeeTheWholeTournament() {
+        final List<Player> players = new ArrayList<Player>();
+        for (int i = 0; i < 3; i++) {
+            players.add(new RobotPlayer(100, "Robot #" + i));
+        }
+        GameTable gameTable = new GameTable(players, 10, 20);
+
+        final int[] handsStarted = new int[1];
+        final int[] actionsTaken = new int[1];
+        final int[] winnerSeat = {-2};
+        gameTable.addListener(new GameListener() {
+            @Override
+            public void onHandStarted(HandStartedEvent event) {
+                handsStarted[0]++;
+                Assert.assertEquals(handsStarted[0], event.getHandNumber());
+                Assert.assertTrue((event.getActiveSeats() & (1L << event.getDealerSeat())) != 0);
+            }
+
+            @Override
+            public void onActionTaken(ActionTakenEvent event) {
+                actionsTaken[0]++;
+                Assert.assertTrue((event.getSeat() >= 0) && (event.getSeat() < players.size()));
+            }
+
+            @Override
+            public void onTournamentFinished(TournamentFinishedEvent event) {
+                winnerSeat[0] = event.getWinnerSeat();
+            }
+        });
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        gameTable.addListener(new ConsoleGameListener(players, new PrintStream(output)));
+
+        gameTable.run();
+
+        Assert.assertTrue(handsStarted[0] > 0);
+        Assert.assertTrue(actionsTaken[0] >= 2 * handsStarted[0]);
+        Assert.assertEquals(300, players.get(winnerSeat[0]).getNumChips());
+
+        String console = output.toString();
+        Assert.assertTrue(console.startsWith("New hand, "));
+        Assert.assertTrue(console.contains("posts small blind of 10 chips"));
+        Assert.assertTrue(console.contains("The winner is: " + players.get(winnerSeat[0])));
+    }
+
+    @Test
+    public void testAllInPlayersAreNotAskedToAct() {
+        final List<Player> players = new ArrayList<Player>();
+        for (int i = 0; i < 6; i++) {
+            players.add(new RobotPlayer(100, "Robot #" + i, new SplittableRandomSource(i)));
+        }
+        GameTable gameTable = new GameTable(players, 10, 20, 5L);
+
+        final long[] allIn = new long[1];
+        final long[] inHand = new long[1];
+        gameTable.addListener(new GameListener() {
+            @Override
+            public void onHandStarted(HandStartedEvent event) {
+                allIn[0] = 0L;
+                inHand[0] = event.getActiveSeats();
+            }
+
+            @Override
+            public void onActionTaken(ActionTakenEvent event) {
+                long bit = 1L << event.getSeat();
+                Assert.assertTrue((inHand[0] & bit) != 0);
+                Assert.assertEquals(0L, allIn[0] & bit);
+                if (event.getAction() == ActionEnum.FOLD) {
+                    inHand[0] &= ~bit;
+                } else if (players.get(event.getSeat()).getNumChips() == 0) {
+                    allIn[0] |= bit;
+                }
+            }
+
+            @Override
+            public void onBoardDealt(BoardDealtEvent event) {
+                Assert.assertEquals(inHand[0], event.getActiveSeats());
+            }
+        });
+
+        gameTable.run();
+        int totalChips = 0;
+        for (Player player : players) {
+            totalChips += player.getNumChips();
+        }
+        Assert.assertEquals(600, totalChips);
+    }
+
+    @Test
+    public void testHandsDoNotAllocateOnceWarmedUp() {
+        SplittableRandomSource random = new SplittableRandomSource(21L);
+        List<Player> players = new ArrayList<Player>();
+        for (int i = 0; i < 6; i++) {
+            players.add(new RobotPlayer(1000, "Robot #" + i, random.split()));
+        }
+        final GameTable gameTable = new GameTable(players, 10, 20, random);
+
+        // The first hands create the pots, hands and winners that every hand after them reuses.
+        gameTable.simulate(2000, 1000);
+        final int numHands = 10000;
+        long allocated = Allocations.measure(new Runnable() {
+            @Override
+            public void run() {
+                gameTable.simulate(numHands, 1000);
+            }
+        });
+
+        // A hand with more side pots than any before it still adds a pot to the pool, but nothing is allocated per
+        // hand.
+        Assert.assertTrue(allocated + " bytes allocated", allocated < numHands);
+    }
+
+    @Test
+    public void testReplayedHandsMatch() {
+        List<Player> players = new ArrayList<Player>();
+        for (int i = 0; i < 6; i++) {
+            players.add(new RobotPlayer(300, "Robot #" + i, new SplittableRandomSource(i)));
+        }
+        GameTable gameTable = new GameTable(players, 10, 20, 24L);
+        HandRecorder recorder = new HandRecorder(players);
+        gameTable.addListener(recorder);
+        gameTable.run();
+
+        // Play each hand again at a new table, from the seed and the decisions alone.
+        for (int hand = 0; hand < recorder.hands.size(); hand++) {
+            RecordedHand recorded = recorder.hands.get(hand);
+            List<Player> replayPlayers = new ArrayList<Player>();
+            for (int seat = 0; seat < players.size(); seat++) {
+                replayPlayers.add(new RobotPlayer(recorded.stacks[seat], "Replay #" + seat));
+            }
+            GameTable replayTable = new GameTable(replayPlayers, 10, 20);
+            HandRecorder replayRecorder = new HandRecorder(replayPlayers);
+            replayTable.addListener(replayRecorder);
+            replayTable.replayHand(recorded.dealerSeat, recorded.handSeed, recorded.decisions());
+
+            Assert.assertEquals(recorded.events, replayRecorder.hands.get(0).events);
+            for (int seat = 0; seat < players.size(); seat++) {
+                int chipsAfter = (hand + 1 < recorder.hands.size()) ? recorder.hands.get(hand + 1).stacks[seat]
+                        : players.get(seat).getNumChips();
+                Assert.assertEquals(chipsAfter, replayPlayers.get(seat).getNumChips());
+            }
+        }
+
+        // Checking when facing the big blind isn't legal, nor are chips put in with a fold, a raise of nothing, or a
+        // raise under the minimum that doesn't put the player all in.
+        RecordedHand first = recorder.hands.get(0);
+        long[] illegalActions = {EncodedAction.CHECK, EncodedAction.encode(ActionEnum.FOLD, 50),
+                EncodedAction.encode(ActionEnum.RAISE, 0), EncodedAction.encode(ActionEnum.RAISE, 1)};
+        for (long illegalAction : illegalActions) {
+            long[] decisions = first.decisions();
+            decisions[0] = illegalAction;
+            List<Player> replayPlayers = new ArrayList<Player>();
+            for (int seat = 0; seat < players.size(); seat++) {
+                replayPlayers.add(new RobotPlayer(first.stacks[seat], "Replay #" + seat));
+            }
+            try {
+                new GameTable(replayPlayers, 10, 20).replayHand(first.dealerSeat, first.handSeed, decisions);
+                Assert.fail("Replayed an illegal action");
+            } catch (IllegalArgumentException e) {
+                // Expected.
+            }
+        }
+
+        // A hand needs two players with chips, and nothing is played without them.
+        List<Player> lonePlayers = new ArrayList<Player>();
+        lonePlayers.add(new RobotPlayer(300, "Replay #0"));
+        lonePlayers.add(new RobotPlayer(0, "Replay #1"));
+        try {
+            new GameTable(lonePlayers, 10, 20).replayHand(0, 1L, new long[0]);
+            Assert.fail("Replayed a hand with one player");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("A hand needs at least 2 players with chips.", e.getMessage());
+        }
+        Assert.assertEquals(300, lonePlayers.get(0).getNumChips());
+    }
+
+    /**
+     * Records the seed, the decisions and everything else that happened in each hand.
+     */
+    private static class HandRecorder implements GameListener {
+        private final List<Player> players;
+        private final List<RecordedHand> hands = new ArrayList<RecordedHand>();
+        private RecordedHand hand;
+
+        HandRecorder(List<Player> players) {
+            this.players = players;
+        }
+
+        @Override
+        public void onHandStarted(HandStartedEvent event) {
+            hand = new RecordedHand();
+            hand.dealerSeat = event.getDealerSeat();
+            hand.handSeed = event.getHandSeed();
+            hand.stacks = new int[players.size()];
+            for (int seat = 0; seat < players.size(); seat++) {
+                Player player = players.get(seat);
+                hand.stacks[seat] = player.getNumChips();
+                if ((event.getActiveSeats() & (1L << seat)) != 0) {
+                    hand.events.add(seat + " has " + Arrays.toString(player.getCards()));
+                }
+            }
+            hands.add(hand);
+        }
+
+        @Override
+        public void onActionTaken(ActionTakenEvent event) {
+            hand.events.add(event.getSeat() + " " + event.getAction().description(event.getAmount()));
+            if ((event.getAction() != ActionEnum.SMALL_BLIND) && (event.getAction() != ActionEnum.BIG_BLIND)) {
+                hand.decisions.add(EncodedAction.encode(event.getAction(), event.getAmount()));
+            }
+        }
+
+        @Override
+        public void onBoardDealt(BoardDealtEvent event) {
+            hand.events.add(event.getRound() + " " + event.getBoardCards());
+        }
+
+        @Override
+        public void onPotsClosed(PotsClosedEvent event) {
+            for (int pot = 0; pot < event.getNumPots(); pot++) {
+                hand.events.add("pot " + pot + " has " + event.getPotAmount(pot));
+            }
+        }
+
+        @Override
+        public void onShowdown(ShowdownEvent event) {
+            hand.events.add("pot " + event.getPot() + " of " + event.getAmount() + " to " + event.getWinnerSeats()
+                    + " with " + event.getHandRank());
+        }
+    }
+
+    private static class RecordedHand {
+        private int dealerSeat;
+        private long handSeed;
+        private int[] stacks;
+        private final List<Long> decisions = new ArrayList<Long>();
+        private final List<String> events = new ArrayList<String>();
+
+        long[] decisions() {
+            long[] array = new long[decisions.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = decisions.get(i);
+            }
+            return array;
+        }
+    }
+}
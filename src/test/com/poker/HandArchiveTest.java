@@ -0,0 +1,151 @@
+package test.com.poker;
+
+import com.poker.GameTable;
+import com.poker.SplittableRandomSource;
+import com.poker.events.GameListener;
+import com.poker.events.HandStartedEvent;
+import com.poker.history.HandArchive;
+import com.poker.history.HandArchiveWriter;
+import com.poker.history.HandHistoryReader;
+import com.poker.history.HandHistoryWriter;
+import com.poker.history.HandRecordEnum;
+import com.poker.player.Player;
+import com.poker.player.RobotPlayer;
+import junit.framework.TestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+public class HandArchiveTest extends TestCase {
+    private static final int SEGMENT_SIZE = 4096;
+
+    private File directory;
+
+    @Override
+    protected void setUp() throws IOException {
+        directory = Files.createTempDirectory("hands").toFile();
+    }
+
+    @Override
+    protected void tearDown() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    @Test
+    public void testReadsHandsById() throws IOException {
+        List<Long> seeds = new ArrayList<Long>();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        playTournament(23L, seeds, bytes);
+
+        HandArchive archive = new HandArchive(directory);
+        Assert.assertEquals(seeds.size(), archive.getNumHands());
+        Assert.assertTrue(archive.getNumSegments() > 1);
+
+        // Every hand is found by its id, and has nothing in it but that hand.
+        ByteArrayOutputStream handBytes = new ByteArrayOutputStream();
+        for (int handId = 0; handId < seeds.size(); handId++) {
+            HandHistoryReader reader = archive.readHand(handId);
+            Assert.assertEquals(HandRecordEnum.HAND_STARTED, reader.next());
+            Assert.assertEquals((long) seeds.get(handId), reader.getHandSeed());
+            for (HandRecordEnum kind = reader.next(); kind != null; kind = reader.next()) {
+                Assert.assertNotSame(HandRecordEnum.HAND_STARTED, kind);
+            }
+            ByteBuffer hand = archive.getHand(handId);
+            byte[] handArray = new byte[hand.remaining()];
+            hand.get(handArray);
+            handBytes.write(handArray);
+        }
+        Assert.assertArrayEquals(bytes.toByteArray(), handBytes.toByteArray());
+
+        // Reading the hands in a row goes from one segment to the next.
+        Assert.assertEquals(seeds.size(), countHands(archive.readAllHands()));
+        Assert.assertEquals(10, countHands(archive.readHands(5, 15)));
+        Assert.assertEquals(0, countHands(archive.readHands(7, 7)));
+        try {
+            archive.getHand(seeds.size());
+            Assert.fail("Read a hand that isn't in the archive");
+        } catch (IllegalArgumentException e) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void testAppendsToAnArchive() throws IOException {
+        List<Long> seeds = new ArrayList<Long>();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        playTournament(23L, seeds, bytes);
+        int numHands = seeds.size();
+
+        // Half a hand written before the writer went away is cut off when the archive is opened again.
+        HandArchive archive = new HandArchive(directory);
+        File lastSegment = new File(directory, String.format("segment-%05d.hands", archive.getNumSegments() - 1));
+        try (FileOutputStream out = new FileOutputStream(lastSegment, true)) {
+            out.write(new byte[] {1, 2, 3});
+        }
+        playTournament(24L, seeds, bytes);
+
+        archive = new HandArchive(directory);
+        Assert.assertEquals(seeds.size(), archive.getNumHands());
+        Assert.assertTrue(seeds.size() > numHands);
+        HandHistoryReader reader = archive.readHand(numHands);
+        Assert.assertEquals(HandRecordEnum.HAND_STARTED, reader.next());
+        Assert.assertEquals(1, reader.getHandNumber());
+        Assert.assertEquals((long) seeds.get(numHands), reader.getHandSeed());
+
+        ByteArrayOutputStream archiveBytes = new ByteArrayOutputStream();
+        for (int segment = 0; segment < archive.getNumSegments(); segment++) {
+            archiveBytes.write(Files.readAllBytes(
+                    new File(directory, String.format("segment-%05d.hands", segment)).toPath()));
+        }
+        Assert.assertArrayEquals(bytes.toByteArray(), archiveBytes.toByteArray());
+    }
+
+    /**
+     * Play a tournament into the archive and into a plain hand history, and keep the seed of every hand.
+     */
+    private void playTournament(long seed, final List<Long> seeds, ByteArrayOutputStream bytes) throws IOException {
+        List<Player> players = new ArrayList<Player>();
+        for (int i = 0; i < 6; i++) {
+            players.add(new RobotPlayer(1000, "Robot #" + i, new SplittableRandomSource(seed + i)));
+        }
+        GameTable gameTable = new GameTable(players, 10, 20, seed);
+        HandArchiveWriter archiveWriter = new HandArchiveWriter(directory, players, false, SEGMENT_SIZE);
+        HandHistoryWriter writer = new HandHistoryWriter(bytes, players);
+        gameTable.addListener(archiveWriter);
+        gameTable.addListener(writer);
+        gameTable.addListener(new GameListener() {
+            @Override
+            public void onHandStarted(HandStartedEvent event) {
+                seeds.add(event.getHandSeed());
+            }
+        });
+        gameTable.run();
+        archiveWriter.close();
+        writer.close();
+        Assert.assertEquals(seeds.size(), archiveWriter.getNumHands());
+    }
+
+    private static int countHands(HandHistoryReader reader) throws IOException {
+        int numHands = 0;
+        for (HandRecordEnum kind = reader.next(); kind != null; kind = reader.next()) {
+            if (kind == HandRecordEnum.HAND_STARTED) {
+                numHands++;
+            }
+        }
+        return numHands;
+    }
+}
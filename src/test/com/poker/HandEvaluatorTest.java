@@ -33,13 +33,13 @@ public class HandEvaluatorTest {
     public void handEvaluatorTestOnePair() {
         HandEvaluator e = new OnePairEvaluator();
         List<Card> cards = new ArrayList<>();
-        cards.add(new Card(RankEnum.ACE, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.FIVE, SuitEnum.SPADES));
-        cards.add(new Card(RankEnum.SIX, SuitEnum.CLUBS));
-        cards.add(new Card(RankEnum.SIX, SuitEnum.DIAMONDS));
-        cards.add(new Card(RankEnum.TWO, SuitEnum.CLUBS));
-        cards.add(new Card(RankEnum.JACK, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.ACE, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.FIVE, SuitEnum.SPADES));
+        cards.add(Card.of(RankEnum.SIX, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.SIX, SuitEnum.DIAMONDS));
+        cards.add(Card.of(RankEnum.TWO, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.JACK, SuitEnum.HEARTS));
         Collections.sort(cards);
 
 
@@ -61,13 +61,13 @@ public class HandEvaluatorTest {
         HandEvaluator s = new StraightEvaluator();
 
         List<Card> cards = new ArrayList<>();
-        cards.add(new Card(RankEnum.ACE, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.SEVEN, SuitEnum.SPADES));
-        cards.add(new Card(RankEnum.SIX, SuitEnum.CLUBS));
-        cards.add(new Card(RankEnum.EIGHT, SuitEnum.DIAMONDS));
-        cards.add(new Card(RankEnum.NINE, SuitEnum.CLUBS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.ACE, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.SEVEN, SuitEnum.SPADES));
+        cards.add(Card.of(RankEnum.SIX, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.EIGHT, SuitEnum.DIAMONDS));
+        cards.add(Card.of(RankEnum.NINE, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.HEARTS));
         Collections.sort(cards);
 
         HandEvalResult result = e.evaluate(cards);
@@ -90,13 +90,13 @@ public class HandEvaluatorTest {
         HandEvaluator s = new StraightEvaluator();
 
         List<Card> cards = new ArrayList<>();
-        cards.add(new Card(RankEnum.ACE, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.SPADES));
-        cards.add(new Card(RankEnum.FIVE  , SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.FOUR, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.THREE, SuitEnum.CLUBS));
-        cards.add(new Card(RankEnum.TWO, SuitEnum.DIAMONDS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.ACE, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.SPADES));
+        cards.add(Card.of(RankEnum.FIVE  , SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.FOUR, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.THREE, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.TWO, SuitEnum.DIAMONDS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.CLUBS));
         Collections.sort(cards);
 
         HandEvalResult result = s.evaluate(cards);
@@ -115,13 +115,13 @@ public class HandEvaluatorTest {
         HandEvaluator e = new FullHouseEvaluator();
 
         List<Card> cards = new ArrayList<>();
-        cards.add(new Card(RankEnum.ACE, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.SPADES));
-        cards.add(new Card(RankEnum.SIX, SuitEnum.CLUBS));
-        cards.add(new Card(RankEnum.SIX, SuitEnum.DIAMONDS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.CLUBS));
-        cards.add(new Card(RankEnum.JACK, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.ACE, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.SPADES));
+        cards.add(Card.of(RankEnum.SIX, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.SIX, SuitEnum.DIAMONDS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.JACK, SuitEnum.HEARTS));
         Collections.sort(cards);
 
         HandEvalResult result = e.evaluate(cards);
@@ -141,13 +141,13 @@ public class HandEvaluatorTest {
         HandEvaluator e = new TwoPairEvaluator();
 
         List<Card> cards = new ArrayList<>();
-        cards.add(new Card(RankEnum.ACE, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.SPADES));
-        cards.add(new Card(RankEnum.SIX, SuitEnum.CLUBS));
-        cards.add(new Card(RankEnum.SIX, SuitEnum.DIAMONDS));
-        cards.add(new Card(RankEnum.NINE, SuitEnum.CLUBS));
-        cards.add(new Card(RankEnum.JACK, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.ACE, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.SPADES));
+        cards.add(Card.of(RankEnum.SIX, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.SIX, SuitEnum.DIAMONDS));
+        cards.add(Card.of(RankEnum.NINE, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.JACK, SuitEnum.HEARTS));
         Collections.sort(cards);
 
         HandEvalResult result = e.evaluate(cards);
@@ -167,13 +167,13 @@ public class HandEvaluatorTest {
         HandEvaluator e = new ThreeOfAKindEvaluator();
 
         List<Card> cards = new ArrayList<>();
-        cards.add(new Card(RankEnum.ACE, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.SPADES));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.CLUBS));
-        cards.add(new Card(RankEnum.SIX, SuitEnum.DIAMONDS));
-        cards.add(new Card(RankEnum.NINE, SuitEnum.CLUBS));
-        cards.add(new Card(RankEnum.JACK, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.ACE, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.SPADES));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.SIX, SuitEnum.DIAMONDS));
+        cards.add(Card.of(RankEnum.NINE, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.JACK, SuitEnum.HEARTS));
         Collections.sort(cards);
 
         HandEvalResult result = e.evaluate(cards);
@@ -193,13 +193,13 @@ public class HandEvaluatorTest {
         HandEvaluator e = new FourOfAKindEvaluator();
 
         List<Card> cards = new ArrayList<>();
-        cards.add(new Card(RankEnum.ACE, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.SPADES));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.CLUBS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.DIAMONDS));
-        cards.add(new Card(RankEnum.NINE, SuitEnum.CLUBS));
-        cards.add(new Card(RankEnum.JACK, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.ACE, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.SPADES));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.DIAMONDS));
+        cards.add(Card.of(RankEnum.NINE, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.JACK, SuitEnum.HEARTS));
         Collections.sort(cards);
 
         HandEvalResult result = e.evaluate(cards);
@@ -219,13 +219,13 @@ public class HandEvaluatorTest {
         HandEvaluator e = new FlushEvaluator();
 
         List<Card> cards = new ArrayList<>();
-        cards.add(new Card(RankEnum.ACE, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.NINE, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.CLUBS));
-        cards.add(new Card(RankEnum.SEVEN, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.NINE, SuitEnum.CLUBS));
-        cards.add(new Card(RankEnum.JACK, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.ACE, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.NINE, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.SEVEN, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.NINE, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.JACK, SuitEnum.HEARTS));
         Collections.sort(cards);
 
         HandEvalResult result = e.evaluate(cards);
@@ -245,13 +245,13 @@ public class HandEvaluatorTest {
         HandEvaluator e = new HighCardEvaluator();
 
         List<Card> cards = new ArrayList<>();
-        cards.add(new Card(RankEnum.ACE, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.NINE, SuitEnum.DIAMONDS));
-        cards.add(new Card(RankEnum.THREE, SuitEnum.CLUBS));
-        cards.add(new Card(RankEnum.SEVEN, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TWO, SuitEnum.CLUBS));
-        cards.add(new Card(RankEnum.JACK, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.ACE, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.NINE, SuitEnum.DIAMONDS));
+        cards.add(Card.of(RankEnum.THREE, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.SEVEN, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TWO, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.JACK, SuitEnum.HEARTS));
         Collections.sort(cards);
 
         HandEvalResult result = e.evaluate(cards);
@@ -271,13 +271,13 @@ public class HandEvaluatorTest {
         HandEvaluator s = new StraightFlushEvaluator();
 
         List<Card> cards = new ArrayList<>();
-        cards.add(new Card(RankEnum.ACE, SuitEnum.SPADES));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.SEVEN, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.SIX, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.EIGHT, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.NINE, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.ACE, SuitEnum.SPADES));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.SEVEN, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.SIX, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.EIGHT, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.NINE, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.CLUBS));
         Collections.sort(cards);
 
         HandEvalResult result = s.evaluate(cards);
@@ -296,13 +296,13 @@ public class HandEvaluatorTest {
         HandEvaluator s = new StraightFlushEvaluator();
 
         List<Card> cards = new ArrayList<>();
-        cards.add(new Card(RankEnum.ACE, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.SPADES));
-        cards.add(new Card(RankEnum.FIVE  , SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.FOUR, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.THREE, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TWO, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.ACE, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.SPADES));
+        cards.add(Card.of(RankEnum.FIVE  , SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.FOUR, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.THREE, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TWO, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.CLUBS));
         Collections.sort(cards);
 
         HandEvalResult result = s.evaluate(cards);
@@ -321,13 +321,13 @@ public class HandEvaluatorTest {
         HandEvaluator s = new StraightFlushEvaluator();
 
         List<Card> cards = new ArrayList<>();
-        cards.add(new Card(RankEnum.ACE, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.KING  , SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.FOUR, SuitEnum.SPADES));
-        cards.add(new Card(RankEnum.QUEEN, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.JACK, SuitEnum.HEARTS));
-        cards.add(new Card(RankEnum.TEN, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.ACE, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.KING  , SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.FOUR, SuitEnum.SPADES));
+        cards.add(Card.of(RankEnum.QUEEN, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.JACK, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TEN, SuitEnum.CLUBS));
         Collections.sort(cards);
 
         HandEvalResult result = s.evaluate(cards);
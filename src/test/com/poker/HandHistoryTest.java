@@ -0,0 +1,245 @@
+package test.com.poker;
+
+import com.poker.Card;
+import com.poker.CardSet;
+import com.poker.GameTable;
+import com.poker.RoundEnum;
+import com.poker.SplittableRandomSource;
+import com.poker.actions.ActionEnum;
+import com.poker.events.*;
+import com.poker.hands.HandEvaluator;
+import com.poker.history.HandHistoryReader;
+import com.poker.history.HandHistoryWriter;
+import com.poker.history.HandRecordEnum;
+import com.poker.player.Player;
+import com.poker.player.RobotPlayer;
+import junit.framework.TestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class HandHistoryTest extends TestCase {
+
+    @Test
+    public void testReadsBackATournament() throws IOException {
+        final List<Player> players = new ArrayList<Player>();
+        for (int i = 0; i < 6; i++) {
+            players.add(new RobotPlayer(1000, "Robot #" + i, new SplittableRandomSource(i)));
+        }
+        GameTable gameTable = new GameTable(players, 10, 20, 23L);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        HandHistoryWriter writer = new HandHistoryWriter(bytes, players);
+        gameTable.addListener(writer);
+
+        // Describe every event the same way the records are described when they are read back.
+        final List<String> expected = new ArrayList<String>();
+        gameTable.addListener(new GameListener() {
+            @Override
+            public void onHandStarted(HandStartedEvent event) {
+                StringBuilder hand = new StringBuilder("hand " + event.getHandNumber() + " dealer "
+                        + event.getDealerSeat());
+                for (long seats = event.getActiveSeats(); seats != 0; seats &= seats - 1) {
+                    Player player = players.get(Long.numberOfTrailingZeros(seats));
+                    hand.append(" ").append(player.getNumChips()).append(" ")
+                            .append(CardSet.of(player.getCards()).getBits());
+                }
+                expected.add(hand.toString());
+            }
+
+            @Override
+            public void onActionTaken(ActionTakenEvent event) {
+                expected.add(event.getSeat() + " " + event.getAction() + " " + event.getAmount());
+            }
+
+            @Override
+            public void onBoardDealt(BoardDealtEvent event) {
+                expected.add(event.getRound() + " " + event.getBoardCards());
+            }
+
+            @Override
+            public void onShowdown(ShowdownEvent event) {
+                expected.add("pot " + event.getPot() + " " + event.getAmount() + " " + event.getWinnerSeats() + " "
+                        + event.getHandRank());
+            }
+        });
+        gameTable.run();
+        writer.close();
+
+        HandHistoryReader reader = new HandHistoryReader(new ByteArrayInputStream(bytes.toByteArray()));
+        List<String> actual = new ArrayList<String>();
+        for (HandRecordEnum kind = reader.next(); kind != null; kind = reader.next()) {
+            switch (kind) {
+                case HAND_STARTED:
+                    StringBuilder hand = new StringBuilder("hand " + reader.getHandNumber() + " dealer "
+                            + reader.getDealerSeat());
+                    for (long seats = reader.getSeats(); seats != 0; seats &= seats - 1) {
+                        int seat = Long.numberOfTrailingZeros(seats);
+                        hand.append(" ").append(reader.getStack(seat)).append(" ").append(reader.getHoleCards(seat));
+                    }
+                    actual.add(hand.toString());
+                    break;
+                case ACTION_TAKEN:
+                    actual.add(reader.getSeat() + " " + reader.getAction() + " " + reader.getAmount());
+                    break;
+                case BOARD_DEALT:
+                    actual.add(reader.getRound() + " " + reader.getBoardCards());
+                    break;
+                default:
+                    actual.add("pot " + reader.getPot() + " " + reader.getAmount() + " " + reader.getWinnerSeats()
+                            + " " + reader.getHandRank());
+                    break;
+            }
+        }
+        Assert.assertTrue(expected.size() > 100);
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(bytes.size(), writer.getBytesWritten());
+    }
+
+    @Test
+    public void testLargeValuesAndFolds() throws IOException {
+        List<Player> players = new ArrayList<Player>();
+        for (int i = 0; i < 64; i++) {
+            players.add(new RobotPlayer(Integer.MAX_VALUE - i, "Robot #" + i));
+        }
+        players.get(0).setCards(Arrays.asList(Card.of(0), Card.of(51)));
+        players.get(63).setCards(Arrays.asList(Card.of(12), Card.of(13)));
+        long seats = 1L | (1L << 63);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        HandHistoryWriter writer = new HandHistoryWriter(bytes, players);
+        writer.onHandStarted(new HandStartedEvent(Integer.MAX_VALUE, 63, seats, -2L));
+        writer.onActionTaken(new ActionTakenEvent(63, ActionEnum.RAISE, Integer.MAX_VALUE - 63, 0));
+        writer.onActionTaken(new ActionTakenEvent(0, ActionEnum.FOLD, 0, 0));
+        writer.onShowdown(new ShowdownEvent(-1, Integer.MAX_VALUE, 1L << 63, HandEvaluator.NO_MATCH));
+        writer.onBoardDealt(new BoardDealtEvent(RoundEnum.FLOP_ROUND, 0b111L, seats));
+        writer.flush();
+
+        HandHistoryReader reader = new HandHistoryReader(new ByteArrayInputStream(bytes.toByteArray()));
+        Assert.assertEquals(HandRecordEnum.HAND_STARTED, reader.next());
+        Assert.assertEquals(Integer.MAX_VALUE, reader.getHandNumber());
+        Assert.assertEquals(63, reader.getDealerSeat());
+        Assert.assertEquals(seats, reader.getSeats());
+        Assert.assertEquals(-2L, reader.getHandSeed());
+        Assert.assertFalse(reader.isSeedOnly());
+        Assert.assertEquals(Integer.MAX_VALUE, reader.getStack(0));
+        Assert.assertEquals(Integer.MAX_VALUE - 63, reader.getStack(63));
+        Assert.assertEquals(1L | (1L << 51), reader.getHoleCards(0));
+        Assert.assertEquals((1L << 12) | (1L << 13), reader.getHoleCards(63));
+
+        Assert.assertEquals(HandRecordEnum.ACTION_TAKEN, reader.next());
+        Assert.assertEquals(63, reader.getSeat());
+        Assert.assertEquals(ActionEnum.RAISE, reader.getAction());
+        Assert.assertEquals(Integer.MAX_VALUE - 63, reader.getAmount());
+        Assert.assertEquals(HandRecordEnum.ACTION_TAKEN, reader.next());
+        Assert.assertEquals(ActionEnum.FOLD, reader.getAction());
+        Assert.assertEquals(0, reader.getAmount());
+
+        Assert.assertEquals(HandRecordEnum.SHOWDOWN, reader.next());
+        Assert.assertEquals(-1, reader.getPot());
+        Assert.assertEquals(Integer.MAX_VALUE, reader.getAmount());
+        Assert.assertEquals(1L << 63, reader.getWinnerSeats());
+        Assert.assertEquals(HandEvaluator.NO_MATCH, reader.getHandRank());
+
+        Assert.assertEquals(HandRecordEnum.BOARD_DEALT, reader.next());
+        Assert.assertEquals(RoundEnum.FLOP_ROUND, reader.getRound());
+        Assert.assertEquals(0b111L, reader.getNewCards());
+        Assert.assertNull(reader.next());
+
+        // A record cut short is an error, not the end of the hands.
+        byte[] truncated = Arrays.copyOf(bytes.toByteArray(), 5);
+        reader = new HandHistoryReader(new ByteArrayInputStream(truncated));
+        try {
+            reader.next();
+            Assert.fail("Read a truncated record");
+        } catch (EOFException e) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void testSeedOnlyHandsCanBeReplayed() throws IOException {
+        List<Player> players = new ArrayList<Player>();
+        for (int i = 0; i < 6; i++) {
+            players.add(new RobotPlayer(500, "Robot #" + i, new SplittableRandomSource(i)));
+        }
+        GameTable gameTable = new GameTable(players, 10, 20, 24L);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        HandHistoryWriter writer = new HandHistoryWriter(bytes, players, true);
+        gameTable.addListener(writer);
+        gameTable.run();
+        writer.close();
+
+        // Replay every hand from its stacks, seed and decisions. Each one must leave the stacks the next one starts
+        // with, and the last one the stacks the tournament finished with.
+        HandHistoryReader reader = new HandHistoryReader(new ByteArrayInputStream(bytes.toByteArray()));
+        List<Player> replayPlayers = null;
+        GameTable replayTable = null;
+        int dealerSeat = 0;
+        long handSeed = 0L;
+        long[] decisions = new long[1000];
+        int numDecisions = 0;
+        int numHands = 0;
+        for (HandRecordEnum kind = reader.next(); ; kind = reader.next()) {
+            if ((kind != HandRecordEnum.ACTION_TAKEN) && (replayTable != null)) {
+                replayTable.replayHand(dealerSeat, handSeed, Arrays.copyOf(decisions, numDecisions));
+                numHands++;
+            }
+            if (kind == null) {
+                break;
+            }
+            if (kind == HandRecordEnum.HAND_STARTED) {
+                Assert.assertTrue(reader.isSeedOnly());
+                if (replayPlayers != null) {
+                    for (int seat = 0; seat < players.size(); seat++) {
+                        int stack = ((reader.getSeats() & (1L << seat)) != 0) ? reader.getStack(seat) : 0;
+                        Assert.assertEquals(stack, replayPlayers.get(seat).getNumChips());
+                    }
+                }
+                replayPlayers = new ArrayList<Player>();
+                for (int seat = 0; seat < players.size(); seat++) {
+                    int stack = ((reader.getSeats() & (1L << seat)) != 0) ? reader.getStack(seat) : 0;
+                    replayPlayers.add(new RobotPlayer(stack, "Replay #" + seat));
+                }
+                replayTable = new GameTable(replayPlayers, 10, 20);
+                dealerSeat = reader.getDealerSeat();
+                handSeed = reader.getHandSeed();
+                numDecisions = 0;
+            } else {
+                Assert.assertEquals(HandRecordEnum.ACTION_TAKEN, kind);
+                decisions[numDecisions++] = reader.getEncodedAction();
+            }
+        }
+
+        Assert.assertTrue(numHands > 10);
+        for (int seat = 0; seat < players.size(); seat++) {
+            Assert.assertEquals(players.get(seat).getNumChips(), replayPlayers.get(seat).getNumChips());
+        }
+    }
+
+    @Test
+    public void testHandsAreSmall() {
+        SplittableRandomSource random = new SplittableRandomSource(23L);
+        List<Player> players = new ArrayList<Player>();
+        for (int i = 0; i < 6; i++) {
+            players.add(new RobotPlayer(1000, "Robot #" + i, random.split()));
+        }
+        GameTable gameTable = new GameTable(players, 10, 20, random);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        HandHistoryWriter writer = new HandHistoryWriter(bytes, players);
+        gameTable.addListener(writer);
+
+        int numHands = 10000;
+        gameTable.simulate(numHands, 1000);
+        writer.flush();
+
+        // Over ten million hands per GB.
+        Assert.assertTrue(bytes.size() / numHands + " bytes per hand", bytes.size() < 100 * numHands);
+    }
+}
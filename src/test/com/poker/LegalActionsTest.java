@@ -0,0 +1,53 @@
+package test.com.poker;
+
+import com.poker.actions.Action;
+import com.poker.actions.ActionEnum;
+import com.poker.actions.LegalActions;
+import com.poker.player.RobotPlayer;
+import com.poker.pots.PotManager;
+import junit.framework.TestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class LegalActionsTest extends TestCase {
+
+    @Test
+    public void testMaskAndOrder() {
+        LegalActions legalActions = LegalActions.of(Arrays.asList(ActionEnum.RAISE, ActionEnum.CALL, ActionEnum.FOLD),
+                30, 50, 400);
+        Assert.assertEquals(3, legalActions.size());
+        Assert.assertTrue(legalActions.contains(ActionEnum.CALL));
+        Assert.assertFalse(legalActions.contains(ActionEnum.CHECK));
+        Assert.assertEquals(LegalActions.bit(ActionEnum.FOLD) | LegalActions.bit(ActionEnum.CALL) |
+                LegalActions.bit(ActionEnum.RAISE), legalActions.getMask());
+
+        // Always listed as fold, check, call, raise.
+        Assert.assertEquals(Arrays.asList(ActionEnum.FOLD, ActionEnum.CALL, ActionEnum.RAISE), legalActions.toList());
+        try {
+            legalActions.get(3);
+            Assert.fail("Looking for illegal argument exception");
+        } catch (IllegalArgumentException ex) {
+            // worked as expected.
+        }
+    }
+
+    @Test
+    public void testRobotUsesTheAmounts() {
+        RobotPlayer robot = new RobotPlayer(100, "robot");
+        PotManager potManager = new PotManager(10, 20);
+
+        LegalActions legalActions = new LegalActions();
+        legalActions.set(LegalActions.bit(ActionEnum.FOLD) | LegalActions.bit(ActionEnum.CALL), 35, 60, 100);
+        Action action = robot.generateAction(legalActions, potManager);
+        Assert.assertEquals(ActionEnum.CALL, action.getActionEnum());
+        Assert.assertEquals(35, action.getIncrementAmount());
+
+        // Short of a full raise, the only raise left is all in.
+        legalActions.set(LegalActions.bit(ActionEnum.RAISE), 0, 150, 100);
+        action = robot.generateAction(legalActions, potManager);
+        Assert.assertEquals(ActionEnum.RAISE, action.getActionEnum());
+        Assert.assertEquals(100, action.getIncrementAmount());
+    }
+}
@@ -0,0 +1,161 @@
+package test.com.poker;
+
+import com.poker.Card;
+import com.poker.CardSet;
+import com.poker.RankEnum;
+import com.poker.SuitEnum;
+import com.poker.hands.*;
+import junit.framework.TestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class LookupHandEvaluatorTest extends TestCase {
+
+    private static final int NUM_RANDOM_HANDS = 200000;
+
+    @Test
+    public void testMatchesCascadingEvaluator() {
+        HandEvaluator lookup = new LookupHandEvaluator();
+        HandEvaluator cascading = new CascadingHandEvaluator();
+
+        List<Card> deck = new ArrayList<>();
+        for (RankEnum rank : RankEnum.values()) {
+            for (SuitEnum suit : SuitEnum.values()) {
+                deck.add(Card.of(rank, suit));
+            }
+        }
+
+        Random random = new Random(42);
+        for (int i = 0; i < NUM_RANDOM_HANDS; i++) {
+            Collections.shuffle(deck, random);
+            List<Card> cards = new ArrayList<>(deck.subList(0, 7));
+            Collections.sort(cards);
+
+            HandEvalResult expected = cascading.evaluate(cards);
+            HandEvalResult actual = lookup.evaluate(cards);
+            Assert.assertEquals(cards.toString(), expected.getResult(), actual.getResult());
+            Assert.assertEquals(cards.toString(), expected.getScore(), actual.getScore());
+
+            HandEvalResult fromCardSet = lookup.evaluate(CardSet.of(cards));
+            Assert.assertEquals(cards.toString(), expected.getResult(), fromCardSet.getResult());
+            Assert.assertEquals(cards.toString(), expected.getScore(), fromCardSet.getScore());
+        }
+    }
+
+    @Test
+    public void testFiveAndSixCardHands() {
+        HandEvaluator cascading = new CascadingHandEvaluator();
+
+        List<Card> deck = new ArrayList<>();
+        for (RankEnum rank : RankEnum.values()) {
+            for (SuitEnum suit : SuitEnum.values()) {
+                deck.add(Card.of(rank, suit));
+            }
+        }
+
+        Random random = new Random(5);
+        for (int i = 0; i < NUM_RANDOM_HANDS / 10; i++) {
+            Collections.shuffle(deck, random);
+            int numCards = LookupHandEvaluator.MIN_CARDS + (i % 3);
+            List<Card> cards = new ArrayList<>(deck.subList(0, numCards));
+            int[] ordinals = new int[numCards];
+            for (int j = 0; j < numCards; j++) {
+                ordinals[j] = cards.get(j).getOrdinal();
+            }
+
+            HandEvalResult expected = cascading.evaluate(cards);
+            int handRank = LookupHandEvaluator.handRank(cards);
+            Assert.assertEquals(cards.toString(), expected.getResult(), HandEvaluator.handResult(handRank));
+            Assert.assertEquals(cards.toString(), expected.getScore(), HandEvaluator.score(handRank));
+            Assert.assertEquals(handRank, LookupHandEvaluator.handRank(CardSet.of(cards)));
+            Assert.assertEquals(handRank, LookupHandEvaluator.handRank(ordinals));
+
+            Hand hand = new Hand(cards);
+            Assert.assertEquals(handRank, hand.evaluate());
+        }
+    }
+
+    @Test
+    public void testRejectsWrongNumberOfCards() {
+        int[] fourCards = {0, 1, 2, 3};
+        int[] eightCards = {0, 1, 2, 3, 4, 5, 6, 7};
+        int[] repeatedCard = {0, 1, 2, 3, 3};
+        for (int[] ordinals : new int[][] {fourCards, eightCards, repeatedCard}) {
+            try {
+                LookupHandEvaluator.handRank(ordinals);
+                fail("Expected " + ordinals.length + " ordinals to be rejected");
+            } catch (IllegalArgumentException ex) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testTwoThreeOfAKindsIsFullHouse() {
+        List<Card> cards = new ArrayList<>();
+        cards.add(Card.of(RankEnum.ACE, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.ACE, SuitEnum.SPADES));
+        cards.add(Card.of(RankEnum.ACE, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.KING, SuitEnum.CLUBS));
+        cards.add(Card.of(RankEnum.KING, SuitEnum.DIAMONDS));
+        cards.add(Card.of(RankEnum.KING, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TWO, SuitEnum.HEARTS));
+        Hand hand = new Hand(cards);
+
+        hand.evaluate();
+        HandEvalResult result = hand.getHandEvalResult();
+        Assert.assertEquals(HandResult.FULL_HOUSE, result.getResult());
+
+        hand.evaluate(new CascadingHandEvaluator());
+        Assert.assertEquals(hand.getHandEvalResult().getScore(), result.getScore());
+    }
+
+    @Test
+    public void testStraightFlushBelowHigherFlushCard() {
+        List<Card> cards = new ArrayList<>();
+        cards.add(Card.of(RankEnum.KING, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.NINE, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.EIGHT, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.SEVEN, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.SIX, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.FIVE, SuitEnum.HEARTS));
+        cards.add(Card.of(RankEnum.TWO, SuitEnum.CLUBS));
+        Hand hand = new Hand(cards);
+
+        hand.evaluate();
+        HandEvalResult result = hand.getHandEvalResult();
+        Assert.assertEquals(HandResult.STRAIGHT_FLUSH, result.getResult());
+        Assert.assertEquals(RankEnum.NINE.getValue(), result.getScore());
+    }
+
+    @Test
+    public void testStraightBeatsThreeOfAKind() {
+        List<Card> straightCards = new ArrayList<>();
+        straightCards.add(Card.of(RankEnum.SIX, SuitEnum.HEARTS));
+        straightCards.add(Card.of(RankEnum.FIVE, SuitEnum.SPADES));
+        straightCards.add(Card.of(RankEnum.FOUR, SuitEnum.CLUBS));
+        straightCards.add(Card.of(RankEnum.THREE, SuitEnum.CLUBS));
+        straightCards.add(Card.of(RankEnum.TWO, SuitEnum.DIAMONDS));
+        straightCards.add(Card.of(RankEnum.NINE, SuitEnum.HEARTS));
+        straightCards.add(Card.of(RankEnum.JACK, SuitEnum.HEARTS));
+        Hand straight = new Hand(straightCards);
+
+        List<Card> tripsCards = new ArrayList<>();
+        tripsCards.add(Card.of(RankEnum.ACE, SuitEnum.HEARTS));
+        tripsCards.add(Card.of(RankEnum.ACE, SuitEnum.SPADES));
+        tripsCards.add(Card.of(RankEnum.ACE, SuitEnum.CLUBS));
+        tripsCards.add(Card.of(RankEnum.KING, SuitEnum.CLUBS));
+        tripsCards.add(Card.of(RankEnum.QUEEN, SuitEnum.DIAMONDS));
+        tripsCards.add(Card.of(RankEnum.NINE, SuitEnum.CLUBS));
+        tripsCards.add(Card.of(RankEnum.TWO, SuitEnum.HEARTS));
+        Hand trips = new Hand(tripsCards);
+
+        Assert.assertTrue(straight.evaluate() > trips.evaluate());
+        Assert.assertTrue(straight.compareTo(trips) < 0);
+    }
+}
@@ -4,6 +4,7 @@ import com.poker.Card;
 import com.poker.RankEnum;
 import com.poker.SuitEnum;
 import com.poker.hands.Hand;
+import com.poker.hands.HandResult;
 
 import junit.framework.TestCase;
 import org.junit.Assert;
@@ -26,47 +27,47 @@ public class PlayerHandComparatorTest extends TestCase {
     public void testFlushvsFlush() {
         List<Hand> hands = new ArrayList<Hand>();
         List<Card> cards1 = new ArrayList<>();
-        cards1.add(new Card(RankEnum.ACE, SuitEnum.HEARTS));
-        cards1.add(new Card(RankEnum.TEN, SuitEnum.HEARTS));
-        cards1.add(new Card(RankEnum.NINE, SuitEnum.HEARTS));
-        cards1.add(new Card(RankEnum.TEN, SuitEnum.CLUBS));
-        cards1.add(new Card(RankEnum.SEVEN, SuitEnum.HEARTS));
-        cards1.add(new Card(RankEnum.NINE, SuitEnum.CLUBS));
-        cards1.add(new Card(RankEnum.JACK, SuitEnum.HEARTS));
+        cards1.add(Card.of(RankEnum.ACE, SuitEnum.HEARTS));
+        cards1.add(Card.of(RankEnum.TEN, SuitEnum.HEARTS));
+        cards1.add(Card.of(RankEnum.NINE, SuitEnum.HEARTS));
+        cards1.add(Card.of(RankEnum.TEN, SuitEnum.CLUBS));
+        cards1.add(Card.of(RankEnum.SEVEN, SuitEnum.HEARTS));
+        cards1.add(Card.of(RankEnum.NINE, SuitEnum.CLUBS));
+        cards1.add(Card.of(RankEnum.JACK, SuitEnum.HEARTS));
         Hand hand1 = new Hand(cards1);
         hands.add(hand1);
 
         List<Card> cards2 = new ArrayList<>();
-        cards2.add(new Card(RankEnum.ACE, SuitEnum.HEARTS));
-        cards2.add(new Card(RankEnum.QUEEN, SuitEnum.HEARTS));
-        cards2.add(new Card(RankEnum.NINE, SuitEnum.HEARTS));
-        cards2.add(new Card(RankEnum.TEN, SuitEnum.CLUBS));
-        cards2.add(new Card(RankEnum.SEVEN, SuitEnum.HEARTS));
-        cards2.add(new Card(RankEnum.NINE, SuitEnum.CLUBS));
-        cards2.add(new Card(RankEnum.JACK, SuitEnum.HEARTS));
+        cards2.add(Card.of(RankEnum.ACE, SuitEnum.HEARTS));
+        cards2.add(Card.of(RankEnum.QUEEN, SuitEnum.HEARTS));
+        cards2.add(Card.of(RankEnum.NINE, SuitEnum.HEARTS));
+        cards2.add(Card.of(RankEnum.TEN, SuitEnum.CLUBS));
+        cards2.add(Card.of(RankEnum.SEVEN, SuitEnum.HEARTS));
+        cards2.add(Card.of(RankEnum.NINE, SuitEnum.CLUBS));
+        cards2.add(Card.of(RankEnum.JACK, SuitEnum.HEARTS));
         Hand hand2 = new Hand(cards2);
         hands.add(hand2);
 
         List<Card> cards3 = new ArrayList<>();
-        cards3.add(new Card(RankEnum.TEN, SuitEnum.HEARTS));
-        cards3.add(new Card(RankEnum.QUEEN, SuitEnum.HEARTS));
-        cards3.add(new Card(RankEnum.NINE, SuitEnum.HEARTS));
-        cards3.add(new Card(RankEnum.TEN, SuitEnum.CLUBS));
-        cards3.add(new Card(RankEnum.SEVEN, SuitEnum.HEARTS));
-        cards3.add(new Card(RankEnum.NINE, SuitEnum.CLUBS));
-        cards3.add(new Card(RankEnum.JACK, SuitEnum.HEARTS));
+        cards3.add(Card.of(RankEnum.TEN, SuitEnum.HEARTS));
+        cards3.add(Card.of(RankEnum.QUEEN, SuitEnum.HEARTS));
+        cards3.add(Card.of(RankEnum.NINE, SuitEnum.HEARTS));
+        cards3.add(Card.of(RankEnum.TEN, SuitEnum.CLUBS));
+        cards3.add(Card.of(RankEnum.SEVEN, SuitEnum.HEARTS));
+        cards3.add(Card.of(RankEnum.NINE, SuitEnum.CLUBS));
+        cards3.add(Card.of(RankEnum.JACK, SuitEnum.HEARTS));
         Hand hand3 = new Hand(cards3);
         hands.add(hand3);
 
 
         List<Card> cards4 = new ArrayList<>();
-        cards4.add(new Card(RankEnum.KING, SuitEnum.HEARTS));
-        cards4.add(new Card(RankEnum.TWO, SuitEnum.HEARTS));
-        cards4.add(new Card(RankEnum.THREE, SuitEnum.HEARTS));
-        cards4.add(new Card(RankEnum.TEN, SuitEnum.CLUBS));
-        cards4.add(new Card(RankEnum.FOUR, SuitEnum.HEARTS));
-        cards4.add(new Card(RankEnum.NINE, SuitEnum.CLUBS));
-        cards4.add(new Card(RankEnum.FIVE, SuitEnum.HEARTS));
+        cards4.add(Card.of(RankEnum.KING, SuitEnum.HEARTS));
+        cards4.add(Card.of(RankEnum.TWO, SuitEnum.HEARTS));
+        cards4.add(Card.of(RankEnum.THREE, SuitEnum.HEARTS));
+        cards4.add(Card.of(RankEnum.TEN, SuitEnum.CLUBS));
+        cards4.add(Card.of(RankEnum.FOUR, SuitEnum.HEARTS));
+        cards4.add(Card.of(RankEnum.NINE, SuitEnum.CLUBS));
+        cards4.add(Card.of(RankEnum.FIVE, SuitEnum.HEARTS));
         Hand hand4 = new Hand(cards4);
         hands.add(hand4);
 
@@ -81,47 +82,47 @@ public class PlayerHandComparatorTest extends TestCase {
         List<Hand> hands = new ArrayList<Hand>();
         List<Card> cards1 = new ArrayList<>();
 
-        cards1.add(new Card(RankEnum.ACE, SuitEnum.DIAMONDS));
-        cards1.add(new Card(RankEnum.TEN, SuitEnum.CLUBS));
-        cards1.add(new Card(RankEnum.NINE, SuitEnum.HEARTS));
-        cards1.add(new Card(RankEnum.QUEEN, SuitEnum.CLUBS));
-        cards1.add(new Card(RankEnum.KING, SuitEnum.HEARTS));
-        cards1.add(new Card(RankEnum.NINE, SuitEnum.CLUBS));
-        cards1.add(new Card(RankEnum.JACK, SuitEnum.SPADES));
+        cards1.add(Card.of(RankEnum.ACE, SuitEnum.DIAMONDS));
+        cards1.add(Card.of(RankEnum.TEN, SuitEnum.CLUBS));
+        cards1.add(Card.of(RankEnum.NINE, SuitEnum.HEARTS));
+        cards1.add(Card.of(RankEnum.QUEEN, SuitEnum.CLUBS));
+        cards1.add(Card.of(RankEnum.KING, SuitEnum.HEARTS));
+        cards1.add(Card.of(RankEnum.NINE, SuitEnum.CLUBS));
+        cards1.add(Card.of(RankEnum.JACK, SuitEnum.SPADES));
         Hand hand1 = new Hand(cards1);
         hands.add(hand1);
 
         List<Card> cards2 = new ArrayList<>();
-        cards2.add(new Card(RankEnum.ACE, SuitEnum.DIAMONDS));
-        cards2.add(new Card(RankEnum.TWO, SuitEnum.SPADES));
-        cards2.add(new Card(RankEnum.THREE, SuitEnum.HEARTS));
-        cards2.add(new Card(RankEnum.FOUR, SuitEnum.CLUBS));
-        cards2.add(new Card(RankEnum.FIVE, SuitEnum.HEARTS));
-        cards2.add(new Card(RankEnum.NINE, SuitEnum.CLUBS));
-        cards2.add(new Card(RankEnum.JACK, SuitEnum.HEARTS));
+        cards2.add(Card.of(RankEnum.ACE, SuitEnum.DIAMONDS));
+        cards2.add(Card.of(RankEnum.TWO, SuitEnum.SPADES));
+        cards2.add(Card.of(RankEnum.THREE, SuitEnum.HEARTS));
+        cards2.add(Card.of(RankEnum.FOUR, SuitEnum.CLUBS));
+        cards2.add(Card.of(RankEnum.FIVE, SuitEnum.HEARTS));
+        cards2.add(Card.of(RankEnum.NINE, SuitEnum.CLUBS));
+        cards2.add(Card.of(RankEnum.JACK, SuitEnum.HEARTS));
         Hand hand2 = new Hand(cards2);
         hands.add(hand2);
 
         List<Card> cards3 = new ArrayList<>();
-        cards3.add(new Card(RankEnum.EIGHT, SuitEnum.DIAMONDS));
-        cards3.add(new Card(RankEnum.QUEEN, SuitEnum.CLUBS));
-        cards3.add(new Card(RankEnum.NINE, SuitEnum.SPADES));
-        cards3.add(new Card(RankEnum.TEN, SuitEnum.CLUBS));
-        cards3.add(new Card(RankEnum.KING, SuitEnum.HEARTS));
-        cards3.add(new Card(RankEnum.NINE, SuitEnum.CLUBS));
-        cards3.add(new Card(RankEnum.JACK, SuitEnum.HEARTS));
+        cards3.add(Card.of(RankEnum.EIGHT, SuitEnum.DIAMONDS));
+        cards3.add(Card.of(RankEnum.QUEEN, SuitEnum.CLUBS));
+        cards3.add(Card.of(RankEnum.NINE, SuitEnum.SPADES));
+        cards3.add(Card.of(RankEnum.TEN, SuitEnum.CLUBS));
+        cards3.add(Card.of(RankEnum.KING, SuitEnum.HEARTS));
+        cards3.add(Card.of(RankEnum.NINE, SuitEnum.CLUBS));
+        cards3.add(Card.of(RankEnum.JACK, SuitEnum.HEARTS));
         Hand hand3 = new Hand(cards3);
         hands.add(hand3);
 
 
         List<Card> cards4 = new ArrayList<>();
-        cards4.add(new Card(RankEnum.EIGHT, SuitEnum.DIAMONDS));
-        cards4.add(new Card(RankEnum.TEN, SuitEnum.HEARTS));
-        cards4.add(new Card(RankEnum.JACK, SuitEnum.HEARTS));
-        cards4.add(new Card(RankEnum.TWO, SuitEnum.CLUBS));
-        cards4.add(new Card(RankEnum.QUEEN, SuitEnum.HEARTS));
-        cards4.add(new Card(RankEnum.NINE, SuitEnum.CLUBS));
-        cards4.add(new Card(RankEnum.FIVE, SuitEnum.SPADES));
+        cards4.add(Card.of(RankEnum.EIGHT, SuitEnum.DIAMONDS));
+        cards4.add(Card.of(RankEnum.TEN, SuitEnum.HEARTS));
+        cards4.add(Card.of(RankEnum.JACK, SuitEnum.HEARTS));
+        cards4.add(Card.of(RankEnum.TWO, SuitEnum.CLUBS));
+        cards4.add(Card.of(RankEnum.QUEEN, SuitEnum.HEARTS));
+        cards4.add(Card.of(RankEnum.NINE, SuitEnum.CLUBS));
+        cards4.add(Card.of(RankEnum.FIVE, SuitEnum.SPADES));
         Hand hand4 = new Hand(cards4);
         hands.add(hand4);
 
@@ -136,58 +137,58 @@ public class PlayerHandComparatorTest extends TestCase {
         List<Hand> hands = new ArrayList<Hand>();
         List<Card> cards1 = new ArrayList<>();
 
-        cards1.add(new Card(RankEnum.ACE, SuitEnum.DIAMONDS));
-        cards1.add(new Card(RankEnum.ACE, SuitEnum.CLUBS));
-        cards1.add(new Card(RankEnum.NINE, SuitEnum.HEARTS));
-        cards1.add(new Card(RankEnum.NINE, SuitEnum.CLUBS));
-        cards1.add(new Card(RankEnum.KING, SuitEnum.HEARTS));
-        cards1.add(new Card(RankEnum.NINE, SuitEnum.CLUBS));
-        cards1.add(new Card(RankEnum.JACK, SuitEnum.SPADES));
+        cards1.add(Card.of(RankEnum.ACE, SuitEnum.DIAMONDS));
+        cards1.add(Card.of(RankEnum.ACE, SuitEnum.CLUBS));
+        cards1.add(Card.of(RankEnum.NINE, SuitEnum.HEARTS));
+        cards1.add(Card.of(RankEnum.NINE, SuitEnum.CLUBS));
+        cards1.add(Card.of(RankEnum.KING, SuitEnum.HEARTS));
+        cards1.add(Card.of(RankEnum.NINE, SuitEnum.CLUBS));
+        cards1.add(Card.of(RankEnum.JACK, SuitEnum.SPADES));
         Hand hand1 = new Hand(cards1);
         hands.add(hand1);
 
         List<Card> cards2 = new ArrayList<>();
-        cards2.add(new Card(RankEnum.ACE, SuitEnum.DIAMONDS));
-        cards2.add(new Card(RankEnum.ACE, SuitEnum.SPADES));
-        cards2.add(new Card(RankEnum.NINE, SuitEnum.HEARTS));
-        cards2.add(new Card(RankEnum.FOUR, SuitEnum.CLUBS));
-        cards2.add(new Card(RankEnum.FIVE, SuitEnum.HEARTS));
-        cards2.add(new Card(RankEnum.NINE, SuitEnum.CLUBS));
-        cards2.add(new Card(RankEnum.JACK, SuitEnum.HEARTS));
+        cards2.add(Card.of(RankEnum.ACE, SuitEnum.DIAMONDS));
+        cards2.add(Card.of(RankEnum.ACE, SuitEnum.SPADES));
+        cards2.add(Card.of(RankEnum.NINE, SuitEnum.HEARTS));
+        cards2.add(Card.of(RankEnum.FOUR, SuitEnum.CLUBS));
+        cards2.add(Card.of(RankEnum.FIVE, SuitEnum.HEARTS));
+        cards2.add(Card.of(RankEnum.NINE, SuitEnum.CLUBS));
+        cards2.add(Card.of(RankEnum.JACK, SuitEnum.HEARTS));
         Hand hand2 = new Hand(cards2);
         hands.add(hand2);
 
         List<Card> cards3 = new ArrayList<>();
-        cards3.add(new Card(RankEnum.ACE, SuitEnum.DIAMONDS));
-        cards3.add(new Card(RankEnum.ACE, SuitEnum.CLUBS));
-        cards3.add(new Card(RankEnum.FOUR, SuitEnum.SPADES));
-        cards3.add(new Card(RankEnum.SEVEN, SuitEnum.CLUBS));
-        cards3.add(new Card(RankEnum.SEVEN, SuitEnum.HEARTS));
-        cards3.add(new Card(RankEnum.NINE, SuitEnum.CLUBS));
-        cards3.add(new Card(RankEnum.JACK, SuitEnum.HEARTS));
+        cards3.add(Card.of(RankEnum.ACE, SuitEnum.DIAMONDS));
+        cards3.add(Card.of(RankEnum.ACE, SuitEnum.CLUBS));
+        cards3.add(Card.of(RankEnum.FOUR, SuitEnum.SPADES));
+        cards3.add(Card.of(RankEnum.SEVEN, SuitEnum.CLUBS));
+        cards3.add(Card.of(RankEnum.SEVEN, SuitEnum.HEARTS));
+        cards3.add(Card.of(RankEnum.NINE, SuitEnum.CLUBS));
+        cards3.add(Card.of(RankEnum.JACK, SuitEnum.HEARTS));
         Hand hand3 = new Hand(cards3);
         hands.add(hand3);
 
 
         List<Card> cards4 = new ArrayList<>();
-        cards4.add(new Card(RankEnum.TEN, SuitEnum.DIAMONDS));
-        cards4.add(new Card(RankEnum.TEN, SuitEnum.HEARTS));
-        cards4.add(new Card(RankEnum.JACK, SuitEnum.HEARTS));
-        cards4.add(new Card(RankEnum.THREE, SuitEnum.CLUBS));
-        cards4.add(new Card(RankEnum.THREE, SuitEnum.HEARTS));
-        cards4.add(new Card(RankEnum.NINE, SuitEnum.CLUBS));
-        cards4.add(new Card(RankEnum.FIVE, SuitEnum.SPADES));
+        cards4.add(Card.of(RankEnum.TEN, SuitEnum.DIAMONDS));
+        cards4.add(Card.of(RankEnum.TEN, SuitEnum.HEARTS));
+        cards4.add(Card.of(RankEnum.JACK, SuitEnum.HEARTS));
+        cards4.add(Card.of(RankEnum.THREE, SuitEnum.CLUBS));
+        cards4.add(Card.of(RankEnum.THREE, SuitEnum.HEARTS));
+        cards4.add(Card.of(RankEnum.NINE, SuitEnum.CLUBS));
+        cards4.add(Card.of(RankEnum.FIVE, SuitEnum.SPADES));
         Hand hand4 = new Hand(cards4);
         hands.add(hand4);
 
         List<Card> cards5 = new ArrayList<>();
-        cards5.add(new Card(RankEnum.TEN, SuitEnum.DIAMONDS));
-        cards5.add(new Card(RankEnum.TEN, SuitEnum.HEARTS));
-        cards5.add(new Card(RankEnum.JACK, SuitEnum.HEARTS));
-        cards5.add(new Card(RankEnum.TWO, SuitEnum.CLUBS));
-        cards5.add(new Card(RankEnum.THREE, SuitEnum.HEARTS));
-        cards5.add(new Card(RankEnum.THREE, SuitEnum.CLUBS));
-        cards5.add(new Card(RankEnum.TWO, SuitEnum.SPADES));
+        cards5.add(Card.of(RankEnum.TEN, SuitEnum.DIAMONDS));
+        cards5.add(Card.of(RankEnum.TEN, SuitEnum.HEARTS));
+        cards5.add(Card.of(RankEnum.JACK, SuitEnum.HEARTS));
+        cards5.add(Card.of(RankEnum.TWO, SuitEnum.CLUBS));
+        cards5.add(Card.of(RankEnum.THREE, SuitEnum.HEARTS));
+        cards5.add(Card.of(RankEnum.THREE, SuitEnum.CLUBS));
+        cards5.add(Card.of(RankEnum.TWO, SuitEnum.SPADES));
         Hand hand5 = new Hand(cards5);
         hands.add(hand5);
 
@@ -202,6 +203,26 @@ public class PlayerHandComparatorTest extends TestCase {
 
     }
 
+    public void testSplitHandsHaveEqualRanks() {
+        List<Card> board = new ArrayList<>();
+        board.add(Card.of(RankEnum.ACE, SuitEnum.DIAMONDS));
+        board.add(Card.of(RankEnum.KING, SuitEnum.CLUBS));
+        board.add(Card.of(RankEnum.QUEEN, SuitEnum.HEARTS));
+        board.add(Card.of(RankEnum.JACK, SuitEnum.CLUBS));
+        board.add(Card.of(RankEnum.NINE, SuitEnum.SPADES));
+
+        Hand hand1 = new Hand(new Card[] {Card.of(RankEnum.TWO, SuitEnum.CLUBS),
+                Card.of(RankEnum.THREE, SuitEnum.HEARTS)}, board);
+        Hand hand2 = new Hand(new Card[] {Card.of(RankEnum.TWO, SuitEnum.SPADES),
+                Card.of(RankEnum.THREE, SuitEnum.DIAMONDS)}, board);
+        Assert.assertNull(hand1.getHandEvalResult());
+
+        Assert.assertEquals(hand1.evaluate(), hand2.evaluate());
+        Assert.assertEquals(0, hand1.compareTo(hand2));
+        Assert.assertEquals(HandResult.HIGH_CARD, hand1.getHandEvalResult().getResult());
+        Assert.assertEquals(0, hand1.getHandEvalResult().compareTo(hand2.getHandEvalResult()));
+    }
+
     private List<Hand> runThroughHands(List<Hand> hands) {
         for (Hand hand : hands) {
             hand.evaluate();
@@ -12,6 +12,7 @@ import junit.framework.TestCase;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -139,4 +140,57 @@ public class PotManagerTest extends TestCase {
         Assert.assertEquals(500*3, sidePot1.getTotalBet());
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSidePotOnLaterStreet() {
+        PotManager potManager = new PotManager(10, 20);
+        Deck deck = new Deck();
+        Player robot1 = new RobotPlayer(1000, "robot1");
+        Player robot2 = new RobotPlayer(1000, "robot2");
+        Player robot3 = new RobotPlayer(70, "robot3");
+        for (Player robot : new Player[] {robot1, robot2, robot3}) {
+            robot.setCard(deck.deal(), 0);
+            robot.setCard(deck.deal(), 1);
+            robot.processAction(new CallAction(20), potManager.getLastBet());
+            potManager.addCall(robot, 20);
+        }
+        potManager.closePotBetting();
+        for (Player robot : new Player[] {robot1, robot2, robot3}) {
+            robot.clearBet();
+        }
+
+        // On the flop robot3 is all in for 50 against a bet of 100. The chips from preflop stay in the main pot.
+        robot1.processAction(new RaiseAction(100), potManager.getLastBet());
+        potManager.addRaise(robot1, 100);
+        robot3.processAction(new CallAction(50), potManager.getLastBet());
+        potManager.addCall(robot3, 50);
+        robot2.processAction(new CallAction(100), potManager.getLastBet());
+        potManager.addCall(robot2, 100);
+        potManager.closePotBetting();
+
+        List<Pot> pots = potManager.getPots();
+        Assert.assertEquals(2, pots.size());
+        Assert.assertEquals(60 + 50*3, pots.get(0).getTotalBet());
+        Assert.assertEquals(50*2, pots.get(1).getTotalBet());
+        Assert.assertFalse(pots.get(1).hasSeat(potManager.seatOf(robot3)));
+        Assert.assertEquals(310, potManager.getTotalPot());
+    }
+
+    @Test
+    public void testUnknownPlayersAreNotSeated() {
+        List<Player> players = new ArrayList<Player>();
+        players.add(new RobotPlayer(1000, "robot1"));
+        players.add(new RobotPlayer(1000, "robot2"));
+        PotManager potManager = new PotManager(10, 20, players);
+        Assert.assertEquals(1, potManager.seatOf(players.get(1)));
+
+        try {
+            potManager.addCall(new RobotPlayer(1000, "stranger"), 20);
+            Assert.fail("We did not encounter the exception we were expecting.");
+        } catch (IllegalArgumentException ex) {
+            // good
+        }
+        Assert.assertEquals(2, players.size());
+        Assert.assertEquals(0, potManager.getTotalPot());
+    }
+}
@@ -2,7 +2,6 @@ package test.com.poker;
 
 import com.poker.actions.Action;
 import com.poker.player.Player;
-import com.poker.player.RobotPlayer;
 import com.poker.pots.Pot;
 import junit.framework.TestCase;
 import org.junit.Assert;
@@ -17,13 +16,15 @@ public class PotTest extends TestCase {
         Pot pot = new Pot("Main");
         Assert.assertEquals(0, pot.getCurrentBet());
         Assert.assertEquals(0, pot.getTotalBet());
-        Assert.assertTrue(pot.getPlayers().isEmpty());
+        Assert.assertEquals(0L, pot.getSeats());
 
         for (int i = 0; i < 5; i++) {
-            pot.addPlayer(new RobotPlayer(1000, "robot_" + i));
+            pot.addSeat(i);
         }
 
-        Assert.assertEquals(5, pot.getPlayers().size());
+        Assert.assertEquals(5, Long.bitCount(pot.getSeats()));
+        Assert.assertTrue(pot.hasSeat(4));
+        Assert.assertFalse(pot.hasSeat(5));
     }
 
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package test.com.poker;
 
+import com.poker.Card;
 import com.poker.Deck;
+import com.poker.RankEnum;
+import com.poker.SuitEnum;
 import com.poker.actions.Action;
 import com.poker.actions.CallAction;
 import com.poker.actions.RaiseAction;
@@ -13,6 +16,8 @@ import junit.framework.TestCase;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -106,4 +111,46 @@ public class PotWinnerTest extends TestCase {
         Assert.assertEquals(1000, player1.getNumChips());
     }
 
-}
\ No newline at end of file
+
+    @Test
+    public void testWinnersOfEachPot() {
+        // Seat 0 has aces but is all in for 100, seats 1 and 2 have the same queens and bet 300 each.
+        List<Player> players = new ArrayList<Player>();
+        players.add(robotWith(100, Card.of(RankEnum.ACE, SuitEnum.HEARTS), Card.of(RankEnum.ACE, SuitEnum.DIAMONDS)));
+        players.add(robotWith(1000, Card.of(RankEnum.QUEEN, SuitEnum.HEARTS),
+                Card.of(RankEnum.QUEEN, SuitEnum.DIAMONDS)));
+        players.add(robotWith(1000, Card.of(RankEnum.QUEEN, SuitEnum.CLUBS), Card.of(RankEnum.QUEEN, SuitEnum.SPADES)));
+        PotManager potManager = new PotManager(10, 20, players);
+
+        players.get(1).processAction(new RaiseAction(300), potManager.getLastBet());
+        potManager.addRaise(1, 300);
+        players.get(0).processAction(new CallAction(100), potManager.getLastBet());
+        potManager.addCall(0, 100);
+        players.get(2).processAction(new CallAction(300), potManager.getLastBet());
+        potManager.addCall(2, 300);
+        potManager.closePotBetting();
+
+        List<Card> board = Arrays.asList(Card.of(RankEnum.TWO, SuitEnum.HEARTS),
+                Card.of(RankEnum.SEVEN, SuitEnum.DIAMONDS), Card.of(RankEnum.NINE, SuitEnum.CLUBS), Card.of(RankEnum.JACK, SuitEnum.DIAMONDS),
+                Card.of(RankEnum.KING, SuitEnum.SPADES));
+        for (Player player : players) {
+            player.evaluateHand(board);
+        }
+
+        List<PotWinner> potWinners = potManager.calculateWinners(0b111L);
+        Assert.assertEquals(2, potWinners.size());
+        Assert.assertEquals(300, potWinners.get(0).getPot().getTotalBet());
+        Assert.assertEquals(Arrays.asList(players.get(0)), potWinners.get(0).getWinners());
+        Assert.assertEquals(0b001L, potWinners.get(0).getWinnerSeats());
+        Assert.assertEquals(400, potWinners.get(1).getPot().getTotalBet());
+        Assert.assertEquals(Arrays.asList(players.get(1), players.get(2)), potWinners.get(1).getWinners());
+        Assert.assertEquals(0b110L, potWinners.get(1).getWinnerSeats());
+    }
+
+    private static Player robotWith(int chips, Card card1, Card card2) {
+        Player robot = new RobotPlayer(chips, "robot");
+        robot.setCard(card1, 0);
+        robot.setCard(card2, 1);
+        return robot;
+    }
+}
@@ -0,0 +1,91 @@
+package test.com.poker;
+
+import com.poker.GameTable;
+import com.poker.tournament.TableResult;
+import com.poker.tournament.TournamentResult;
+import com.poker.tournament.TournamentRunner;
+import junit.framework.TestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TournamentRunnerTest extends TestCase {
+
+    @Test
+    public void testSameSeedGivesSameTables() {
+        // The tables come out the same no matter how many threads play them.
+        TournamentResult first = new TournamentRunner(1, 500, 10, 20, 1).run(50, 4, 7);
+        TournamentResult second = new TournamentRunner(4, 500, 10, 20, 1).run(50, 4, 7);
+
+        Assert.assertEquals(50, first.getNumTables());
+        Assert.assertEquals(first.getTotalHands(), second.getTotalHands());
+        for (int table = 0; table < first.getNumTables(); table++) {
+            TableResult a = first.getTable(table);
+            TableResult b = second.getTable(table);
+            Assert.assertEquals(a.getSeed(), b.getSeed());
+            Assert.assertEquals(a.getHandsPlayed(), b.getHandsPlayed());
+            for (int seat = 0; seat < 4; seat++) {
+                Assert.assertEquals(a.getPlace(seat), b.getPlace(seat));
+                Assert.assertEquals(a.getChips(a.getNumChipCounts() - 1, seat),
+                        b.getChips(b.getNumChipCounts() - 1, seat));
+            }
+        }
+    }
+
+    @Test
+    public void testPlacesAndChips() {
+        TournamentRunner runner = new TournamentRunner(2, 500, 10, 20, 1);
+        TournamentResult result = runner.run(100, 3, 11);
+
+        for (int table = 0; table < result.getNumTables(); table++) {
+            TableResult tableResult = result.getTable(table);
+            Assert.assertEquals(tableResult.getHandsPlayed() + 1, tableResult.getNumChipCounts());
+
+            // Exactly one winner, who ends up with every chip.
+            int winners = 0;
+            for (int seat = 0; seat < 3; seat++) {
+                Assert.assertEquals(500, tableResult.getChips(0, seat));
+                int place = tableResult.getPlace(seat);
+                Assert.assertTrue(place >= 1 && place <= 3);
+                if (place == 1) {
+                    winners++;
+                    Assert.assertEquals(1500, tableResult.getChips(tableResult.getNumChipCounts() - 1, seat));
+                }
+            }
+            Assert.assertEquals(1, winners);
+
+            // Replaying a table from its seed gives the same table.
+            if (table < 5) {
+                TableResult replay = runner.playTable(tableResult.getSeed(), 3);
+                Assert.assertEquals(tableResult.getHandsPlayed(), replay.getHandsPlayed());
+            }
+        }
+
+        long tablesWon = 0;
+        double chips = 0;
+        int lastHand = result.getNumChipCounts() - 1;
+        for (int seat = 0; seat < 3; seat++) {
+            tablesWon += result.getPlaceCount(seat, 1);
+            chips += result.getAverageChips(lastHand, seat);
+        }
+        Assert.assertEquals(100, tablesWon);
+        // Chips are never created or lost, only moved around.
+        Assert.assertEquals(1500, chips, 1e-6);
+        Assert.assertTrue(result.getHandsPerSecond() > 0);
+    }
+
+    @Test
+    public void testRejectsBadTables() {
+        try {
+            new TournamentRunner().run(10, 1, 0);
+            Assert.fail("We did not encounter the exception we were expecting.");
+        } catch (IllegalArgumentException ex) {
+            // good
+        }
+        try {
+            new TournamentRunner().run(1, GameTable.MAX_PLAYERS + 1, 0);
+            Assert.fail("We did not encounter the exception we were expecting.");
+        } catch (IllegalArgumentException ex) {
+            // good
+        }
+    }
+}